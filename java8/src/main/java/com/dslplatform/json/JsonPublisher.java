@@ -0,0 +1,305 @@
+package com.dslplatform.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Demand driven serialization into bounded chunks.
+ * Instead of writing into a blocking OutputStream, JSON is produced only when subscriber requests more chunks.
+ * <p>
+ * When publisher is created from an iterator or a stream,
+ * elements are pulled and encoded one by one, and encoding pauses when there is no outstanding demand.
+ * This way memory per in-flight response is bounded by the chunk size and the size of a single encoded element.
+ * When publisher is created from a single value, the whole value is encoded at once and then emitted in chunks.
+ * <p>
+ * Interfaces follow java.util.concurrent.Flow semantics (one subscriber, request/cancel, signals are not concurrent),
+ * so on Java 9+ publisher can be exposed as Flow.Publisher&lt;ByteBuffer&gt; with a simple adapter:
+ * <pre>
+ *     Flow.Publisher&lt;ByteBuffer&gt; flow = s -&gt; publisher.subscribe(new JsonPublisher.Subscriber() {
+ *         public void onSubscribe(JsonPublisher.Subscription sub) {
+ *             s.onSubscribe(new Flow.Subscription() {
+ *                 public void request(long n) { sub.request(n); }
+ *                 public void cancel() { sub.cancel(); }
+ *             });
+ *         }
+ *         public void onNext(ByteBuffer chunk) { s.onNext(chunk); }
+ *         public void onError(Throwable error) { s.onError(error); }
+ *         public void onComplete() { s.onComplete(); }
+ *     });
+ * </pre>
+ *
+ * @param <T> type of serialized elements
+ */
+public final class JsonPublisher<T> {
+
+	public interface Subscriber {
+		void onSubscribe(Subscription subscription);
+
+		void onNext(ByteBuffer chunk);
+
+		void onError(Throwable error);
+
+		void onComplete();
+	}
+
+	public interface Subscription {
+		void request(long n);
+
+		void cancel();
+	}
+
+	private final DslJson<?> json;
+	private final Iterator<? extends T> iterator;
+	@Nullable
+	private final JsonWriter.WriteObject<T> encoder;
+	@Nullable
+	private final AutoCloseable resource;
+	private final boolean isArray;
+	private final int chunkSize;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	private JsonPublisher(
+			final DslJson<?> json,
+			final Iterator<? extends T> iterator,
+			@Nullable final JsonWriter.WriteObject<T> encoder,
+			@Nullable final AutoCloseable resource,
+			final boolean isArray,
+			final int chunkSize) {
+		if (json == null) throw new IllegalArgumentException("json can't be null");
+		if (iterator == null) throw new IllegalArgumentException("iterator can't be null");
+		if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+		this.json = json;
+		this.iterator = iterator;
+		this.encoder = encoder;
+		this.resource = resource;
+		this.isArray = isArray;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Publish single value as JSON.
+	 * Value will be serialized through DslJson lookup of the writer for the value class.
+	 *
+	 * @param json      DslJson used for serialization
+	 * @param value     value to serialize
+	 * @param chunkSize maximum size of emitted chunks
+	 * @param <T>       value type
+	 * @return publisher with JSON of the value
+	 */
+	public static <T> JsonPublisher<T> fromValue(final DslJson<?> json, @Nullable final T value, final int chunkSize) {
+		return new JsonPublisher<>(json, Collections.singletonList(value).iterator(), null, null, false, chunkSize);
+	}
+
+	/**
+	 * Publish elements from iterator as JSON array.
+	 * Elements are pulled from the iterator only when there is demand for more chunks.
+	 *
+	 * @param json      DslJson used for serialization
+	 * @param iterator  source of elements
+	 * @param encoder   element writer. When null, writer will be resolved for each element class
+	 * @param chunkSize maximum size of emitted chunks
+	 * @param <T>       element type
+	 * @return publisher with JSON array of the elements
+	 */
+	public static <T> JsonPublisher<T> fromIterator(
+			final DslJson<?> json,
+			final Iterator<? extends T> iterator,
+			@Nullable final JsonWriter.WriteObject<T> encoder,
+			final int chunkSize) {
+		return new JsonPublisher<>(json, iterator, encoder, null, true, chunkSize);
+	}
+
+	/**
+	 * Publish elements from stream as JSON array.
+	 * Stream will be closed when publishing is done, cancelled or fails.
+	 *
+	 * @param json      DslJson used for serialization
+	 * @param stream    source of elements
+	 * @param encoder   element writer. When null, writer will be resolved for each element class
+	 * @param chunkSize maximum size of emitted chunks
+	 * @param <T>       element type
+	 * @return publisher with JSON array of the elements
+	 */
+	public static <T> JsonPublisher<T> fromStream(
+			final DslJson<?> json,
+			final Stream<? extends T> stream,
+			@Nullable final JsonWriter.WriteObject<T> encoder,
+			final int chunkSize) {
+		if (stream == null) throw new IllegalArgumentException("stream can't be null");
+		return new JsonPublisher<>(json, stream.iterator(), encoder, stream, true, chunkSize);
+	}
+
+	/**
+	 * Only a single subscription is supported.
+	 * Subsequent subscribers will be notified with an IllegalStateException.
+	 *
+	 * @param subscriber chunk receiver
+	 */
+	public void subscribe(final Subscriber subscriber) {
+		if (subscriber == null) throw new IllegalArgumentException("subscriber can't be null");
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("JsonPublisher supports only a single subscriber"));
+			return;
+		}
+		final ChunkSubscription subscription = new ChunkSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	private final class ChunkSubscription implements Subscription {
+		private final Subscriber subscriber;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private final JsonWriter writer;
+		private volatile boolean cancelled;
+		private boolean done;
+		private boolean started;
+		private boolean ended;
+		private boolean hasElements;
+		private int emitted;
+		@Nullable
+		private Throwable invalidRequest;
+
+		ChunkSubscription(final Subscriber subscriber) {
+			this.subscriber = subscriber;
+			this.writer = json.newWriter(chunkSize + 64);
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("Requested number of chunks must be positive. Found: " + n);
+			} else {
+				long current, next;
+				do {
+					current = demand.get();
+					if (current == Long.MAX_VALUE) break;
+					next = current + n;
+					if (next < 0) next = Long.MAX_VALUE;
+				} while (!demand.compareAndSet(current, next));
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) return;
+			int missed = 1;
+			do {
+				if (!done) {
+					if (cancelled) {
+						finish();
+					} else if (invalidRequest != null) {
+						finish();
+						subscriber.onError(invalidRequest);
+					} else {
+						emit();
+					}
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			while (!cancelled && invalidRequest == null && demand.get() > 0) {
+				final ByteBuffer chunk;
+				try {
+					chunk = nextChunk();
+				} catch (Throwable ex) {
+					finish();
+					subscriber.onError(ex);
+					return;
+				}
+				if (chunk == null) {
+					finish();
+					subscriber.onComplete();
+					return;
+				}
+				if (demand.get() != Long.MAX_VALUE) {
+					demand.decrementAndGet();
+				}
+				subscriber.onNext(chunk);
+			}
+		}
+
+		@Nullable
+		private ByteBuffer nextChunk() throws IOException {
+			if (emitted == writer.size()) {
+				writer.reset();
+				emitted = 0;
+			}
+			while (!ended && writer.size() - emitted < chunkSize) {
+				if (emitted != 0) {
+					final byte[] pending = Arrays.copyOfRange(writer.getByteBuffer(), emitted, writer.size());
+					writer.reset();
+					writer.writeRaw(pending, 0, pending.length);
+					emitted = 0;
+				}
+				writeNext();
+			}
+			final int length = Math.min(chunkSize, writer.size() - emitted);
+			if (length == 0) return null;
+			final byte[] chunk = Arrays.copyOfRange(writer.getByteBuffer(), emitted, emitted + length);
+			emitted += length;
+			return ByteBuffer.wrap(chunk);
+		}
+
+		private void writeNext() throws IOException {
+			if (!started) {
+				started = true;
+				if (isArray) {
+					writer.writeByte(JsonWriter.ARRAY_START);
+				}
+			}
+			if (!iterator.hasNext()) {
+				ended = true;
+				if (isArray) {
+					writer.writeByte(JsonWriter.ARRAY_END);
+				}
+				return;
+			}
+			final T item = iterator.next();
+			if (isArray && hasElements) {
+				writer.writeByte(JsonWriter.COMMA);
+			}
+			hasElements = true;
+			if (item == null) {
+				writer.writeNull();
+			} else if (encoder != null) {
+				encoder.write(writer, item);
+			} else {
+				json.serialize(writer, item);
+			}
+		}
+
+		private void finish() {
+			done = true;
+			if (resource != null) {
+				try {
+					resource.close();
+				} catch (Exception ignore) {
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package com.dslplatform.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reformatting of already serialized JSON without parsing it into objects.
+ * Transcoder can either remove all insignificant whitespace (minify)
+ * or write JSON with new lines and indentation (same output as PrettifyOutputStream).
+ * <p>
+ * It uses the same state machine as PrettifyOutputStream, but instead of dispatching on each byte
+ * it scans for the next byte of interest and copies string contents and values (numbers, literals) in bulk.
+ * Output is buffered, so target stream receives only large writes.
+ * <p>
+ * Input is not validated. Invalid JSON will result in invalid output.
+ * Transcoder instance is immutable and safe to share across threads.
+ */
+public final class JsonTranscoder {
+
+	private static final byte VALUE = 0;
+	private static final byte WHITESPACE = 1;
+	private static final byte QUOTE = 2;
+	private static final byte START = 3;
+	private static final byte END = 4;
+	private static final byte COMMA = 5;
+	private static final byte SEMI = 6;
+
+	private static final byte[] CLASSES = new byte[256];
+	private static final boolean[] STRING_STOP = new boolean[256];
+
+	static {
+		CLASSES['\t'] = WHITESPACE;
+		CLASSES['\n'] = WHITESPACE;
+		CLASSES['\r'] = WHITESPACE;
+		CLASSES[' '] = WHITESPACE;
+		CLASSES['"'] = QUOTE;
+		CLASSES['{'] = START;
+		CLASSES['['] = START;
+		CLASSES['}'] = END;
+		CLASSES[']'] = END;
+		CLASSES[','] = COMMA;
+		CLASSES[':'] = SEMI;
+		STRING_STOP['"'] = true;
+		STRING_STOP['\\'] = true;
+	}
+
+	private static final JsonTranscoder MINIFIER = new JsonTranscoder((byte) 0, 0, 8192);
+
+	private final byte indentByte;
+	private final int indentLength;
+	private final int bufferSize;
+
+	private JsonTranscoder(final byte indentByte, final int indentLength, final int bufferSize) {
+		this.indentByte = indentByte;
+		this.indentLength = indentLength;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Transcoder which removes all whitespace outside of strings.
+	 *
+	 * @return minifying transcoder
+	 */
+	public static JsonTranscoder minifier() {
+		return MINIFIER;
+	}
+
+	/**
+	 * Transcoder which indents JSON with two spaces.
+	 *
+	 * @return indenting transcoder
+	 */
+	public static JsonTranscoder prettifier() {
+		return prettifier(PrettifyOutputStream.IndentType.SPACES, 2);
+	}
+
+	/**
+	 * Transcoder which indents JSON in the same way as PrettifyOutputStream.
+	 *
+	 * @param indentType   spaces or tabs
+	 * @param indentLength number of indentation characters for each nesting level
+	 * @return indenting transcoder
+	 */
+	public static JsonTranscoder prettifier(final PrettifyOutputStream.IndentType indentType, final int indentLength) {
+		if (indentType == null) throw new IllegalArgumentException("indentType can't be null");
+		if (indentLength < 1) throw new IllegalArgumentException("indentLength must be positive");
+		return new JsonTranscoder(indentType == PrettifyOutputStream.IndentType.TABS ? (byte) '\t' : (byte) ' ', indentLength, 8192);
+	}
+
+	/**
+	 * Transcode JSON from byte array into target stream.
+	 *
+	 * @param input  JSON
+	 * @param output target stream
+	 * @throws IOException unable to write to output
+	 */
+	public void transcode(final byte[] input, final OutputStream output) throws IOException {
+		if (input == null) throw new IllegalArgumentException("input can't be null");
+		transcode(input, 0, input.length, output);
+	}
+
+	/**
+	 * Transcode JSON from part of byte array into target stream.
+	 *
+	 * @param input  JSON
+	 * @param offset start of JSON in input
+	 * @param length JSON length
+	 * @param output target stream
+	 * @throws IOException unable to write to output
+	 */
+	public void transcode(final byte[] input, final int offset, final int length, final OutputStream output) throws IOException {
+		if (input == null) throw new IllegalArgumentException("input can't be null");
+		if (output == null) throw new IllegalArgumentException("output can't be null");
+		if (offset < 0 || length < 0 || offset + length > input.length) {
+			throw new IllegalArgumentException("Invalid offset/length provided for input");
+		}
+		final State state = new State(output);
+		state.process(input, offset, offset + length);
+		state.flush();
+	}
+
+	/**
+	 * Transcode JSON from remaining content of byte buffer into target stream.
+	 * Buffer position will be moved to its limit.
+	 *
+	 * @param input  JSON
+	 * @param output target stream
+	 * @throws IOException unable to write to output
+	 */
+	public void transcode(final ByteBuffer input, final OutputStream output) throws IOException {
+		if (input == null) throw new IllegalArgumentException("input can't be null");
+		if (output == null) throw new IllegalArgumentException("output can't be null");
+		final State state = new State(output);
+		if (input.hasArray()) {
+			final int start = input.arrayOffset() + input.position();
+			state.process(input.array(), start, start + input.remaining());
+			input.position(input.limit());
+		} else {
+			final byte[] chunk = new byte[Math.min(bufferSize, input.remaining())];
+			while (input.hasRemaining()) {
+				final int length = Math.min(chunk.length, input.remaining());
+				input.get(chunk, 0, length);
+				state.process(chunk, 0, length);
+			}
+		}
+		state.flush();
+	}
+
+	/**
+	 * Transcode JSON from input stream into target stream.
+	 * Input is processed in chunks, so memory usage does not depend on the JSON size.
+	 * Input stream is not closed.
+	 *
+	 * @param input  JSON
+	 * @param output target stream
+	 * @throws IOException unable to read from input or write to output
+	 */
+	public void transcode(final InputStream input, final OutputStream output) throws IOException {
+		if (input == null) throw new IllegalArgumentException("input can't be null");
+		if (output == null) throw new IllegalArgumentException("output can't be null");
+		final State state = new State(output);
+		final byte[] chunk = new byte[bufferSize];
+		int read;
+		while ((read = input.read(chunk)) != -1) {
+			state.process(chunk, 0, read);
+		}
+		state.flush();
+	}
+
+	/**
+	 * Transcode JSON into a new byte array.
+	 *
+	 * @param input JSON
+	 * @return transcoded JSON
+	 */
+	public byte[] transcode(final byte[] input) {
+		if (input == null) throw new IllegalArgumentException("input can't be null");
+		final ByteArrayOutputStream os = new ByteArrayOutputStream(input.length);
+		try {
+			transcode(input, os);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		return os.toByteArray();
+	}
+
+	private final class State {
+		private final OutputStream out;
+		private final byte[] buffer = new byte[bufferSize];
+		private int position;
+		private int currentIndent;
+		private boolean inString;
+		private boolean inEscape;
+		private boolean beginObjectOrList;
+
+		State(final OutputStream out) {
+			this.out = out;
+		}
+
+		void process(final byte[] bytes, final int offset, final int end) throws IOException {
+			final byte[] classes = CLASSES;
+			final boolean[] stringStop = STRING_STOP;
+			final boolean pretty = indentLength != 0;
+			int i = offset;
+			while (i < end) {
+				if (inString) {
+					if (inEscape) {
+						inEscape = false;
+						write(bytes[i++]);
+						continue;
+					}
+					final int start = i;
+					while (i < end && !stringStop[bytes[i] & 0xFF]) {
+						i++;
+					}
+					if (i == end) {
+						write(bytes, start, i - start);
+						return;
+					}
+					if (bytes[i] == '"') {
+						inString = false;
+					} else {
+						inEscape = true;
+					}
+					i++;
+					write(bytes, start, i - start);
+					continue;
+				}
+				final byte b = bytes[i];
+				switch (classes[b & 0xFF]) {
+					case WHITESPACE:
+						i++;
+						break;
+					case QUOTE:
+						if (beginObjectOrList) {
+							newLine();
+							beginObjectOrList = false;
+						}
+						inString = true;
+						write(b);
+						i++;
+						break;
+					case START:
+						if (beginObjectOrList) {
+							newLine();
+						}
+						beginObjectOrList = true;
+						currentIndent += indentLength;
+						write(b);
+						i++;
+						break;
+					case END:
+						currentIndent -= indentLength;
+						if (beginObjectOrList) {
+							beginObjectOrList = false;
+						} else {
+							newLine();
+						}
+						write(b);
+						i++;
+						break;
+					case COMMA:
+						write(b);
+						newLine();
+						i++;
+						break;
+					case SEMI:
+						write(b);
+						if (pretty) write((byte) ' ');
+						i++;
+						break;
+					default:
+						if (beginObjectOrList) {
+							newLine();
+							beginObjectOrList = false;
+						}
+						final int start = i;
+						i++;
+						while (i < end && classes[bytes[i] & 0xFF] == VALUE) {
+							i++;
+						}
+						write(bytes, start, i - start);
+				}
+			}
+		}
+
+		private void newLine() throws IOException {
+			if (indentLength == 0) return;
+			int remaining = currentIndent + 1;
+			if (position + remaining > buffer.length) {
+				flush();
+			}
+			buffer[position++] = '\n';
+			remaining--;
+			while (remaining > 0) {
+				if (position == buffer.length) {
+					flush();
+				}
+				final int length = Math.min(remaining, buffer.length - position);
+				for (int i = 0; i < length; i++) {
+					buffer[position + i] = indentByte;
+				}
+				position += length;
+				remaining -= length;
+			}
+		}
+
+		private void write(final byte b) throws IOException {
+			if (position == buffer.length) {
+				flush();
+			}
+			buffer[position++] = b;
+		}
+
+		private void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			if (position + length > buffer.length) {
+				flush();
+				if (length >= buffer.length) {
+					out.write(bytes, offset, length);
+					return;
+				}
+			}
+			System.arraycopy(bytes, offset, buffer, position, length);
+			position += length;
+		}
+
+		void flush() throws IOException {
+			if (position != 0) {
+				out.write(buffer, 0, position);
+				position = 0;
+			}
+		}
+	}
+}
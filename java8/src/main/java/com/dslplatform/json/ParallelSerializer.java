@@ -0,0 +1,225 @@
+package com.dslplatform.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Serialization of large lists on multiple threads.
+ * List is split into ranges which are encoded on ForkJoinPool workers,
+ * with writers taken from the DslJson writer pool.
+ * Encoded ranges are then concatenated in the original order, so the result is the same as with sequential serialization.
+ * <p>
+ * Pretty printed output is always serialized on the calling thread,
+ * since separately encoded ranges can't be indented for their position in the output.
+ * <p>
+ * Only a limited number of ranges is processed ahead of the one being written,
+ * so memory usage does not depend on the size of the list.
+ * Small lists are serialized directly on the calling thread.
+ * <p>
+ * List must not be modified during serialization and encoder must be safe to use from multiple threads
+ * (which is the case for all converters registered in DslJson).
+ */
+public final class ParallelSerializer {
+
+	private final DslJson<?> json;
+	private final ForkJoinPool pool;
+	private final int rangeSize;
+	private final int maxPendingRanges;
+
+	/**
+	 * Parallel serializer which uses common ForkJoinPool and ranges of 1024 elements.
+	 *
+	 * @param json DslJson used for writer creation and lookup of unknown types
+	 */
+	public ParallelSerializer(final DslJson<?> json) {
+		this(json, ForkJoinPool.commonPool(), 1024);
+	}
+
+	/**
+	 * Parallel serializer with custom pool and range size.
+	 *
+	 * @param json      DslJson used for writer creation and lookup of unknown types
+	 * @param pool      where ranges will be encoded
+	 * @param rangeSize number of elements encoded in a single task
+	 */
+	public ParallelSerializer(final DslJson<?> json, final ForkJoinPool pool, final int rangeSize) {
+		if (json == null) throw new IllegalArgumentException("json can't be null");
+		if (pool == null) throw new IllegalArgumentException("pool can't be null");
+		if (rangeSize < 1) throw new IllegalArgumentException("rangeSize must be positive");
+		this.json = json;
+		this.pool = pool;
+		this.rangeSize = rangeSize;
+		this.maxPendingRanges = Math.max(2, pool.getParallelism() * 2);
+	}
+
+	/**
+	 * Serialize list as JSON array into target stream.
+	 * Encoded ranges are written to the stream in order as soon as they are available.
+	 *
+	 * @param list    elements to serialize
+	 * @param encoder element writer. When null, writer will be resolved for each element class
+	 * @param stream  target stream
+	 * @param <T>     element type
+	 * @throws IOException unable to write to stream
+	 */
+	public <T> void serialize(
+			@Nullable final List<T> list,
+			@Nullable final JsonWriter.WriteObject<T> encoder,
+			final OutputStream stream) throws IOException {
+		if (stream == null) throw new IllegalArgumentException("stream can't be null");
+		final JsonWriter writer = json.acquireWriter();
+		try {
+			if (list == null || list.size() <= rangeSize || writer.isPretty()) {
+				writer.reset(stream);
+				writeList(writer, list, encoder);
+				writer.flush();
+				return;
+			}
+		} finally {
+			json.releaseWriter(writer);
+		}
+		stream.write(JsonWriter.ARRAY_START);
+		process(list, encoder, new ChunkTarget() {
+			@Override
+			public void write(final byte[] chunk, final boolean first) throws IOException {
+				if (!first) stream.write(JsonWriter.COMMA);
+				stream.write(chunk);
+			}
+		});
+		stream.write(JsonWriter.ARRAY_END);
+	}
+
+	/**
+	 * Serialize list as JSON array into provided writer.
+	 * Encoded ranges are merged into writer buffer (or flushed to its stream when it targets one).
+	 *
+	 * @param writer  target writer
+	 * @param list    elements to serialize
+	 * @param encoder element writer. When null, writer will be resolved for each element class
+	 * @param <T>     element type
+	 */
+	public <T> void serialize(
+			final JsonWriter writer,
+			@Nullable final List<T> list,
+			@Nullable final JsonWriter.WriteObject<T> encoder) {
+		if (writer == null) throw new IllegalArgumentException("writer can't be null");
+		if (list == null || list.size() <= rangeSize || writer.isPretty() || pooledWritersArePretty()) {
+			writeList(writer, list, encoder);
+			return;
+		}
+		writer.writeByte(JsonWriter.ARRAY_START);
+		try {
+			process(list, encoder, new ChunkTarget() {
+				@Override
+				public void write(final byte[] chunk, final boolean first) {
+					if (!first) writer.writeByte(JsonWriter.COMMA);
+					writer.writeRaw(chunk, 0, chunk.length);
+				}
+			});
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		writer.writeByte(JsonWriter.ARRAY_END);
+	}
+
+	private boolean pooledWritersArePretty() {
+		final JsonWriter writer = json.acquireWriter();
+		try {
+			return writer.isPretty();
+		} finally {
+			json.releaseWriter(writer);
+		}
+	}
+
+	private interface ChunkTarget {
+		void write(byte[] chunk, boolean first) throws IOException;
+	}
+
+	private <T> void process(
+			final List<T> source,
+			@Nullable final JsonWriter.WriteObject<T> encoder,
+			final ChunkTarget target) throws IOException {
+		final List<T> list = source instanceof RandomAccess ? source : new ArrayList<>(source);
+		final int size = list.size();
+		final ArrayDeque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>(maxPendingRanges);
+		int next = 0;
+		boolean first = true;
+		try {
+			while (next < size && pending.size() < maxPendingRanges) {
+				pending.add(submit(list, next, Math.min(size, next + rangeSize), encoder));
+				next += rangeSize;
+			}
+			while (!pending.isEmpty()) {
+				final byte[] chunk = pending.poll().join();
+				if (next < size) {
+					pending.add(submit(list, next, Math.min(size, next + rangeSize), encoder));
+					next += rangeSize;
+				}
+				target.write(chunk, first);
+				first = false;
+			}
+		} finally {
+			for (ForkJoinTask<byte[]> task : pending) {
+				task.cancel(false);
+			}
+		}
+	}
+
+	private <T> ForkJoinTask<byte[]> submit(
+			final List<T> list,
+			final int start,
+			final int end,
+			@Nullable final JsonWriter.WriteObject<T> encoder) {
+		return pool.submit(() -> {
+			final JsonWriter writer = json.acquireWriter();
+			try {
+				writeRange(writer, list, start, end, encoder);
+				return writer.toByteArray();
+			} finally {
+				json.releaseWriter(writer);
+			}
+		});
+	}
+
+	private <T> void writeList(
+			final JsonWriter writer,
+			@Nullable final List<T> list,
+			@Nullable final JsonWriter.WriteObject<T> encoder) {
+		if (list == null) {
+			writer.writeNull();
+			return;
+		}
+		writer.writeByte(JsonWriter.ARRAY_START);
+		writeRange(writer, list, 0, list.size(), encoder);
+		writer.writeByte(JsonWriter.ARRAY_END);
+	}
+
+	private <T> void writeRange(
+			final JsonWriter writer,
+			final List<T> list,
+			final int start,
+			final int end,
+			@Nullable final JsonWriter.WriteObject<T> encoder) {
+		for (int i = start; i < end; i++) {
+			if (i != start) writer.writeByte(JsonWriter.COMMA);
+			final T item = list.get(i);
+			if (item == null) {
+				writer.writeNull();
+			} else if (encoder != null) {
+				encoder.write(writer, item);
+			} else {
+				try {
+					json.serialize(writer, item);
+				} catch (IOException ex) {
+					throw new SerializationException(ex);
+				}
+			}
+		}
+	}
+}
@@ -44,11 +44,9 @@ public class DslJsonbProvider extends JsonbProvider {
 	private static class DslJsonb implements Jsonb {
 
 		private final DslJson<Object> dslJson;
-		private final ThreadLocal<JsonWriter> localWriter;
 
 		DslJsonb(DslJson.Settings settings) {
 			dslJson = new DslJson<>(settings);
-			localWriter = ThreadLocal.withInitial(dslJson::newWriter);
 		}
 
 		@Override
@@ -97,21 +95,23 @@ public class DslJsonbProvider extends JsonbProvider {
 
 		@Override
 		public String toJson(Object obj) throws JsonbException {
+			JsonWriter writer = dslJson.acquireWriter();
 			try {
-				JsonWriter writer = localWriter.get();
 				writer.reset();
 				dslJson.serialize(writer, obj);
 				return new String(writer.getByteBuffer(), 0, writer.size(), "UTF-8");
 			} catch (IOException | SerializationException ex) {
 				throw new JsonbException(ex.getMessage(), ex.getCause());
+			} finally {
+				dslJson.releaseWriter(writer);
 			}
 		}
 
 		@Override
 		public String toJson(Object obj, Type type) throws JsonbException {
 			if (type == null) throw new JsonbException("type can't be null");
+			JsonWriter writer = dslJson.acquireWriter();
 			try {
-				JsonWriter writer = localWriter.get();
 				writer.reset();
 				if (!dslJson.serialize(writer, type, obj)) {
 					throw new JsonbException("Unable to serialize provided " + type);
@@ -119,20 +119,24 @@ public class DslJsonbProvider extends JsonbProvider {
 				return new String(writer.getByteBuffer(), 0, writer.size(), "UTF-8");
 			} catch (IOException | SerializationException ex) {
 				throw new JsonbException(ex.getMessage(), ex.getCause());
+			} finally {
+				dslJson.releaseWriter(writer);
 			}
 		}
 
 		@Override
 		public void toJson(Object obj, Writer writer) throws JsonbException {
 			if (writer == null) throw new JsonbException("writer can't be null");
+			JsonWriter jw = dslJson.acquireWriter();
 			try {
-				JsonWriter jw = localWriter.get();
 				jw.reset();
 				dslJson.serialize(jw, obj);
 				//TODO: not ideal... but lets use it instead of throwing an exception
 				writer.write(new String(jw.getByteBuffer(), 0, jw.size(), "UTF-8"));
 			} catch (IOException | SerializationException ex) {
 				throw new JsonbException(ex.getMessage(), ex.getCause());
+			} finally {
+				dslJson.releaseWriter(jw);
 			}
 		}
 
@@ -140,8 +144,8 @@ public class DslJsonbProvider extends JsonbProvider {
 		public void toJson(Object obj, Type type, Writer writer) throws JsonbException {
 			if (type == null) throw new JsonbException("type can't be null");
 			if (writer == null) throw new JsonbException("writer can't be null");
+			JsonWriter jw = dslJson.acquireWriter();
 			try {
-				JsonWriter jw = localWriter.get();
 				jw.reset();
 				if (!dslJson.serialize(jw, type, obj)) {
 					throw new JsonbException("Unable to serialize provided " + type);
@@ -149,6 +153,8 @@ public class DslJsonbProvider extends JsonbProvider {
 				writer.write(new String(jw.getByteBuffer(), 0, jw.size(), "UTF-8"));
 			} catch (IOException | SerializationException ex) {
 				throw new JsonbException(ex.getMessage(), ex.getCause());
+			} finally {
+				dslJson.releaseWriter(jw);
 			}
 		}
 
@@ -166,7 +172,7 @@ public class DslJsonbProvider extends JsonbProvider {
 		public void toJson(Object obj, Type type, OutputStream stream) throws JsonbException {
 			if (type == null) throw new JsonbException("type can't be null");
 			if (stream == null) throw new JsonbException("stream can't be null");
-			JsonWriter jw = localWriter.get();
+			JsonWriter jw = dslJson.acquireWriter();
 			try {
 				jw.reset(stream);
 				if (!dslJson.serialize(jw, type, obj)) {
@@ -176,7 +182,7 @@ public class DslJsonbProvider extends JsonbProvider {
 			} catch (SerializationException ex) {
 				throw new JsonbException(ex.getMessage(), ex.getCause());
 			} finally {
-				jw.reset(null);
+				dslJson.releaseWriter(jw);
 			}
 		}
 
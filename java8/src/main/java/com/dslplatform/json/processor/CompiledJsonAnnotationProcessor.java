@@ -40,6 +40,7 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 	private static final Set<String> Creators;
 	private static final Map<String, String> Indexes;
 	private static final Map<String, OptimizedConverter> InlinedConverters;
+	private static final Map<String, OptimizedConverter> PrimitiveCollections;
 	private static final Map<String, String> Defaults;
 
 	private static final String CONFIG = "META-INF/services/com.dslplatform.json.Configuration";
@@ -53,7 +54,8 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 		UNKNOWN("dsljson.unknown"),
 		JACKSON("dsljson.jackson"),
 		JSONB("dsljson.jsonb"),
-		CONFIGURATION("dsljson.configuration");
+		CONFIGURATION("dsljson.configuration"),
+		PRIMITIVE_COLLECTIONS("dsljson.primitivecollections");
 
 		final String value;
 
@@ -99,15 +101,18 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 		InlinedConverters.put("int", new OptimizedConverter("com.dslplatform.json.NumberConverter", "INT_WRITER", "serialize", "INT_READER", "deserializeInt", "0"));
 		InlinedConverters.put("int[]", new OptimizedConverter("com.dslplatform.json.NumberConverter", "INT_ARRAY_WRITER", "serialize", "INT_ARRAY_READER", null, "com.dslplatform.json.NumberConverter.INT_EMPTY_ARRAY"));
 		InlinedConverters.put("java.lang.Integer", new OptimizedConverter("com.dslplatform.json.NumberConverter", "INT_WRITER", "serialize", "NULLABLE_INT_READER", "deserializeInt", "com.dslplatform.json.NumberConverter.INT_ZERO"));
+		InlinedConverters.put("com.dslplatform.json.IntList", new OptimizedConverter("com.dslplatform.json.NumberConverter", "INT_LIST_WRITER", "serialize", "INT_LIST_READER", null, null));
 		InlinedConverters.put("long", new OptimizedConverter("com.dslplatform.json.NumberConverter", "LONG_WRITER", "serialize", "LONG_READER", "deserializeLong", "0L"));
 		InlinedConverters.put("long[]", new OptimizedConverter("com.dslplatform.json.NumberConverter", "LONG_ARRAY_WRITER", "serialize", "LONG_ARRAY_READER", null, "com.dslplatform.json.NumberConverter.LONG_EMPTY_ARRAY"));
 		InlinedConverters.put("java.lang.Long", new OptimizedConverter("com.dslplatform.json.NumberConverter", "LONG_WRITER", "serialize", "NULLABLE_LONG_READER", "deserializeLong", "com.dslplatform.json.NumberConverter.LONG_ZERO"));
+		InlinedConverters.put("com.dslplatform.json.LongList", new OptimizedConverter("com.dslplatform.json.NumberConverter", "LONG_LIST_WRITER", "serialize", "LONG_LIST_READER", null, null));
 		InlinedConverters.put("float", new OptimizedConverter("com.dslplatform.json.NumberConverter", "FLOAT_WRITER", "serialize", "FLOAT_READER", "deserializeFloat", "0f"));
 		InlinedConverters.put("float[]", new OptimizedConverter("com.dslplatform.json.NumberConverter", "FLOAT_ARRAY_WRITER", "serialize", "FLOAT_ARRAY_READER", null, "com.dslplatform.json.NumberConverter.FLOAT_EMPTY_ARRAY"));
 		InlinedConverters.put("java.lang.Float", new OptimizedConverter("com.dslplatform.json.NumberConverter", "FLOAT_WRITER", "serialize", "NULLABLE_FLOAT_READER", "deserializeFloat", "com.dslplatform.json.NumberConverter.FLOAT_ZERO"));
 		InlinedConverters.put("double", new OptimizedConverter("com.dslplatform.json.NumberConverter", "DOUBLE_WRITER", "serialize", "DOUBLE_READER", "deserializeDouble", "0.0"));
 		InlinedConverters.put("double[]", new OptimizedConverter("com.dslplatform.json.NumberConverter", "DOUBLE_ARRAY_WRITER", "serialize", "DOUBLE_ARRAY_READER", null, "com.dslplatform.json.NumberConverter.DOUBLE_EMPTY_ARRAY"));
 		InlinedConverters.put("java.lang.Double", new OptimizedConverter("com.dslplatform.json.NumberConverter", "DOUBLE_WRITER", "serialize", "NULLABLE_DOUBLE_READER", "deserializeDouble", "com.dslplatform.json.NumberConverter.DOUBLE_ZERO"));
+		InlinedConverters.put("com.dslplatform.json.DoubleList", new OptimizedConverter("com.dslplatform.json.NumberConverter", "DOUBLE_LIST_WRITER", "serialize", "DOUBLE_LIST_READER", null, null));
 		InlinedConverters.put("boolean", new OptimizedConverter("com.dslplatform.json.BoolConverter", "WRITER", "serialize", "READER", "deserialize", "false"));
 		InlinedConverters.put("boolean[]", new OptimizedConverter("com.dslplatform.json.BoolConverter", "ARRAY_WRITER", "serialize", "ARRAY_READER", null, "com.dslplatform.json.BoolConverter.EMPTY_ARRAY"));
 		InlinedConverters.put("java.lang.Boolean", new OptimizedConverter("com.dslplatform.json.BoolConverter", "WRITER", "serialize", "NULLABLE_READER", "deserialize", "Boolean.FALSE"));
@@ -115,6 +120,11 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 		InlinedConverters.put("java.util.UUID", new OptimizedConverter("com.dslplatform.json.UUIDConverter", "WRITER", "serialize", "READER", "deserialize", "com.dslplatform.json.UUIDConverter.MIN_UUID"));
 		InlinedConverters.put("java.time.LocalDate", new OptimizedConverter("com.dslplatform.json.JavaTimeConverter", "LOCAL_DATE_WRITER", "serialize", "LOCAL_DATE_READER", "deserializeLocalDate", null));
 		InlinedConverters.put("java.time.OffsetDateTime", new OptimizedConverter("com.dslplatform.json.JavaTimeConverter", "DATE_TIME_WRITER", "serialize", "DATE_TIME_READER", "deserializeDateTime", null));
+		InlinedConverters.put("com.dslplatform.json.RawJson", new OptimizedConverter("com.dslplatform.json.RawJsonConverter", "WRITER", "serialize", "READER", "deserialize", null));
+		PrimitiveCollections = new HashMap<>(InlinedConverters);
+		PrimitiveCollections.put("java.util.List<java.lang.Integer>", new OptimizedConverter("com.dslplatform.json.NumberConverter", "GENERIC_INT_LIST_WRITER", null, "GENERIC_INT_LIST_READER", null, null));
+		PrimitiveCollections.put("java.util.List<java.lang.Long>", new OptimizedConverter("com.dslplatform.json.NumberConverter", "GENERIC_LONG_LIST_WRITER", null, "GENERIC_LONG_LIST_READER", null, null));
+		PrimitiveCollections.put("java.util.List<java.lang.Double>", new OptimizedConverter("com.dslplatform.json.NumberConverter", "GENERIC_DOUBLE_LIST_WRITER", null, "GENERIC_DOUBLE_LIST_READER", null, null));
 		Defaults = new HashMap<>();
 		Defaults.put("byte", "(byte)0");
 		Defaults.put("boolean", "false");
@@ -136,6 +146,7 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 	private boolean withJackson = false;
 	private boolean withJsonb = false;
 	private String configurationFileName = null;
+	private Map<String, OptimizedConverter> inlinedConverters = InlinedConverters;
 
 	private TypeElement jacksonCreatorElement;
 	private DeclaredType jacksonCreatorType;
@@ -170,6 +181,10 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 		if (con != null && con.length() > 0) {
 			configurationFileName = con;
 		}
+		String pc = options.get(Options.PRIMITIVE_COLLECTIONS.value);
+		if (pc != null && pc.length() > 0 && Boolean.parseBoolean(pc)) {
+			inlinedConverters = PrimitiveCollections;
+		}
 		jacksonCreatorElement = processingEnv.getElementUtils().getTypeElement("com.fasterxml.jackson.annotation.JsonCreator");
 		jacksonCreatorType = jacksonCreatorElement != null ? processingEnv.getTypeUtils().getDeclaredType(jacksonCreatorElement) : null;
 		jsonbCreatorElement = processingEnv.getElementUtils().getTypeElement("javax.json.bind.annotation.JsonbCreator");
@@ -293,12 +308,19 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 				if (structInfo.type == ObjectType.CLASS && structInfo.attributes.isEmpty() && !structInfo.hasAnnotation()) {
 					continue;
 				}
+				if (structInfo.cacheSerialized() && (structInfo.isParameterized || structInfo.type == ObjectType.MIXIN)) {
+					processingEnv.getMessager().printMessage(
+							Diagnostic.Kind.ERROR,
+							"cacheSerialized can't be used on generic or abstract types, since their instances are written by writers of specific types. Use DslJson.Settings.cacheSerialized for specific types instead",
+							structInfo.element);
+					continue;
+				}
 
 				String classNamePath = findConverterName(structInfo);
 				try {
 					JavaFileObject converterFile = processingEnv.getFiler().createSourceFile(classNamePath, structInfo.element);
 					try (Writer writer = converterFile.openWriter()) {
-						buildCode(writer, processingEnv, entry.getKey(), structInfo, structs, typeSupport, unknownTypes != UnknownTypes.ERROR);
+						buildCode(writer, processingEnv, entry.getKey(), structInfo, structs, inlinedConverters, typeSupport, unknownTypes != UnknownTypes.ERROR);
 						generatedFiles.put(classNamePath, structInfo);
 						originatingElements.add(structInfo.element);
 					} catch (IOException e) {
@@ -380,9 +402,10 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 			final String className,
 			final StructInfo si,
 			final Map<String, StructInfo> structs,
+			final Map<String, OptimizedConverter> inlinedConverters,
 			final TypeSupport typeSupport,
 			final boolean allowUnknown) throws IOException {
-		final Context context = new Context(code, environment, InlinedConverters, Defaults, structs, typeSupport, allowUnknown);
+		final Context context = new Context(code, environment, inlinedConverters, Defaults, structs, typeSupport, allowUnknown);
 		final EnumTemplate enumTemplate = new EnumTemplate(context);
 		final ConverterTemplate converterTemplate = new ConverterTemplate(context, enumTemplate);
 
@@ -405,6 +428,10 @@ public class CompiledJsonAnnotationProcessor extends AbstractProcessor {
 		code.append("\t@Override\n");
 		code.append("\tpublic void configure(com.dslplatform.json.DslJson __dsljson) {\n");
 
+		if (si.cacheSerialized()) {
+			String type = typeOrClass(nonGenericObject(className), className);
+			code.append("\t\t__dsljson.cacheSerialized(").append(type).append(", com.dslplatform.json.SerializationCache.Keys.IDENTITY, 1024);\n");
+		}
 		if (si.type == ObjectType.CLASS && si.isParameterized) {
 			code.append("\t\tConverterFactory factory = new ConverterFactory();\n");
 			code.append("\t\t__dsljson.registerReaderFactory(factory);\n");
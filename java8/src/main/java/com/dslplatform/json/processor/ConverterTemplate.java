@@ -256,16 +256,34 @@ class ConverterTemplate {
 		if (binding) {
 			code.append("\t\tpublic ").append(className).append(" read(final com.dslplatform.json.JsonReader reader) throws java.io.IOException {\n");
 			code.append("\t\t\tif (reader.wasNull()) return null;\n");
-			code.append("\t\t\treturn bind(reader, ");
-			if (si.annotatedFactory != null) {
-				code.append(si.annotatedFactory.getEnclosingElement().toString()).append(".").append(si.annotatedFactory.getSimpleName()).append("());\n");
-			} else {
-				code.append("new ").append(className).append("());\n");
-			}
+			acquireInstance(si, className);
+			code.append("\t\t\treturn bind(reader, instance);\n");
 			code.append("\t\t}\n");
 		}
 	}
 
+	private void newInstance(final StructInfo si, final String className) throws IOException {
+		if (si.annotatedFactory != null) {
+			code.append(si.annotatedFactory.getEnclosingElement().toString()).append(".").append(si.annotatedFactory.getSimpleName()).append("()");
+		} else {
+			code.append("new ").append(className).append("()");
+		}
+	}
+
+	//recycling pool is looked up only when recycling is enabled, so converters don't need to prepare it
+	private void acquireInstance(final StructInfo si, final String className) throws IOException {
+		code.append("\t\t\t").append(className).append(" instance = ");
+		if (si.isParameterized) {
+			newInstance(si, className);
+			code.append(";\n");
+			return;
+		}
+		code.append("(").append(className).append(") __dsljson.acquireRecycled(").append(className).append(".class);\n");
+		code.append("\t\t\tif (instance == null) instance = ");
+		newInstance(si, className);
+		code.append(";\n");
+	}
+
 	private String extractTypeSignature(AttributeInfo attr, TypeMirror type) {
 		if (attr.isGeneric) {
 			return createTypeSignature(type, attr.typeVariablesIndex);
@@ -379,12 +397,7 @@ class ConverterTemplate {
 		code.append("\t\t\treturn instance;\n");
 		code.append("\t\t}\n");
 		code.append("\t\tpublic ").append(className).append(" readContent(final com.dslplatform.json.JsonReader reader) throws java.io.IOException {\n");
-		code.append("\t\t\t").append(className).append(" instance = ");
-		if (si.annotatedFactory != null) {
-			code.append(si.annotatedFactory.getEnclosingElement().toString()).append(".").append(si.annotatedFactory.getSimpleName()).append("();\n ");
-		} else {
-			code.append("new ").append(className).append("();\n ");
-		}
+		acquireInstance(si, className);
 		code.append("\t\t\tbindContent(reader, instance);\n");
 		code.append("\t\t\treturn instance;\n");
 		code.append("\t\t}\n");
@@ -555,11 +568,12 @@ class ConverterTemplate {
 
 	private void writeDiscriminator(final StructInfo si) throws IOException {
 		String name = si.deserializeName.isEmpty() ? si.binaryName.replace('$', '.') : si.deserializeName;
-		code.append("\t\t\t\twriter.writeAscii(\"\\\"").append(si.discriminator).append("\\\":\\\"").append(name).append("\\\"");
+		code.append("\t\t\t\twriter.writeAscii(\"\\\"").append(si.discriminator).append("\\\"\"); writer.writeByte((byte)':');");
+		code.append(" writer.writeAscii(\"\\\"").append(name).append("\\\"\");");
 		if (!si.attributes.isEmpty()) {
-			code.append(",");
+			code.append(" writer.writeByte((byte)',');");
 		}
-		code.append("\");\n");
+		code.append("\n");
 	}
 
 	private void writeObject(final StructInfo si, final String className, List<AttributeInfo> sortedAttributes) throws IOException {
@@ -580,13 +594,13 @@ class ConverterTemplate {
 			writeDiscriminator(si);
 			if (!si.attributes.isEmpty()) {
 				code.append("\t\t\t\tif (alwaysSerialize) { writeContentFull(writer, instance); writer.writeByte((byte)'}'); }\n");
-				code.append("\t\t\t\telse { writeContentMinimal(writer, instance); writer.getByteBuffer()[writer.size() - 1] = '}'; }\n");
+				code.append("\t\t\t\telse { writeContentMinimal(writer, instance); writer.replaceTrailingComma((byte)'}'); }\n");
 			} else {
 				code.append("\t\t\t\twriter.writeByte((byte)'}');\n");
 			}
 		} else {
 			code.append("\t\t\t\tif (alwaysSerialize) { writeContentFull(writer, instance); writer.writeByte((byte)'}'); }\n");
-			code.append("\t\t\t\telse if (writeContentMinimal(writer, instance)) writer.getByteBuffer()[writer.size() - 1] = '}';\n");
+			code.append("\t\t\t\telse if (writeContentMinimal(writer, instance)) writer.replaceTrailingComma((byte)'}');\n");
 			code.append("\t\t\t\telse writer.writeByte((byte)'}');\n");
 		}
 		code.append("\t\t\t}\n");
@@ -594,7 +608,7 @@ class ConverterTemplate {
 		code.append("\t\tpublic void writeContentFull(final com.dslplatform.json.JsonWriter writer, final ");
 		code.append(className).append(" instance) {\n");
 		for (AttributeInfo attr : sortedAttributes) {
-			code.append("\t\t\twriter.writeAscii(quoted_").append(attr.name).append(");\n");
+			code.append("\t\t\twriter.writeAttributeName(quoted_").append(attr.name).append(");\n");
 			writeProperty(attr, false, "\t\t\t");
 		}
 		code.append("\t\t}\n");
@@ -713,12 +727,7 @@ class ConverterTemplate {
 		List<AttributeInfo> sortedAttributes = sortedAttributes(si);
 		writeArray(className, sortedAttributes);
 		code.append("\t\tpublic ").append(className).append(" readContent(final com.dslplatform.json.JsonReader reader) throws java.io.IOException {\n");
-		code.append("\t\t\t").append(className).append(" instance = ");
-		if (si.annotatedFactory != null) {
-			code.append(si.annotatedFactory.getEnclosingElement().toString()).append(".").append(si.annotatedFactory.getSimpleName()).append("();\n ");
-		} else {
-			code.append("new ").append(className).append("();\n ");
-		}
+		acquireInstance(si, className);
 		code.append("\t\t\tbind(reader, instance);\n");
 		code.append("\t\t\treturn instance;\n");
 		code.append("\t\t}\n");
@@ -0,0 +1,202 @@
+package com.dslplatform.json.runtime;
+
+import com.dslplatform.json.BoolConverter;
+import com.dslplatform.json.DslJson;
+import com.dslplatform.json.JsonReader;
+import com.dslplatform.json.Nullable;
+import com.dslplatform.json.NumberConverter;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * Constructor arguments decoded into reusable slots instead of a new Object[] per instance.
+ * <p>
+ * Primitive arguments with builtin converters are stored as raw bits in a long[]
+ * and passed to the constructor without boxing.
+ * Other arguments are stored in an Object[].
+ * Constructor is invoked through a method handle which reads arguments directly from those arrays.
+ * Slots are reused per thread. When the same type is decoded recursively, nested objects use new slots.
+ *
+ * @param <T> constructed type
+ */
+final class ArgumentSlots<T> {
+
+	static final class Scratch {
+		final long[] primitives;
+		final Object[] references;
+		boolean inUse;
+
+		Scratch(final long[] primitives, final Object[] references) {
+			this.primitives = primitives;
+			this.references = references;
+		}
+	}
+
+	private interface Slot {
+		void read(JsonReader reader, Scratch scratch) throws IOException;
+	}
+
+	private static final MethodHandle LONG_ELEMENT = MethodHandles.arrayElementGetter(long[].class);
+	private static final MethodHandle OBJECT_ELEMENT = MethodHandles.arrayElementGetter(Object[].class);
+	private static final MethodHandle BITS_TO_DOUBLE;
+	private static final MethodType CREATE = MethodType.methodType(Object.class, long[].class, Object[].class);
+
+	static {
+		try {
+			BITS_TO_DOUBLE = MethodHandles.publicLookup().findStatic(
+					Double.class,
+					"longBitsToDouble",
+					MethodType.methodType(double.class, long.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Slot[] slots;
+	private final MethodHandle create;
+	private final long[] defaultPrimitives;
+	private final Object[] defaultReferences;
+	private final ThreadLocal<Scratch> local;
+
+	private ArgumentSlots(
+			final Slot[] slots,
+			final MethodHandle create,
+			final long[] defaultPrimitives,
+			final Object[] defaultReferences) {
+		this.slots = slots;
+		this.create = create;
+		this.defaultPrimitives = defaultPrimitives;
+		this.defaultReferences = defaultReferences;
+		this.local = ThreadLocal.withInitial(this::newScratch);
+	}
+
+	/**
+	 * Analyze constructor and prepare slots for its arguments.
+	 *
+	 * @param ctor    public constructor
+	 * @param defArgs default value for each argument
+	 * @param readers decoder for each argument
+	 * @param json    DslJson used for checking if primitive converters were replaced
+	 * @param <T>     constructed type
+	 * @return slots or null when constructor can't be invoked through a method handle
+	 */
+	@Nullable
+	static <T> ArgumentSlots<T> tryCreate(
+			final Constructor<T> ctor,
+			final Object[] defArgs,
+			final JsonReader.ReadObject[] readers,
+			final DslJson json) {
+		final MethodHandle handle = Reflection.unreflect(ctor);
+		if (handle == null) return null;
+		final Class<?>[] params = ctor.getParameterTypes();
+		final Slot[] slots = new Slot[params.length];
+		final MethodHandle[] filters = new MethodHandle[params.length];
+		final int[] reorder = new int[params.length];
+		int primitives = 0;
+		int references = 0;
+		for (int i = 0; i < params.length; i++) {
+			final Class<?> type = params[i];
+			if (type.isPrimitive() && PrimitiveAttributes.hasBuiltinConverters(json, type)) {
+				slots[i] = primitiveSlot(type, primitives);
+				filters[i] = primitiveFilter(type, primitives);
+				reorder[i] = 0;
+				primitives++;
+			} else {
+				final int position = references;
+				final JsonReader.ReadObject decoder = readers[i];
+				slots[i] = (reader, scratch) -> scratch.references[position] = decoder.read(reader);
+				filters[i] = MethodHandles.insertArguments(OBJECT_ELEMENT, 1, position)
+						.asType(MethodType.methodType(type, Object[].class));
+				reorder[i] = 1;
+				references++;
+			}
+		}
+		final long[] defaultPrimitives = new long[primitives];
+		final Object[] defaultReferences = new Object[references];
+		primitives = 0;
+		references = 0;
+		for (int i = 0; i < params.length; i++) {
+			if (reorder[i] == 0) {
+				defaultPrimitives[primitives++] = toBits(defArgs[i]);
+			} else {
+				defaultReferences[references++] = defArgs[i];
+			}
+		}
+		final MethodHandle create = MethodHandles.permuteArguments(
+				MethodHandles.filterArguments(handle, 0, filters),
+				MethodType.methodType(ctor.getDeclaringClass(), long[].class, Object[].class),
+				reorder).asType(CREATE);
+		return new ArgumentSlots<>(slots, create, defaultPrimitives, defaultReferences);
+	}
+
+	private static Slot primitiveSlot(final Class<?> type, final int position) {
+		if (type == int.class) {
+			return (reader, scratch) -> scratch.primitives[position] = NumberConverter.deserializeInt(reader);
+		} else if (type == long.class) {
+			return (reader, scratch) -> scratch.primitives[position] = NumberConverter.deserializeLong(reader);
+		} else if (type == double.class) {
+			return (reader, scratch) -> scratch.primitives[position] = Double.doubleToRawLongBits(NumberConverter.deserializeDouble(reader));
+		} else if (type == float.class) {
+			return (reader, scratch) -> scratch.primitives[position] = Double.doubleToRawLongBits(NumberConverter.deserializeFloat(reader));
+		}
+		return (reader, scratch) -> scratch.primitives[position] = BoolConverter.deserialize(reader) ? 1 : 0;
+	}
+
+	//floats are kept as double bits, since conversion back to float is exact
+	private static MethodHandle primitiveFilter(final Class<?> type, final int position) {
+		MethodHandle filter = MethodHandles.insertArguments(LONG_ELEMENT, 1, position);
+		if (type == double.class || type == float.class) {
+			filter = MethodHandles.filterReturnValue(filter, BITS_TO_DOUBLE);
+		}
+		return MethodHandles.explicitCastArguments(filter, MethodType.methodType(type, long[].class));
+	}
+
+	private static long toBits(final Object value) {
+		if (value instanceof Double || value instanceof Float) {
+			return Double.doubleToRawLongBits(((Number) value).doubleValue());
+		} else if (value instanceof Number) {
+			return ((Number) value).longValue();
+		}
+		return Boolean.TRUE.equals(value) ? 1 : 0;
+	}
+
+	private Scratch newScratch() {
+		return new Scratch(defaultPrimitives.clone(), defaultReferences.clone());
+	}
+
+	Scratch acquire() {
+		final Scratch scratch = local.get();
+		if (scratch.inUse) {
+			return newScratch();
+		}
+		scratch.inUse = true;
+		System.arraycopy(defaultPrimitives, 0, scratch.primitives, 0, defaultPrimitives.length);
+		return scratch;
+	}
+
+	void release(final Scratch scratch) {
+		//don't keep decoded values reachable from the thread
+		System.arraycopy(defaultReferences, 0, scratch.references, 0, defaultReferences.length);
+		scratch.inUse = false;
+	}
+
+	void read(final int index, final JsonReader reader, final Scratch scratch) throws IOException {
+		slots[index].read(reader, scratch);
+	}
+
+	@SuppressWarnings("unchecked")
+	T create(final Scratch scratch) {
+		try {
+			final Object instance = create.invokeExact(scratch.primitives, scratch.references);
+			return (T) instance;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
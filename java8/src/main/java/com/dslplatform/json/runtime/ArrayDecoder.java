@@ -1,15 +1,19 @@
 package com.dslplatform.json.runtime;
 
+import com.dslplatform.json.CapacityHint;
 import com.dslplatform.json.JsonReader;
 import com.dslplatform.json.Nullable;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 
-public final class ArrayDecoder<T> implements JsonReader.ReadObject<T[]> {
+public final class ArrayDecoder<T> implements JsonReader.ReadObject<T[]>, JsonReader.BindObject<T[]> {
 
 	private final T[] emptyInstance;
 	private final JsonReader.ReadObject<T> decoder;
+	@Nullable
+	private final JsonReader.BindObject<T> elementBinder;
+	private final CapacityHint hint = Settings.newCapacityHint();
 
 	public ArrayDecoder(
 			final T[] emptyInstance,
@@ -18,6 +22,7 @@ public final class ArrayDecoder<T> implements JsonReader.ReadObject<T[]> {
 		if (decoder == null) throw new IllegalArgumentException("decoder can't be null");
 		this.emptyInstance = emptyInstance;
 		this.decoder = decoder;
+		this.elementBinder = Settings.findBinder(decoder);
 	}
 
 	@Nullable
@@ -26,13 +31,58 @@ public final class ArrayDecoder<T> implements JsonReader.ReadObject<T[]> {
 		if (reader.wasNull()) return null;
 		if (reader.last() != '[') throw reader.newParseError("Expecting '[' for array start");
 		if (reader.getNextToken() == ']') return emptyInstance;
-		final ArrayList<T> list = new ArrayList<>(4);
-		list.add(decoder.read(reader));
+		T[] buffer = Arrays.copyOf(emptyInstance, hint.exactCapacity());
+		buffer[0] = decoder.read(reader);
+		int i = 1;
+		while (reader.getNextToken() == ','){
+			reader.getNextToken();
+			if (i == buffer.length) {
+				buffer = Arrays.copyOf(buffer, i << 1);
+			}
+			buffer[i++] = decoder.read(reader);
+		}
+		if (reader.last() != ']') throw reader.newParseError("Expecting ']' for array end");
+		hint.record(i);
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
+	}
+
+	/**
+	 * Elements are bound into existing elements when possible.
+	 * Since the number of elements is not known upfront, they are decoded into a separate array.
+	 * Provided array is updated only when the number of elements matches its length,
+	 * otherwise it's left unchanged and a new array is returned.
+	 */
+	@Override
+	public T[] bind(final JsonReader reader, final T[] instance) throws IOException {
+		if (reader.last() != '[') throw reader.newParseError("Expecting '[' for array start");
+		if (reader.getNextToken() == ']') return instance.length == 0 ? instance : emptyInstance;
+		T[] result = Arrays.copyOf(emptyInstance, Math.max(instance.length, 4));
+		int i = 0;
+		result = bindElement(reader, instance, result, i++);
 		while (reader.getNextToken() == ','){
 			reader.getNextToken();
-			list.add(decoder.read(reader));
+			result = bindElement(reader, instance, result, i++);
 		}
 		if (reader.last() != ']') throw reader.newParseError("Expecting ']' for array end");
-		return list.toArray(emptyInstance);
+		if (i == instance.length) {
+			System.arraycopy(result, 0, instance, 0, i);
+			return instance;
+		}
+		return i == result.length ? result : Arrays.copyOf(result, i);
+	}
+
+	private T[] bindElement(final JsonReader reader, final T[] instance, T[] result, final int i) throws IOException {
+		if (i == result.length) {
+			result = Arrays.copyOf(result, i << 1);
+		}
+		final T current = i < instance.length ? instance[i] : null;
+		if (elementBinder == null || current == null) {
+			result[i] = decoder.read(reader);
+		} else if (reader.wasNull()) {
+			result[i] = null;
+		} else {
+			result[i] = elementBinder.bind(reader, current);
+		}
+		return result;
 	}
 }
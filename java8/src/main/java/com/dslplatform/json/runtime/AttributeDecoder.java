@@ -1,6 +1,7 @@
 package com.dslplatform.json.runtime;
 
 import com.dslplatform.json.JsonReader;
+import com.dslplatform.json.Nullable;
 
 import java.io.IOException;
 
@@ -8,14 +9,31 @@ class AttributeDecoder<T, P> implements JsonReader.BindObject<T> {
 
 	private final Settings.BiConsumer<T, P> write;
 	private final JsonReader.ReadObject<P> decoder;
+	@Nullable
+	private final Settings.Function<T, P> read;
+	@Nullable
+	private final JsonReader.BindObject<P> binder;
 
 	AttributeDecoder(
 			final Settings.BiConsumer<T, P> write,
 			final JsonReader.ReadObject<P> decoder) {
+		this(write, decoder, null);
+	}
+
+	/**
+	 * When read is provided and decoder supports binding,
+	 * current value of the attribute can be reused through bindCurrent instead of creating a new one.
+	 */
+	AttributeDecoder(
+			final Settings.BiConsumer<T, P> write,
+			final JsonReader.ReadObject<P> decoder,
+			@Nullable final Settings.Function<T, P> read) {
 		if (write == null) throw new IllegalArgumentException("write can't be null");
 		if (decoder == null) throw new IllegalArgumentException("decoder can't be null");
 		this.write = write;
 		this.decoder = decoder;
+		this.binder = read != null ? Settings.findBinder(decoder) : null;
+		this.read = binder != null ? read : null;
 	}
 
 	@Override
@@ -24,4 +42,28 @@ class AttributeDecoder<T, P> implements JsonReader.BindObject<T> {
 		write.accept(instance, attr);
 		return instance;
 	}
+
+	/**
+	 * Bind into the current value of the attribute.
+	 * Should only be used when instance was provided by the caller,
+	 * since values on new instances can be immutable or shared defaults.
+	 */
+	T bindCurrent(final JsonReader reader, final T instance) throws IOException {
+		if (read != null) {
+			//null check consumes the null constant, so decoder must not be called after it
+			if (reader.wasNull()) {
+				write.accept(instance, null);
+				return instance;
+			}
+			final P current = read.apply(instance);
+			if (current != null) {
+				final P attr = binder.bind(reader, current);
+				if (attr != current) write.accept(instance, attr);
+				return instance;
+			}
+		}
+		final P attr = decoder.read(reader);
+		write.accept(instance, attr);
+		return instance;
+	}
 }
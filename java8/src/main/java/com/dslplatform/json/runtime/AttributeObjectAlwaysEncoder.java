@@ -28,7 +28,7 @@ class AttributeObjectAlwaysEncoder<T, R> implements JsonWriter.WriteObject<T> {
 	@Override
 	public void write(final JsonWriter writer, @Nullable final T value) {
 		final R attr = read.apply(value);
-		writer.writeAscii(quotedName);
+		writer.writeAttributeName(quotedName);
 		encoder.write(writer, attr);
 	}
 }
@@ -32,7 +32,7 @@ class AttributeObjectNonDefaultEncoder<T, R> implements JsonWriter.WriteObject<T
 	public void write(final JsonWriter writer, @Nullable final T value) {
 		final R attr = read.apply(value);
 		if (attr != null && attr != defaultValue) {
-			writer.writeAscii(quotedName);
+			writer.writeAttributeName(quotedName);
 			encoder.write(writer, attr);
 		}
 	}
@@ -81,11 +81,73 @@ public abstract class CollectionAnalyzer {
 		}
 	};
 
+	public static final DslJson.ConverterFactory<JsonReader.ReadObject> PRIMITIVE_READER = new DslJson.ConverterFactory<JsonReader.ReadObject>() {
+		@Nullable
+		@Override
+		public JsonReader.ReadObject tryCreate(Type manifest, DslJson dslJson) {
+			final Type element = primitiveListElement(manifest, dslJson);
+			if (element == null) return null;
+			final JsonReader.ReadObject<?> reader = dslJson.tryFindReader(element);
+			final JsonReader.ReadObject<?> decoder;
+			if (reader == NumberConverter.NULLABLE_INT_READER) decoder = NumberConverter.intListReader(Settings.newCapacityHint());
+			else if (reader == NumberConverter.NULLABLE_LONG_READER) decoder = NumberConverter.longListReader(Settings.newCapacityHint());
+			else if (reader == NumberConverter.NULLABLE_DOUBLE_READER) decoder = NumberConverter.doubleListReader(Settings.newCapacityHint());
+			else return null;
+			dslJson.registerReader(manifest, decoder);
+			return decoder;
+		}
+	};
+
+	public static final DslJson.ConverterFactory<JsonWriter.WriteObject> PRIMITIVE_WRITER = new DslJson.ConverterFactory<JsonWriter.WriteObject>() {
+		@Nullable
+		@Override
+		public JsonWriter.WriteObject tryCreate(Type manifest, DslJson dslJson) {
+			final Type element = primitiveListElement(manifest, dslJson);
+			if (element == null) return null;
+			final JsonWriter.WriteObject<?> writer = dslJson.tryFindWriter(element);
+			final JsonWriter.WriteObject<Collection<?>> encoder;
+			if (writer == NumberConverter.INT_WRITER) {
+				encoder = primitiveListEncoder(IntList.class, NumberConverter.INT_LIST_WRITER, writer, dslJson);
+			} else if (writer == NumberConverter.LONG_WRITER) {
+				encoder = primitiveListEncoder(LongList.class, NumberConverter.LONG_LIST_WRITER, writer, dslJson);
+			} else if (writer == NumberConverter.DOUBLE_WRITER) {
+				encoder = primitiveListEncoder(DoubleList.class, NumberConverter.DOUBLE_LIST_WRITER, writer, dslJson);
+			} else {
+				return null;
+			}
+			dslJson.registerWriter(manifest, encoder);
+			return encoder;
+		}
+	};
+
+	@Nullable
+	private static Type primitiveListElement(final Type manifest, final DslJson json) {
+		if (!json.primitiveCollections || !(manifest instanceof ParameterizedType)) return null;
+		final ParameterizedType pt = (ParameterizedType) manifest;
+		if (pt.getRawType() != List.class && pt.getRawType() != Collection.class) return null;
+		final Type element = pt.getActualTypeArguments()[0];
+		return element == Integer.class || element == Long.class || element == Double.class ? element : null;
+	}
+
+	private static <L> JsonWriter.WriteObject<Collection<?>> primitiveListEncoder(
+			final Class<L> list,
+			final JsonWriter.WriteObject<L> primitive,
+			final JsonWriter.WriteObject element,
+			final DslJson json) {
+		final CollectionEncoder boxed = new CollectionEncoder<>(json, element);
+		return (writer, value) -> {
+			if (list.isInstance(value)) primitive.write(writer, list.cast(value));
+			else boxed.write(writer, value);
+		};
+	}
+
 	@Nullable
 	private static CollectionDecoder analyzeDecoding(final Type manifest, final Type element, final Class<?> collection, final DslJson json) {
 		if (!Collection.class.isAssignableFrom(collection)) return null;
+		final CapacityHint hint = Settings.newCapacityHint();
 		final Callable newInstance;
-		if (!collection.isInterface()) {
+		boolean presized = false;
+		if (!collection.isInterface() && collection != ArrayList.class) {
 			try {
 				collection.newInstance();
 			} catch (Exception ex) {
@@ -98,17 +160,19 @@ public abstract class CollectionAnalyzer {
 				}
 			};
 		} else if (Set.class.isAssignableFrom(collection)) {
+			presized = true;
 			newInstance = new Callable() {
 				@Override
 				public Object call() {
-					return new LinkedHashSet<>(4);
+					return new LinkedHashSet<>(hint.hashCapacity());
 				}
 			};
 		} else if (List.class.isAssignableFrom(collection) || Collection.class == collection) {
+			presized = true;
 			newInstance = new Callable() {
 				@Override
 				public Object call() throws Exception {
-					return new ArrayList<>(4);
+					return new ArrayList<>(hint.capacity());
 				}
 			};
 		} else if (Queue.class.isAssignableFrom(collection)) {
@@ -125,11 +189,27 @@ public abstract class CollectionAnalyzer {
 		if (reader == null) {
 			return null;
 		}
-		final CollectionDecoder decoder = new CollectionDecoder<>(manifest, newInstance, reader);
+		final CollectionDecoder decoder = new CollectionDecoder<>(manifest, recycled(manifest, newInstance, json), reader, presized ? hint : null);
 		json.registerReader(manifest, decoder);
 		return decoder;
 	}
 
+	private static Callable recycled(final Type manifest, final Callable newInstance, final DslJson json) {
+		final InstancePool<Collection> pool = json.recyclingPool(manifest, () -> {
+			try {
+				return (Collection) newInstance.call();
+			} catch (Exception ex) {
+				throw new ConfigurationException("Unable to create a new instance of " + manifest, ex);
+			}
+		}, (InstancePool.Reset<Collection>) Collection::clear);
+		if (pool == null) return newInstance;
+		//pool created by generated decoders doesn't create instances
+		return () -> {
+			final Collection instance = pool.acquire();
+			return instance != null ? instance : newInstance.call();
+		};
+	}
+
 	@Nullable
 	private static CollectionEncoder analyzeEncoding(final Type manifest, final Type element, final Class<?> collection, final DslJson json) {
 		if (!Collection.class.isAssignableFrom(collection)) return null;
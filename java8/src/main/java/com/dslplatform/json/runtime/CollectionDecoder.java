@@ -1,5 +1,6 @@
 package com.dslplatform.json.runtime;
 
+import com.dslplatform.json.CapacityHint;
 import com.dslplatform.json.ConfigurationException;
 import com.dslplatform.json.JsonReader;
 import com.dslplatform.json.Nullable;
@@ -8,24 +9,40 @@ import com.dslplatform.json.ParsingException;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.concurrent.Callable;
 
-public final class CollectionDecoder<E, T extends Collection<E>> implements JsonReader.ReadObject<T> {
+public final class CollectionDecoder<E, T extends Collection<E>> implements JsonReader.ReadObject<T>, JsonReader.BindObject<T> {
 
 	private final Type manifest;
 	private final Callable<T> newInstance;
 	private final JsonReader.ReadObject<E> decoder;
+	@Nullable
+	private final JsonReader.BindObject<E> elementBinder;
+	@Nullable
+	private final CapacityHint hint;
 
 	public CollectionDecoder(
 			final Type manifest,
 			final Callable<T> newInstance,
 			final JsonReader.ReadObject<E> decoder) {
+		this(manifest, newInstance, decoder, null);
+	}
+
+	CollectionDecoder(
+			final Type manifest,
+			final Callable<T> newInstance,
+			final JsonReader.ReadObject<E> decoder,
+			@Nullable final CapacityHint hint) {
 		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
 		if (newInstance == null) throw new IllegalArgumentException("create can't be null");
 		if (decoder == null) throw new IllegalArgumentException("decoder can't be null");
 		this.manifest = manifest;
 		this.newInstance = newInstance;
 		this.decoder = decoder;
+		this.elementBinder = Settings.findBinder(decoder);
+		this.hint = hint;
 	}
 
 	@Nullable
@@ -35,14 +52,106 @@ public final class CollectionDecoder<E, T extends Collection<E>> implements Json
 		if (reader.last() != '[') {
 			throw reader.newParseError("Expecting '[' for collection start");
 		}
-		final T instance;
+		final T instance = create();
+		fill(reader, instance);
+		if (hint != null) {
+			hint.record(instance.size());
+		}
+		return instance;
+	}
+
+	private T create() {
 		try {
-			instance = newInstance.call();
+			return newInstance.call();
 		} catch (Exception e) {
 			throw new ConfigurationException("Unable to create a new instance of " + manifest, e);
 		}
+	}
+
+	/**
+	 * Existing collection is cleared and filled with decoded elements.
+	 * When collection is a list, its elements are bound in place if possible.
+	 * When collection rejects modification (eg. unmodifiable or fixed size collection)
+	 * remaining elements are decoded into a new collection which is returned instead.
+	 */
+	@Override
+	public T bind(final JsonReader reader, final T instance) throws IOException {
+		if (reader.last() != '[') {
+			throw reader.newParseError("Expecting '[' for collection start");
+		}
+		if (elementBinder == null || !(instance instanceof List)) {
+			return refill(reader, instance);
+		}
+		final List<E> list = (List<E>) instance;
+		final ListIterator<E> iterator = list.listIterator();
+		int count = 0;
+		if (reader.getNextToken() != ']') {
+			while (true) {
+				final boolean existing = iterator.hasNext();
+				final E current = existing ? iterator.next() : null;
+				final E element = bindElement(reader, current);
+				try {
+					if (!existing) iterator.add(element);
+					else if (element != current) iterator.set(element);
+				} catch (UnsupportedOperationException ignore) {
+					final T copy = create();
+					copy.addAll(list.subList(0, count));
+					copy.add(element);
+					return fillRest(reader, copy);
+				}
+				count++;
+				if (reader.getNextToken() != ',') break;
+				reader.getNextToken();
+			}
+			if (reader.last() != ']') {
+				throw reader.newParseError("Expecting ']' for collection end");
+			}
+		}
+		try {
+			while (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} catch (UnsupportedOperationException ignore) {
+			final T copy = create();
+			copy.addAll(list.subList(0, count));
+			return copy;
+		}
+		return instance;
+	}
+
+	@Nullable
+	private E bindElement(final JsonReader reader, @Nullable final E current) throws IOException {
+		if (current == null) return decoder.read(reader);
+		if (reader.wasNull()) return null;
+		return elementBinder.bind(reader, current);
+	}
+
+	private T refill(final JsonReader reader, final T instance) throws IOException {
+		T target = instance;
+		try {
+			target.clear();
+		} catch (UnsupportedOperationException ignore) {
+			target = create();
+		}
+		if (reader.getNextToken() == ']') return target;
+		final E first = decoder.read(reader);
+		try {
+			target.add(first);
+		} catch (UnsupportedOperationException ignore) {
+			target = create();
+			target.add(first);
+		}
+		return fillRest(reader, target);
+	}
+
+	private T fill(final JsonReader reader, final T instance) throws IOException {
 		if (reader.getNextToken() == ']') return instance;
 		instance.add(decoder.read(reader));
+		return fillRest(reader, instance);
+	}
+
+	private T fillRest(final JsonReader reader, final T instance) throws IOException {
 		while (reader.getNextToken() == ','){
 			reader.getNextToken();
 			instance.add(decoder.read(reader));
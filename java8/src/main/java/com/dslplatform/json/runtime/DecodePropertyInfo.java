@@ -2,6 +2,7 @@ package com.dslplatform.json.runtime;
 
 import com.dslplatform.json.ConfigurationException;
 import com.dslplatform.json.JsonReader;
+import com.dslplatform.json.Nullable;
 import com.dslplatform.json.ParsingException;
 
 import java.nio.charset.Charset;
@@ -107,6 +108,53 @@ public class DecodePropertyInfo<T> {
 		return decoders;
 	}
 
+	/**
+	 * Open addressing table from property hash to position in prepared decoders.
+	 * Decoders with the same hash are inserted in their order, so lookup will find the same decoder as a linear scan.
+	 *
+	 * @param decoders prepared decoders
+	 * @return index for find method
+	 */
+	static int[] createIndex(final DecodePropertyInfo[] decoders) {
+		int size = 2;
+		while (size < decoders.length * 2) {
+			size <<= 1;
+		}
+		final int[] index = new int[size];
+		final int mask = size - 1;
+		for (int i = 0; i < decoders.length; i++) {
+			int slot = slot(decoders[i].hash, mask);
+			while (index[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			index[slot] = i + 1;
+		}
+		return index;
+	}
+
+	private static int slot(final int hash, final int mask) {
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	@Nullable
+	static <T> DecodePropertyInfo<T> find(
+			final int[] index,
+			final DecodePropertyInfo<T>[] decoders,
+			final int hash,
+			final JsonReader reader) {
+		final int mask = index.length - 1;
+		int slot = slot(hash, mask);
+		int position;
+		while ((position = index[slot]) != 0) {
+			final DecodePropertyInfo<T> ri = decoders[position - 1];
+			if (ri.hash == hash && (!ri.exactName || reader.wasLastName(ri.nameBytes))) {
+				return ri;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
 	static long calculateMandatory(DecodePropertyInfo[] decoders) {
 		long flag = 0;
 		for (DecodePropertyInfo dp : decoders) {
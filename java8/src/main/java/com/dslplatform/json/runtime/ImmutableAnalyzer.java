@@ -224,9 +224,11 @@ public abstract class ImmutableAnalyzer {
 			}
 		}
 		final DecodePropertyInfo<JsonReader.ReadObject>[] readProps = new DecodePropertyInfo[paramTypes.length];
+		final JsonReader.ReadObject[] readers = new JsonReader.ReadObject[paramTypes.length];
 		for (int i = 0; i < paramTypes.length; i++) {
 			final Type concreteType = Generics.makeConcrete(paramTypes[i], genericMappings);
-			readProps[i] = new DecodePropertyInfo<>(names[i], false, false, i, false, new WriteCtor(json, concreteType, ctor));
+			readers[i] = new WriteCtor(json, concreteType, ctor);
+			readProps[i] = new DecodePropertyInfo<>(names[i], false, false, i, false, readers[i]);
 		}
 		final ImmutableDescription<T> converter = new ImmutableDescription<>(
 				manifest,
@@ -244,7 +246,8 @@ public abstract class ImmutableAnalyzer {
 				writeProps,
 				readProps,
 				!json.omitDefaults,
-				true);
+				true,
+				ArgumentSlots.tryCreate((Constructor<T>) ctor, defArgs, readers, json));
 		json.registerWriter(manifest, converter);
 		json.registerReader(manifest, converter);
 		lazy.resolved = converter;
@@ -305,10 +308,17 @@ public abstract class ImmutableAnalyzer {
 		final boolean isUnknown = Generics.isUnknownType(type);
 		if (type.equals(paramType)
 				&& (isUnknown || json.tryFindWriter(concreteType) != null && json.tryFindReader(concreteType) != null)) {
+			final PrimitiveAttributes.Attribute<Object> attr = field.getType().isPrimitive()
+					? PrimitiveAttributes.forField(field, field.getName(), json, false)
+					: null;
+			if (attr != null) {
+				found.put(field.getName(), attr);
+				return true;
+			}
 			found.put(
 					field.getName(),
 					Settings.createEncoder(
-							new Reflection.ReadField(field),
+							Reflection.readField(field),
 							field.getName(),
 							json,
 							isUnknown ? null : concreteType));
@@ -329,10 +339,17 @@ public abstract class ImmutableAnalyzer {
 		final boolean isUnknown = Generics.isUnknownType(type);
 		if (type.equals(paramType)
 				&& (isUnknown || json.tryFindWriter(concreteType) != null && json.tryFindReader(concreteType) != null)) {
+			final PrimitiveAttributes.Attribute<Object> attr = mget.getReturnType().isPrimitive()
+					? PrimitiveAttributes.forMethods(mget, null, name, json)
+					: null;
+			if (attr != null) {
+				found.put(name, attr);
+				return true;
+			}
 			found.put(
 					name,
 					Settings.createEncoder(
-							new Reflection.ReadMethod(mget),
+							Reflection.readMethod(mget),
 							name,
 							json,
 							isUnknown ? null : concreteType));
@@ -13,11 +13,14 @@ public final class ImmutableDescription<T> extends WriteDescription<T> implement
 	private final Object[] defArgs;
 	private final Settings.Function<Object[], T> newInstance;
 	private final DecodePropertyInfo<JsonReader.ReadObject>[] decoders;
+	private final int[] decoderIndex;
 	private final boolean skipOnUnknown;
 	private final boolean hasMandatory;
 	private final long mandatoryFlag;
 	private final String startError;
 	private final String endError;
+	@Nullable
+	private final ArgumentSlots<T> slots;
 
 	public ImmutableDescription(
 			final Class<T> manifest,
@@ -27,7 +30,7 @@ public final class ImmutableDescription<T> extends WriteDescription<T> implement
 			final DecodePropertyInfo<JsonReader.ReadObject>[] decoders,
 			final boolean alwaysSerialize,
 			final boolean skipOnUnknown) {
-		this((Type) manifest, defArgs, newInstance, encoders, decoders, alwaysSerialize, skipOnUnknown);
+		this((Type) manifest, defArgs, newInstance, encoders, decoders, alwaysSerialize, skipOnUnknown, null);
 	}
 
 	ImmutableDescription(
@@ -37,7 +40,8 @@ public final class ImmutableDescription<T> extends WriteDescription<T> implement
 			final JsonWriter.WriteObject[] encoders,
 			final DecodePropertyInfo<JsonReader.ReadObject>[] decoders,
 			final boolean alwaysSerialize,
-			final boolean skipOnUnknown) {
+			final boolean skipOnUnknown,
+			@Nullable final ArgumentSlots<T> slots) {
 		super(encoders, alwaysSerialize);
 		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
 		if (defArgs == null) throw new IllegalArgumentException("defArgs can't be null");
@@ -47,11 +51,13 @@ public final class ImmutableDescription<T> extends WriteDescription<T> implement
 		this.defArgs = defArgs;
 		this.newInstance = newInstance;
 		this.decoders = DecodePropertyInfo.prepare(decoders);
+		this.decoderIndex = DecodePropertyInfo.createIndex(this.decoders);
 		this.skipOnUnknown = skipOnUnknown;
 		this.mandatoryFlag = DecodePropertyInfo.calculateMandatory(this.decoders);
 		hasMandatory = mandatoryFlag != 0;
 		this.startError = String.format("Expecting '{' to start decoding %s", Reflection.typeDescription(manifest));
 		this.endError = String.format("Expecting '}' or ',' while decoding %s", Reflection.typeDescription(manifest));
+		this.slots = slots;
 	}
 
 	@Nullable
@@ -66,85 +72,90 @@ public final class ImmutableDescription<T> extends WriteDescription<T> implement
 			}
 			return newInstance.apply(defArgs);
 		}
-		final Object[] args = defArgs.clone();
+		if (slots == null) {
+			return readContent(defArgs.clone(), null, reader);
+		}
+		final ArgumentSlots.Scratch scratch = slots.acquire();
+		try {
+			return readContent(scratch.references, scratch, reader);
+		} finally {
+			slots.release(scratch);
+		}
+	}
+
+	@Nullable
+	private T readContent(final Object[] args, @Nullable final ArgumentSlots.Scratch scratch, final JsonReader reader) throws IOException {
 		long currentMandatory = mandatoryFlag;
 		int i = 0;
 		while(i < decoders.length) {
 			final DecodePropertyInfo<JsonReader.ReadObject> ri = decoders[i++];
 			final int weakHash = reader.fillNameWeakHash();
 			if (weakHash != ri.weakHash || !reader.wasLastName(ri.nameBytes)) {
-				return readObjectSlow(args, reader, currentMandatory);
+				return readObjectSlow(args, scratch, reader, currentMandatory);
 			}
 			reader.getNextToken();
 			if (ri.nonNull && reader.wasNull()) {
 				throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
 			}
-			args[ri.index] = ri.value.read(reader);
+			readValue(ri, reader, args, scratch);
 			currentMandatory = currentMandatory & ri.mandatoryValue;
 			if (reader.getNextToken() == ',' && i != decoders.length) reader.getNextToken();
 			else break;
 		}
-		return finalChecks(args, reader, currentMandatory);
+		return finalChecks(args, scratch, reader, currentMandatory);
 	}
 
-	@Nullable
-	private T readObjectSlow(final Object[] args, final JsonReader reader, long currentMandatory) throws IOException {
-		boolean processed = false;
-		final int oldHash = reader.getLastHash();
-		for (final DecodePropertyInfo<JsonReader.ReadObject> ri : decoders) {
-			if (oldHash != ri.hash) continue;
-			if (ri.exactName) {
-				if (!reader.wasLastName(ri.nameBytes)) continue;
-			}
-			reader.getNextToken();
-			if (ri.nonNull && reader.wasNull()) {
-				throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
-			}
+	private void readValue(
+			final DecodePropertyInfo<JsonReader.ReadObject> ri,
+			final JsonReader reader,
+			final Object[] args,
+			@Nullable final ArgumentSlots.Scratch scratch) throws IOException {
+		if (scratch != null) {
+			slots.read(ri.index, reader, scratch);
+		} else {
 			args[ri.index] = ri.value.read(reader);
-			currentMandatory = currentMandatory & ri.mandatoryValue;
-			processed = true;
-			break;
 		}
-		if (!processed) skip(reader);
-		else reader.getNextToken();
+	}
+
+	@Nullable
+	private T readObjectSlow(final Object[] args, @Nullable final ArgumentSlots.Scratch scratch, final JsonReader reader, long currentMandatory) throws IOException {
+		currentMandatory = readProperty(args, scratch, reader, reader.getLastHash(), currentMandatory);
 		while (reader.last() == ','){
 			reader.getNextToken();
-			final int hash = reader.fillName();
-			processed = false;
-			for (final DecodePropertyInfo<JsonReader.ReadObject> ri : decoders) {
-				if (hash != ri.hash) continue;
-				if (ri.exactName) {
-					if (!reader.wasLastName(ri.nameBytes)) continue;
-				}
-				reader.getNextToken();
-				if (ri.nonNull && reader.wasNull()) {
-					throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
-				}
-				args[ri.index] = ri.value.read(reader);
-				currentMandatory = currentMandatory & ri.mandatoryValue;
-				processed = true;
-				break;
-			}
-			if (!processed) skip(reader);
-			else reader.getNextToken();
+			currentMandatory = readProperty(args, scratch, reader, reader.fillName(), currentMandatory);
 		}
-		return finalChecks(args, reader, currentMandatory);
+		return finalChecks(args, scratch, reader, currentMandatory);
+	}
+
+	private long readProperty(final Object[] args, @Nullable final ArgumentSlots.Scratch scratch, final JsonReader reader, final int hash, final long currentMandatory) throws IOException {
+		final DecodePropertyInfo<JsonReader.ReadObject> ri = DecodePropertyInfo.find(decoderIndex, decoders, hash, reader);
+		if (ri == null) {
+			skip(reader);
+			return currentMandatory;
+		}
+		reader.getNextToken();
+		if (ri.nonNull && reader.wasNull()) {
+			throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
+		}
+		readValue(ri, reader, args, scratch);
+		reader.getNextToken();
+		return currentMandatory & ri.mandatoryValue;
 	}
 
 	@Nullable
-	private T finalChecks(Object[] args, JsonReader reader, long currentMandatory) throws IOException {
+	private T finalChecks(Object[] args, @Nullable ArgumentSlots.Scratch scratch, JsonReader reader, long currentMandatory) throws IOException {
 		if (reader.last() != '}') {
 			if (reader.last() != ',') {
 				throw reader.newParseError(endError);
 			}
 			reader.getNextToken();
 			reader.fillNameWeakHash();
-			return readObjectSlow(args, reader, currentMandatory);
+			return readObjectSlow(args, scratch, reader, currentMandatory);
 		}
 		if (hasMandatory && currentMandatory != 0) {
 			DecodePropertyInfo.showMandatoryError(reader, currentMandatory, decoders);
 		}
-		return newInstance.apply(args);
+		return scratch != null ? slots.create(scratch) : newInstance.apply(args);
 	}
 
 	private void skip(final JsonReader reader) throws IOException {
@@ -0,0 +1,71 @@
+package com.dslplatform.json.runtime;
+
+import com.dslplatform.json.*;
+
+import java.lang.reflect.*;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+public abstract class IteratorAnalyzer {
+
+	public static final DslJson.ConverterFactory<IteratorEncoder> WRITER = new DslJson.ConverterFactory<IteratorEncoder>() {
+		@Nullable
+		@Override
+		public IteratorEncoder tryCreate(Type manifest, DslJson dslJson) {
+			if (manifest instanceof Class<?>) {
+				return analyzeEncoding(manifest, Object.class, (Class<?>) manifest, dslJson);
+			}
+			if (manifest instanceof ParameterizedType) {
+				final ParameterizedType pt = (ParameterizedType) manifest;
+				if (pt.getActualTypeArguments().length == 1) {
+					return analyzeEncoding(manifest, pt.getActualTypeArguments()[0], (Class<?>) pt.getRawType(), dslJson);
+				}
+			}
+			return null;
+		}
+	};
+
+	@Nullable
+	private static IteratorEncoder analyzeEncoding(final Type manifest, final Type element, final Class<?> raw, final DslJson json) {
+		final IteratorEncoder.Source source;
+		if (hasBeanProperties(raw)) {
+			return null;
+		} else if (Iterator.class.isAssignableFrom(raw)) {
+			source = IteratorEncoder.Source.ITERATOR;
+		} else if (Iterable.class.isAssignableFrom(raw) && !Collection.class.isAssignableFrom(raw)) {
+			source = IteratorEncoder.Source.ITERABLE;
+		} else if (Stream.class.isAssignableFrom(raw)) {
+			source = IteratorEncoder.Source.STREAM;
+		} else if (Spliterator.class.isAssignableFrom(raw)) {
+			source = IteratorEncoder.Source.SPLITERATOR;
+		} else {
+			return null;
+		}
+		final JsonWriter.WriteObject<?> writer = Object.class == element ? null : json.tryFindWriter(element);
+		if (Object.class != element && writer == null) {
+			return null;
+		}
+		final IteratorEncoder encoder = new IteratorEncoder<>(json, source, Settings.isKnownType(element) ? writer : null);
+		json.registerWriter(manifest, encoder);
+		return encoder;
+	}
+
+	//classes which expose properties are objects which happen to be iterable, eg. a page with items
+	private static boolean hasBeanProperties(final Class<?> raw) {
+		if (raw.isInterface() || raw.getName().startsWith("java.")) return false;
+		for (final Field field : raw.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers())) return true;
+		}
+		for (final Method method : raw.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())
+					|| method.getParameterCount() != 0
+					|| method.getReturnType() == void.class
+					|| method.getDeclaringClass().getName().startsWith("java.")) continue;
+			final String name = method.getName();
+			if (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2) return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,93 @@
+package com.dslplatform.json.runtime;
+
+import com.dslplatform.json.*;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+/**
+ * Writes elements as JSON array while they are pulled from the source.
+ * Source is consumed during serialization, but it's not closed.
+ * When writer targets a stream, JSON is flushed as buffer fills up,
+ * so memory usage does not depend on the number of elements.
+ *
+ * @param <E> element type
+ */
+public final class IteratorEncoder<E> implements JsonWriter.WriteObject<Object> {
+
+	enum Source {
+		ITERATOR,
+		ITERABLE,
+		STREAM,
+		SPLITERATOR
+	}
+
+	private final DslJson json;
+	private final Source source;
+	private final JsonWriter.WriteObject<E> encoder;
+
+	IteratorEncoder(
+			final DslJson json,
+			final Source source,
+			@Nullable final JsonWriter.WriteObject<E> encoder) {
+		if (json == null) throw new IllegalArgumentException("json can't be null");
+		if (source == null) throw new IllegalArgumentException("source can't be null");
+		this.json = json;
+		this.source = source;
+		this.encoder = encoder;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<E> iterator(final Object value) {
+		switch (source) {
+			case ITERABLE:
+				return ((Iterable<E>) value).iterator();
+			case STREAM:
+				return ((Stream<E>) value).iterator();
+			case SPLITERATOR:
+				return Spliterators.iterator((Spliterator<E>) value);
+			default:
+				return (Iterator<E>) value;
+		}
+	}
+
+	@Override
+	public void write(final JsonWriter writer, @Nullable final Object value) {
+		if (value == null) {
+			writer.writeNull();
+			return;
+		}
+		final Iterator<E> iterator = iterator(value);
+		if (encoder != null) {
+			writer.serialize(iterator, encoder);
+			return;
+		}
+		writer.writeByte(JsonWriter.ARRAY_START);
+		Class<?> lastClass = null;
+		JsonWriter.WriteObject lastEncoder = null;
+		boolean pastFirst = false;
+		while (iterator.hasNext()) {
+			final E e = iterator.next();
+			if (pastFirst) {
+				writer.writeByte(JsonWriter.COMMA);
+			} else {
+				pastFirst = true;
+			}
+			if (e == null) writer.writeNull();
+			else {
+				final Class<?> currentClass = e.getClass();
+				if (currentClass != lastClass) {
+					lastClass = currentClass;
+					lastEncoder = json.tryFindWriter(lastClass);
+					if (lastEncoder == null) {
+						throw new ConfigurationException("Unable to find writer for " + lastClass);
+					}
+				}
+				lastEncoder.write(writer, e);
+			}
+		}
+		writer.writeByte(JsonWriter.ARRAY_END);
+	}
+}
@@ -45,7 +45,7 @@ class LazyAttributeObjectEncoder<T, R> implements JsonWriter.WriteObject<T> {
 		if (type == null) {
 			if (attr == null) {
 				if (alwaysSerialize) {
-					writer.writeAscii(quotedName);
+					writer.writeAttributeName(quotedName);
 					writer.writeNull();
 				}
 			} else {
@@ -58,11 +58,11 @@ class LazyAttributeObjectEncoder<T, R> implements JsonWriter.WriteObject<T> {
 					final Object tmpDefault = json.getDefault(manifest);
 					if (attr == tmpDefault) return;
 				}
-				writer.writeAscii(quotedName);
+				writer.writeAttributeName(quotedName);
 				tmp.write(writer, attr);
 			}
 		} else if (alwaysSerialize || attr != defaultValue) {
-			writer.writeAscii(quotedName);
+			writer.writeAttributeName(quotedName);
 			encoder.write(writer, attr);
 		}
 	}
@@ -77,6 +77,22 @@ public abstract class MapAnalyzer {
 		}
 	}
 
+	private static Callable recycled(final Type manifest, final Callable newInstance, final DslJson json) {
+		final InstancePool<Map> pool = json.recyclingPool(manifest, () -> {
+			try {
+				return (Map) newInstance.call();
+			} catch (Exception ex) {
+				throw new ConfigurationException("Unable to create a new instance of " + Reflection.typeDescription(manifest), ex);
+			}
+		}, (InstancePool.Reset<Map>) Map::clear);
+		if (pool == null) return newInstance;
+		//pool created by generated decoders doesn't create instances
+		return () -> {
+			final Map instance = pool.acquire();
+			return instance != null ? instance : newInstance.call();
+		};
+	}
+
 	@Nullable
 	private static MapDecoder analyzeDecoder(final Type manifest, final Type key, final Type value, final Class<?> map, final DslJson json) {
 		if (!Map.class.isAssignableFrom(map)) return null;
@@ -106,7 +122,7 @@ public abstract class MapAnalyzer {
 		final MapDecoder decoder =
 				new MapDecoder(
 						manifest,
-						newInstance,
+						recycled(manifest, newInstance, json),
 						Object.class == key ? stringReader : keyReader,
 						valueReader);
 		json.registerReader(manifest, decoder);
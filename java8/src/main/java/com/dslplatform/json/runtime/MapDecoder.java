@@ -9,7 +9,7 @@ import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
-public final class MapDecoder<K, V, T extends Map<K, V>> implements JsonReader.ReadObject<T> {
+public final class MapDecoder<K, V, T extends Map<K, V>> implements JsonReader.ReadObject<T>, JsonReader.BindObject<T> {
 
 	private final Type manifest;
 	private final Callable<T> newInstance;
@@ -36,12 +36,33 @@ public final class MapDecoder<K, V, T extends Map<K, V>> implements JsonReader.R
 	public T read(JsonReader reader) throws IOException {
 		if (reader.wasNull()) return null;
 		if (reader.last() != '{') throw reader.newParseError("Expecting '{' for map start");
-		final T instance;
+		return fill(reader, create(), false);
+	}
+
+	private T create() {
 		try {
-			instance = newInstance.call();
+			return newInstance.call();
 		} catch (Exception e) {
 			throw new ConfigurationException("Unable to create a new instance of " + Reflection.typeDescription(manifest), e);
 		}
+	}
+
+	/**
+	 * Existing map is cleared and filled with decoded entries.
+	 * When map rejects modification (eg. unmodifiable map) entries are decoded into a new map which is returned instead.
+	 */
+	@Override
+	public T bind(final JsonReader reader, final T instance) throws IOException {
+		if (reader.last() != '{') throw reader.newParseError("Expecting '{' for map start");
+		try {
+			instance.clear();
+		} catch (UnsupportedOperationException ignore) {
+			return fill(reader, create(), false);
+		}
+		return fill(reader, instance, true);
+	}
+
+	private T fill(final JsonReader reader, T instance, final boolean existing) throws IOException {
 		if (reader.getNextToken() == '}') return instance;
 		K key = keyDecoder.read(reader);
 		if (key == null) {
@@ -50,7 +71,16 @@ public final class MapDecoder<K, V, T extends Map<K, V>> implements JsonReader.R
 		if (reader.getNextToken() != ':') throw reader.newParseError("Expecting ':' after key attribute");
 		reader.getNextToken();
 		V value = valueDecoder.read(reader);
-		instance.put(key, value);
+		if (existing) {
+			try {
+				instance.put(key, value);
+			} catch (UnsupportedOperationException ignore) {
+				instance = create();
+				instance.put(key, value);
+			}
+		} else {
+			instance.put(key, value);
+		}
 		while (reader.getNextToken() == ','){
 			reader.getNextToken();
 			key = keyDecoder.read(reader);
@@ -12,10 +12,10 @@ public final class MixinDescription<T> implements JsonWriter.WriteObject<T>, Jso
 
 	private static final Charset utf8 = Charset.forName("UTF-8");
 	private static final int defaultTypeHash = DecodePropertyInfo.calcHash("$type");
-	private static final byte[] defaultObjectStart = "{\"$type\":".getBytes(utf8);
+	private static final byte[] defaultQuotedDiscriminator = "\"$type\":".getBytes(utf8);
 
 	private final int typeHash;
-	private final byte[] objectStart;
+	private final byte[] quotedDiscriminator;
 	private final Type manifest;
 	private final FormatDescription<T>[] descriptions;
 	private final boolean alwaysSerialize;
@@ -53,7 +53,7 @@ public final class MixinDescription<T> implements JsonWriter.WriteObject<T>, Jso
 			throw new IllegalArgumentException("Invalid discriminator provided: " + discriminator);
 		}
 		this.typeHash = discriminator == null ? defaultTypeHash : DecodePropertyInfo.calcHash(discriminator);
-		this.objectStart = discriminator == null ? defaultObjectStart : ("{\"" + discriminator + "\":").getBytes(utf8);
+		this.quotedDiscriminator = discriminator == null ? defaultQuotedDiscriminator : ("\"" + discriminator + "\":").getBytes(utf8);
 		this.discriminator = discriminator == null ? "$type" : discriminator;
 		this.manifest = manifest;
 		this.descriptions = descriptions;
@@ -141,7 +141,8 @@ public final class MixinDescription<T> implements JsonWriter.WriteObject<T>, Jso
 		for (FormatDescription<T> od : descriptions) {
 			if (current != od.manifest) continue;
 			if (od.isObjectFormatFirst) {
-				writer.writeAscii(objectStart);
+				writer.writeByte(JsonWriter.OBJECT_START);
+				writer.writeAttributeName(quotedDiscriminator);
 				writer.writeAscii(od.quotedTypeName);
 				FormatConverter<T> ofd = od.objectFormat;
 				if (alwaysSerialize) {
@@ -152,12 +153,12 @@ public final class MixinDescription<T> implements JsonWriter.WriteObject<T>, Jso
 					if (pos != writer.size() || flushed != writer.flushed()) {
 						writer.writeByte(JsonWriter.OBJECT_END);
 					} else {
-						writer.getByteBuffer()[writer.size() - 1] = JsonWriter.OBJECT_END;
+						writer.replaceTrailingComma(JsonWriter.OBJECT_END);
 					}
 				} else {
 					writer.writeByte(JsonWriter.COMMA);
 					ofd.writeContentMinimal(writer, instance);
-					writer.getByteBuffer()[writer.size() - 1] = JsonWriter.OBJECT_END;
+					writer.replaceTrailingComma(JsonWriter.OBJECT_END);
 				}
 			} else {
 				writer.writeByte(JsonWriter.ARRAY_START);
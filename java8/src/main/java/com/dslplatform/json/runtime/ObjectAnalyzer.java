@@ -185,27 +185,34 @@ public abstract class ObjectAnalyzer {
 			final int index,
 			final HashMap<Type, Type> genericMappings) {
 		if (!canRead(field.getModifiers()) || !canWrite(field.getModifiers())) return false;
+		if (field.getType().isPrimitive()) {
+			final PrimitiveAttributes.Attribute<Object> attr = PrimitiveAttributes.forField(field, field.getName(), json, true);
+			if (attr != null) {
+				foundWrite.put(field.getName(), attr);
+				foundRead.put(field.getName(), new DecodePropertyInfo<>(field.getName(), false, false, index, false, attr));
+				return true;
+			}
+		}
 		final Type type = field.getGenericType();
 		final Type concreteType = Generics.makeConcrete(type, genericMappings);
 		final boolean isUnknown = Generics.isUnknownType(type);
 		if (isUnknown || json.tryFindWriter(concreteType) != null && json.tryFindReader(concreteType) != null) {
+			final Settings.Function read = Reflection.readField(field);
 			foundWrite.put(
 					field.getName(),
 					Settings.createEncoder(
-							new Reflection.ReadField(field),
+							read,
 							field.getName(),
 							json,
 							isUnknown ? null : concreteType));
 			foundRead.put(
 					field.getName(),
-					Settings.createDecoder(
-							new Reflection.SetField(field),
+					createDecoder(
+							read,
+							Reflection.setField(field),
 							field.getName(),
 							json,
-							false,
-							false,
 							index,
-							false,
 							concreteType));
 			return true;
 		}
@@ -231,33 +238,58 @@ public abstract class ObjectAnalyzer {
 		final String name = Analysis.beanOrActualName(mget.getName());
 		if (!canRead(mget.getModifiers()) || !canWrite(mset.getModifiers())) return false;
 		if (foundRead.containsKey(name) && foundWrite.containsKey(name)) return false;
+		if (mget.getReturnType().isPrimitive()) {
+			final PrimitiveAttributes.Attribute<Object> attr = PrimitiveAttributes.forMethods(mget, mset, name, json);
+			if (attr != null) {
+				foundWrite.put(name, attr);
+				foundRead.put(name, new DecodePropertyInfo<>(name, false, false, index, false, attr));
+				return true;
+			}
+		}
 		final Type type = mget.getGenericReturnType();
 		final Type concreteType = Generics.makeConcrete(type, genericMappings);
 		final boolean isUnknown = Generics.isUnknownType(type);
 		if (isUnknown || json.tryFindWriter(concreteType) != null && json.tryFindReader(concreteType) != null) {
+			final Settings.Function read = Reflection.readMethod(mget);
 			foundWrite.put(
 					name,
 					Settings.createEncoder(
-							new Reflection.ReadMethod(mget),
+							read,
 							name,
 							json,
 							isUnknown ? null : concreteType));
 			foundRead.put(
 					name,
-					Settings.createDecoder(
-							new Reflection.SetMethod(mset),
+					createDecoder(
+							read,
+							Reflection.setMethod(mset),
 							name,
 							json,
-							false,
-							false,
 							index,
-							false,
 							concreteType));
 			return true;
 		}
 		return false;
 	}
 
+	private static DecodePropertyInfo<JsonReader.BindObject> createDecoder(
+			final Settings.Function read,
+			final Settings.BiConsumer write,
+			final String name,
+			final DslJson json,
+			final int index,
+			final Type type) {
+		//array classes are reported as abstract, but their decoders can be used directly
+		final boolean isArray = type instanceof Class<?> && ((Class<?>) type).isArray();
+		if (json.deepBind && (isArray || Settings.isKnownType(type))) {
+			final JsonReader.ReadObject decoder = json.tryFindReader(type);
+			if (decoder != null) {
+				return new DecodePropertyInfo<>(name, false, false, index, false, new AttributeDecoder<>(write, decoder, read));
+			}
+		}
+		return Settings.createDecoder(write, name, json, false, false, index, false, type);
+	}
+
 	private static boolean canRead(final int modifiers) {
 		return (modifiers & Modifier.PUBLIC) != 0
 				&& (modifiers & Modifier.TRANSIENT) == 0
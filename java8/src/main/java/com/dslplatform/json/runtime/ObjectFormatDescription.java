@@ -4,6 +4,7 @@ import com.dslplatform.json.*;
 
 import java.io.IOException;
 import java.lang.reflect.*;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class ObjectFormatDescription<B, T> extends WriteDescription<T> implements FormatConverter<T>, JsonReader.BindObject<B> {
 
@@ -11,11 +12,25 @@ public final class ObjectFormatDescription<B, T> extends WriteDescription<T> imp
 	private final InstanceFactory<B> newInstance;
 	private final Settings.Function<B, T> finalize;
 	private final DecodePropertyInfo<JsonReader.BindObject>[] decoders;
+	private final int[] decoderIndex;
 	private final boolean skipOnUnknown;
 	private final boolean hasMandatory;
 	private final long mandatoryFlag;
 	private final String startError;
 	private final String endError;
+	private final boolean adaptiveOrder;
+	private volatile DecodePropertyInfo<JsonReader.BindObject>[] ordered;
+	@Nullable
+	private DecodePropertyInfo<JsonReader.BindObject>[] candidate;
+	private int candidateVotes;
+	private long slowAtSwitch;
+	private long decodesAtSwitch;
+	private final LongAdder slowPath = new LongAdder();
+	@Nullable
+	private final LongAdder decodes;
+
+	//how many votes candidate order needs before fast path is switched to it
+	private static final int MIN_VOTES = 16;
 
 	private static final Settings.Function identity = new Settings.Function() {
 		@Override
@@ -48,14 +63,48 @@ public final class ObjectFormatDescription<B, T> extends WriteDescription<T> imp
 		if (finalize == null) throw new IllegalArgumentException("finalize can't be null");
 		if (decoders == null) throw new IllegalArgumentException("decoders can't be null");
 		this.manifest = manifest;
-		this.newInstance = newInstance;
+		//builders are not exposed to the application, so only instances decoded without a builder can be recycled
+		final InstancePool<B> pool = finalize == identity ? json.recyclingPool(manifest, newInstance::create) : null;
+		//pool created by generated decoders doesn't create instances
+		this.newInstance = pool != null ? () -> {
+			final B instance = pool.acquire();
+			return instance != null ? instance : newInstance.create();
+		} : newInstance;
 		this.finalize = finalize;
 		this.decoders = DecodePropertyInfo.prepare(decoders);
+		this.decoderIndex = DecodePropertyInfo.createIndex(this.decoders);
 		this.skipOnUnknown = skipOnUnknown;
 		this.mandatoryFlag = DecodePropertyInfo.calculateMandatory(this.decoders);
 		this.hasMandatory = mandatoryFlag != 0;
 		this.startError = String.format("Expecting '{' to start decoding %s", Reflection.typeDescription(manifest));
 		this.endError = String.format("Expecting '}' or ',' while decoding %s", Reflection.typeDescription(manifest));
+		this.adaptiveOrder = json.adaptivePropertyOrder;
+		this.ordered = this.decoders;
+		this.decodes = adaptiveOrder ? new LongAdder() : null;
+	}
+
+	//when builder is used, result of decoding is not the instance which is bound
+	boolean bindsResult() {
+		return finalize == identity;
+	}
+
+	/**
+	 * Number of objects which could not be decoded via the fast path,
+	 * because properties did not arrive in the expected order or there were unknown properties.
+	 *
+	 * @return how many times slow path was used
+	 */
+	public long getSlowPathCount() {
+		return slowPath.sum();
+	}
+
+	/**
+	 * Number of decoded objects. Only tracked when adaptive property order is enabled.
+	 *
+	 * @return how many objects were decoded or -1 when not tracked
+	 */
+	public long getDecodeCount() {
+		return decodes != null ? decodes.sum() : -1;
 	}
 
 	@Nullable
@@ -75,102 +124,201 @@ public final class ObjectFormatDescription<B, T> extends WriteDescription<T> imp
 			throw reader.newParseError(startError);
 		}
 		reader.getNextToken();
-		bindContent(reader, instance);
+		bindContent(reader, instance, true);
 		return instance;
 	}
 
 	@Override
 	public T readContent(final JsonReader reader) throws IOException {
 		final B instance = newInstance.create();
-		bindContent(reader, instance);
+		bindContent(reader, instance, false);
 		return finalize.apply(instance);
 	}
 
-	private void bindContent(final JsonReader reader, final B instance) throws IOException {
+	/*
+	 * Existing instance is the one provided by the caller (or found on such instance during deep bind).
+	 * Nested values are reused only for existing instances, since values on a new instance
+	 * are defaults from its constructor, which might be immutable or shared.
+	 */
+	private void bindContent(final JsonReader reader, final B instance, final boolean existing) throws IOException {
+		if (decodes != null) decodes.increment();
 		if (reader.last() == '}') {
 			if (hasMandatory) {
 				DecodePropertyInfo.showMandatoryError(reader, mandatoryFlag, decoders);
 			}
 			return;
 		}
+		final DecodePropertyInfo<JsonReader.BindObject>[] ordered = this.ordered;
 		long currentMandatory = mandatoryFlag;
 		int i = 0;
-		while(i < decoders.length) {
-			final DecodePropertyInfo<JsonReader.BindObject> ri = decoders[i++];
+		while(i < ordered.length) {
+			final DecodePropertyInfo<JsonReader.BindObject> ri = ordered[i++];
 			final int weakHash = reader.fillNameWeakHash();
 			if (weakHash != ri.weakHash || !reader.wasLastName(ri.nameBytes)) {
-				bindObjectSlow(reader, instance, currentMandatory);
+				bindObjectSlow(reader, instance, existing, currentMandatory, ordered, i - 1);
 				return;
 			}
 			reader.getNextToken();
 			if (ri.nonNull && reader.wasNull()) {
 				throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
 			}
-			ri.value.bind(reader, instance);
+			bindValue(ri, reader, instance, existing);
 			currentMandatory = currentMandatory & ri.mandatoryValue;
-			if (reader.getNextToken() == ',' && i != decoders.length) reader.getNextToken();
+			if (reader.getNextToken() == ',' && i != ordered.length) reader.getNextToken();
 			else break;
 		}
-		finalChecks(reader, instance, currentMandatory);
+		if (reader.last() == ',') {
+			reader.getNextToken();
+			reader.fillNameWeakHash();
+			bindObjectSlow(reader, instance, existing, currentMandatory, ordered, i);
+		} else {
+			finalChecks(reader, currentMandatory);
+		}
 	}
 
-	private void bindObjectSlow(final JsonReader reader, final B instance, long currentMandatory) throws IOException {
-		boolean processed = false;
-		final int oldHash = reader.getLastHash();
-		for (final DecodePropertyInfo<JsonReader.BindObject> ri : decoders) {
-			if (oldHash != ri.hash) continue;
-			if (ri.exactName) {
-				if (!reader.wasLastName(ri.nameBytes)) continue;
+	private void bindObjectSlow(
+			final JsonReader reader,
+			final B instance,
+			final boolean existing,
+			long currentMandatory,
+			final DecodePropertyInfo<JsonReader.BindObject>[] ordered,
+			final int matched) throws IOException {
+		slowPath.increment();
+		//observed order is compared with the current and the candidate order while binding.
+		//order is copied only when it differs from both of them
+		final boolean learning = adaptiveOrder && decoders.length <= Long.SIZE;
+		final DecodePropertyInfo<JsonReader.BindObject>[] candidate = learning ? this.candidate : null;
+		DecodePropertyInfo<JsonReader.BindObject>[] matching = ordered;
+		DecodePropertyInfo<JsonReader.BindObject>[] alternative = candidate;
+		long seen = 0;
+		for (int i = 0; i < matched; i++) {
+			seen |= 1L << ordered[i].index;
+			if (alternative != null && alternative[i] != ordered[i]) alternative = null;
+		}
+		int count = matched;
+		int hash = reader.getLastHash();
+		while (true) {
+			final DecodePropertyInfo<JsonReader.BindObject> ri = bindProperty(reader, instance, existing, hash);
+			if (ri != null) {
+				currentMandatory = currentMandatory & ri.mandatoryValue;
+				if (learning && (seen & (1L << ri.index)) == 0) {
+					seen |= 1L << ri.index;
+					if (alternative != null && alternative[count] != ri) alternative = null;
+					if (matching[count] != ri) {
+						if (alternative != null) {
+							matching = alternative;
+							alternative = null;
+						} else {
+							if (matching == ordered || matching == candidate) matching = matching.clone();
+							matching[count] = ri;
+						}
+					}
+					count++;
+				}
 			}
+			if (reader.last() != ',') break;
 			reader.getNextToken();
-			if (ri.nonNull && reader.wasNull()) {
-				throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
-			}
-			ri.value.bind(reader, instance);
-			currentMandatory = currentMandatory & ri.mandatoryValue;
-			processed = true;
-			break;
+			hash = reader.fillName();
 		}
-		if (!processed) skip(reader);
-		else reader.getNextToken();
-		while (reader.last() == ','){
-			reader.getNextToken();
-			final int hash = reader.fillName();
-			processed = false;
-			for (final DecodePropertyInfo<JsonReader.BindObject> ri : decoders) {
-				if (hash != ri.hash) continue;
-				if (ri.exactName) {
-					if (!reader.wasLastName(ri.nameBytes)) continue;
-				}
-				reader.getNextToken();
-				if (ri.nonNull && reader.wasNull()) {
-					throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
+		finalChecks(reader, currentMandatory);
+		if (!learning) return;
+		//properties which were not observed keep their declaration order
+		for (final DecodePropertyInfo<JsonReader.BindObject> ri : decoders) {
+			if ((seen & (1L << ri.index)) != 0) continue;
+			seen |= 1L << ri.index;
+			if (alternative != null && alternative[count] != ri) alternative = null;
+			if (matching[count] != ri) {
+				if (alternative != null) {
+					matching = alternative;
+					alternative = null;
+				} else {
+					if (matching == ordered || matching == candidate) matching = matching.clone();
+					matching[count] = ri;
 				}
-				ri.value.bind(reader, instance);
-				currentMandatory = currentMandatory & ri.mandatoryValue;
-				processed = true;
-				break;
 			}
-			if (!processed) skip(reader);
-			else reader.getNextToken();
+			count++;
+		}
+		//properties arrived in the current order, eg. slow path was used due to an unknown property
+		if (matching == ordered) return;
+		learn(matching, candidate);
+	}
+
+	@Nullable
+	private DecodePropertyInfo<JsonReader.BindObject> bindProperty(
+			final JsonReader reader,
+			final B instance,
+			final boolean existing,
+			final int hash) throws IOException {
+		final DecodePropertyInfo<JsonReader.BindObject> ri = DecodePropertyInfo.find(decoderIndex, decoders, hash, reader);
+		if (ri == null) {
+			skip(reader);
+			return null;
 		}
-		finalChecks(reader, instance, currentMandatory);
+		reader.getNextToken();
+		if (ri.nonNull && reader.wasNull()) {
+			throw reader.newParseErrorWith("Null value found for non-null attribute", ri.name);
+		}
+		bindValue(ri, reader, instance, existing);
+		reader.getNextToken();
+		return ri;
 	}
 
-	private void finalChecks(final JsonReader reader, final B instance, final long currentMandatory) throws IOException {
+	@SuppressWarnings("unchecked")
+	private static void bindValue(
+			final DecodePropertyInfo<JsonReader.BindObject> ri,
+			final JsonReader reader,
+			final Object instance,
+			final boolean existing) throws IOException {
+		if (existing && ri.value instanceof AttributeDecoder) {
+			((AttributeDecoder) ri.value).bindCurrent(reader, instance);
+		} else {
+			ri.value.bind(reader, instance);
+		}
+	}
+
+	private void finalChecks(final JsonReader reader, final long currentMandatory) throws IOException {
 		if (reader.last() != '}') {
-			if (reader.last() == ',') {
-				reader.getNextToken();
-				reader.fillNameWeakHash();
-				bindObjectSlow(reader, instance, currentMandatory);
-				return;
-			} else throw reader.newParseError(endError);
+			throw reader.newParseError(endError);
 		}
 		if (hasMandatory && currentMandatory != 0) {
 			DecodePropertyInfo.showMandatoryError(reader, currentMandatory, decoders);
 		}
 	}
 
+	/*
+	 * Majority vote over orders seen on the slow path.
+	 * Order is switched only when it keeps winning votes and slow path is used for most of the decodes since last switch,
+	 * so that a minority order can't switch it back and forth with the dominant one.
+	 * Orders which match the current one don't vote, so voting stops once the dominant order is adopted.
+	 * State is updated without synchronization; races can only delay or repeat a switch.
+	 */
+	private void learn(
+			final DecodePropertyInfo<JsonReader.BindObject>[] order,
+			@Nullable final DecodePropertyInfo<JsonReader.BindObject>[] current) {
+		if (current == null || candidateVotes == 0) {
+			candidate = order;
+			candidateVotes = 1;
+			return;
+		}
+		if (order != current) {
+			candidateVotes--;
+			return;
+		}
+		if (candidateVotes < MIN_VOTES) {
+			candidateVotes++;
+			return;
+		}
+		final long slow = slowPath.sum();
+		final long total = decodes.sum();
+		if ((slow - slowAtSwitch) * 2 > total - decodesAtSwitch) {
+			slowAtSwitch = slow;
+			decodesAtSwitch = total;
+			candidate = null;
+			candidateVotes = 0;
+			ordered = current;
+		}
+	}
+
 	private void skip(final JsonReader reader) throws IOException {
 		if (!skipOnUnknown) {
 			final String name = reader.getLastName();
@@ -0,0 +1,613 @@
+package com.dslplatform.json.runtime;
+
+import com.dslplatform.json.*;
+
+import java.io.IOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+
+/**
+ * Property encoders and decoders for primitive int, long, double, float and boolean properties.
+ * Values are read from the instance and written into JsonWriter (and vice versa) without boxing.
+ * They are used only while builtin converters are registered for the primitive type,
+ * so custom primitive converters will still go through the generic attribute path.
+ */
+abstract class PrimitiveAttributes {
+
+	private static final Charset utf8 = Charset.forName("UTF-8");
+
+	interface IntGetter {
+		int get(Object instance);
+	}
+
+	interface IntSetter {
+		void set(Object instance, int value);
+	}
+
+	interface LongGetter {
+		long get(Object instance);
+	}
+
+	interface LongSetter {
+		void set(Object instance, long value);
+	}
+
+	interface DoubleGetter {
+		double get(Object instance);
+	}
+
+	interface DoubleSetter {
+		void set(Object instance, double value);
+	}
+
+	interface FloatGetter {
+		float get(Object instance);
+	}
+
+	interface FloatSetter {
+		void set(Object instance, float value);
+	}
+
+	interface BoolGetter {
+		boolean get(Object instance);
+	}
+
+	interface BoolSetter {
+		void set(Object instance, boolean value);
+	}
+
+	/**
+	 * Attribute which can be used both for encoding and for binding.
+	 * Attributes created without a setter can only be used for encoding.
+	 */
+	static abstract class Attribute<T> implements JsonWriter.WriteObject<T>, JsonReader.BindObject<T> {
+		final byte[] quotedName;
+		final boolean omitDefaults;
+
+		Attribute(final String name, final boolean omitDefaults) {
+			if (name == null || name.isEmpty()) throw new IllegalArgumentException("name can't be null");
+			this.quotedName = ("\"" + name + "\":").getBytes(utf8);
+			this.omitDefaults = omitDefaults;
+		}
+	}
+
+	/**
+	 * Create attribute for public primitive field.
+	 *
+	 * @param field    public instance field
+	 * @param name     JSON property name
+	 * @param json     DslJson with registered primitive converters
+	 * @param writable should attribute support binding
+	 * @return attribute or null if field type is not supported
+	 */
+	@Nullable
+	static <T> Attribute<T> forField(final Field field, final String name, final DslJson json, final boolean writable) {
+		final Class<?> type = field.getType();
+		if (!hasBuiltinConverters(json, type)) return null;
+		if (type == int.class) {
+			final IntField access = new IntField(field);
+			return new IntAttribute<>(name, json.omitDefaults, access, writable ? access : null);
+		} else if (type == long.class) {
+			final LongField access = new LongField(field);
+			return new LongAttribute<>(name, json.omitDefaults, access, writable ? access : null);
+		} else if (type == double.class) {
+			final DoubleField access = new DoubleField(field);
+			return new DoubleAttribute<>(name, json.omitDefaults, access, writable ? access : null);
+		} else if (type == float.class) {
+			final FloatField access = new FloatField(field);
+			return new FloatAttribute<>(name, json.omitDefaults, access, writable ? access : null);
+		}
+		final BoolField access = new BoolField(field);
+		return new BoolAttribute<>(name, json.omitDefaults, access, writable ? access : null);
+	}
+
+	/**
+	 * Create attribute for public primitive getter and optional setter.
+	 * Accessors are generated as lambdas, so when that's not possible null will be returned
+	 * and generic attribute should be used instead.
+	 * Exceptions thrown by the accessors are wrapped into ConfigurationException, same as in the generic attribute.
+	 *
+	 * @param getter public getter method
+	 * @param setter public setter method or null when binding is not required
+	 * @param name   JSON property name
+	 * @param json   DslJson with registered primitive converters
+	 * @return attribute or null if it can't be created
+	 */
+	@Nullable
+	static <T> Attribute<T> forMethods(final Method getter, @Nullable final Method setter, final String name, final DslJson json) {
+		final Class<?> type = getter.getReturnType();
+		if (!hasBuiltinConverters(json, type)) return null;
+		if (setter != null && (setter.getParameterTypes().length != 1 || setter.getParameterTypes()[0] != type)) return null;
+		final Class<?> getterSignature;
+		final Class<?> setterSignature;
+		if (type == int.class) {
+			getterSignature = IntGetter.class;
+			setterSignature = IntSetter.class;
+		} else if (type == long.class) {
+			getterSignature = LongGetter.class;
+			setterSignature = LongSetter.class;
+		} else if (type == double.class) {
+			getterSignature = DoubleGetter.class;
+			setterSignature = DoubleSetter.class;
+		} else if (type == float.class) {
+			getterSignature = FloatGetter.class;
+			setterSignature = FloatSetter.class;
+		} else {
+			getterSignature = BoolGetter.class;
+			setterSignature = BoolSetter.class;
+		}
+		final Object read = Reflection.lambda(getter, "get", getterSignature, MethodType.methodType(type, Object.class));
+		if (read == null) return null;
+		final Object write;
+		if (setter != null) {
+			write = Reflection.lambda(setter, "set", setterSignature, MethodType.methodType(void.class, Object.class, type));
+			if (write == null) return null;
+		} else write = null;
+		if (type == int.class) {
+			final IntMethods access = new IntMethods(getter, setter, (IntGetter) read, (IntSetter) write);
+			return new IntAttribute<>(name, json.omitDefaults, access, write != null ? access : null);
+		} else if (type == long.class) {
+			final LongMethods access = new LongMethods(getter, setter, (LongGetter) read, (LongSetter) write);
+			return new LongAttribute<>(name, json.omitDefaults, access, write != null ? access : null);
+		} else if (type == double.class) {
+			final DoubleMethods access = new DoubleMethods(getter, setter, (DoubleGetter) read, (DoubleSetter) write);
+			return new DoubleAttribute<>(name, json.omitDefaults, access, write != null ? access : null);
+		} else if (type == float.class) {
+			final FloatMethods access = new FloatMethods(getter, setter, (FloatGetter) read, (FloatSetter) write);
+			return new FloatAttribute<>(name, json.omitDefaults, access, write != null ? access : null);
+		}
+		final BoolMethods access = new BoolMethods(getter, setter, (BoolGetter) read, (BoolSetter) write);
+		return new BoolAttribute<>(name, json.omitDefaults, access, write != null ? access : null);
+	}
+
+	static boolean hasBuiltinConverters(final DslJson json, final Class<?> type) {
+		if (type == int.class) {
+			return json.tryFindWriter(type) == NumberConverter.INT_WRITER && json.tryFindReader(type) == NumberConverter.INT_READER;
+		} else if (type == long.class) {
+			return json.tryFindWriter(type) == NumberConverter.LONG_WRITER && json.tryFindReader(type) == NumberConverter.LONG_READER;
+		} else if (type == double.class) {
+			return json.tryFindWriter(type) == NumberConverter.DOUBLE_WRITER && json.tryFindReader(type) == NumberConverter.DOUBLE_READER;
+		} else if (type == float.class) {
+			return json.tryFindWriter(type) == NumberConverter.FLOAT_WRITER && json.tryFindReader(type) == NumberConverter.FLOAT_READER;
+		} else if (type == boolean.class) {
+			return json.tryFindWriter(type) == BoolConverter.WRITER && json.tryFindReader(type) == BoolConverter.READER;
+		}
+		return false;
+	}
+
+	static final class IntAttribute<T> extends Attribute<T> {
+		private final IntGetter getter;
+		@Nullable
+		private final IntSetter setter;
+
+		IntAttribute(final String name, final boolean omitDefaults, final IntGetter getter, @Nullable final IntSetter setter) {
+			super(name, omitDefaults);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void write(final JsonWriter writer, @Nullable final T value) {
+			final int attr = getter.get(value);
+			if (omitDefaults && attr == 0) return;
+			writer.writeAttributeName(quotedName);
+			NumberConverter.serialize(attr, writer);
+		}
+
+		@Override
+		public T bind(final JsonReader reader, final T instance) throws IOException {
+			setter.set(instance, NumberConverter.deserializeInt(reader));
+			return instance;
+		}
+	}
+
+	static final class LongAttribute<T> extends Attribute<T> {
+		private final LongGetter getter;
+		@Nullable
+		private final LongSetter setter;
+
+		LongAttribute(final String name, final boolean omitDefaults, final LongGetter getter, @Nullable final LongSetter setter) {
+			super(name, omitDefaults);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void write(final JsonWriter writer, @Nullable final T value) {
+			final long attr = getter.get(value);
+			if (omitDefaults && attr == 0) return;
+			writer.writeAttributeName(quotedName);
+			NumberConverter.serialize(attr, writer);
+		}
+
+		@Override
+		public T bind(final JsonReader reader, final T instance) throws IOException {
+			setter.set(instance, NumberConverter.deserializeLong(reader));
+			return instance;
+		}
+	}
+
+	static final class DoubleAttribute<T> extends Attribute<T> {
+		private final DoubleGetter getter;
+		@Nullable
+		private final DoubleSetter setter;
+
+		DoubleAttribute(final String name, final boolean omitDefaults, final DoubleGetter getter, @Nullable final DoubleSetter setter) {
+			super(name, omitDefaults);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void write(final JsonWriter writer, @Nullable final T value) {
+			final double attr = getter.get(value);
+			if (omitDefaults && Double.doubleToRawLongBits(attr) == 0) return;
+			writer.writeAttributeName(quotedName);
+			NumberConverter.serialize(attr, writer);
+		}
+
+		@Override
+		public T bind(final JsonReader reader, final T instance) throws IOException {
+			setter.set(instance, NumberConverter.deserializeDouble(reader));
+			return instance;
+		}
+	}
+
+	static final class FloatAttribute<T> extends Attribute<T> {
+		private final FloatGetter getter;
+		@Nullable
+		private final FloatSetter setter;
+
+		FloatAttribute(final String name, final boolean omitDefaults, final FloatGetter getter, @Nullable final FloatSetter setter) {
+			super(name, omitDefaults);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void write(final JsonWriter writer, @Nullable final T value) {
+			final float attr = getter.get(value);
+			if (omitDefaults && Float.floatToRawIntBits(attr) == 0) return;
+			writer.writeAttributeName(quotedName);
+			NumberConverter.serialize(attr, writer);
+		}
+
+		@Override
+		public T bind(final JsonReader reader, final T instance) throws IOException {
+			setter.set(instance, NumberConverter.deserializeFloat(reader));
+			return instance;
+		}
+	}
+
+	static final class BoolAttribute<T> extends Attribute<T> {
+		private final BoolGetter getter;
+		@Nullable
+		private final BoolSetter setter;
+
+		BoolAttribute(final String name, final boolean omitDefaults, final BoolGetter getter, @Nullable final BoolSetter setter) {
+			super(name, omitDefaults);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void write(final JsonWriter writer, @Nullable final T value) {
+			final boolean attr = getter.get(value);
+			if (omitDefaults && !attr) return;
+			writer.writeAttributeName(quotedName);
+			BoolConverter.serialize(attr, writer);
+		}
+
+		@Override
+		public T bind(final JsonReader reader, final T instance) throws IOException {
+			setter.set(instance, BoolConverter.deserialize(reader));
+			return instance;
+		}
+	}
+
+	private static ConfigurationException accessError(final String action, final Field field, final IllegalAccessException e) {
+		return new ConfigurationException("Unable to " + action + " field " + field.getName() + " of " + field.getDeclaringClass(), e);
+	}
+
+	static final class IntField implements IntGetter, IntSetter {
+		private final Field field;
+
+		IntField(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public int get(final Object instance) {
+			try {
+				return field.getInt(instance);
+			} catch (IllegalAccessException e) {
+				throw accessError("read", field, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final int value) {
+			try {
+				field.setInt(instance, value);
+			} catch (IllegalAccessException e) {
+				throw accessError("set", field, e);
+			}
+		}
+	}
+
+	static final class LongField implements LongGetter, LongSetter {
+		private final Field field;
+
+		LongField(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public long get(final Object instance) {
+			try {
+				return field.getLong(instance);
+			} catch (IllegalAccessException e) {
+				throw accessError("read", field, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final long value) {
+			try {
+				field.setLong(instance, value);
+			} catch (IllegalAccessException e) {
+				throw accessError("set", field, e);
+			}
+		}
+	}
+
+	static final class DoubleField implements DoubleGetter, DoubleSetter {
+		private final Field field;
+
+		DoubleField(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public double get(final Object instance) {
+			try {
+				return field.getDouble(instance);
+			} catch (IllegalAccessException e) {
+				throw accessError("read", field, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final double value) {
+			try {
+				field.setDouble(instance, value);
+			} catch (IllegalAccessException e) {
+				throw accessError("set", field, e);
+			}
+		}
+	}
+
+	static final class FloatField implements FloatGetter, FloatSetter {
+		private final Field field;
+
+		FloatField(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public float get(final Object instance) {
+			try {
+				return field.getFloat(instance);
+			} catch (IllegalAccessException e) {
+				throw accessError("read", field, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final float value) {
+			try {
+				field.setFloat(instance, value);
+			} catch (IllegalAccessException e) {
+				throw accessError("set", field, e);
+			}
+		}
+	}
+
+	static final class BoolField implements BoolGetter, BoolSetter {
+		private final Field field;
+
+		BoolField(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public boolean get(final Object instance) {
+			try {
+				return field.getBoolean(instance);
+			} catch (IllegalAccessException e) {
+				throw accessError("read", field, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final boolean value) {
+			try {
+				field.setBoolean(instance, value);
+			} catch (IllegalAccessException e) {
+				throw accessError("set", field, e);
+			}
+		}
+	}
+
+	static final class IntMethods implements IntGetter, IntSetter {
+		private final Method getterMethod;
+		@Nullable
+		private final Method setterMethod;
+		private final IntGetter getter;
+		@Nullable
+		private final IntSetter setter;
+
+		IntMethods(final Method getterMethod, @Nullable final Method setterMethod, final IntGetter getter, @Nullable final IntSetter setter) {
+			this.getterMethod = getterMethod;
+			this.setterMethod = setterMethod;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public int get(final Object instance) {
+			try {
+				return getter.get(instance);
+			} catch (Throwable e) {
+				throw Reflection.callError(getterMethod, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final int value) {
+			try {
+				setter.set(instance, value);
+			} catch (Throwable e) {
+				throw Reflection.callError(setterMethod, e);
+			}
+		}
+	}
+
+	static final class LongMethods implements LongGetter, LongSetter {
+		private final Method getterMethod;
+		@Nullable
+		private final Method setterMethod;
+		private final LongGetter getter;
+		@Nullable
+		private final LongSetter setter;
+
+		LongMethods(final Method getterMethod, @Nullable final Method setterMethod, final LongGetter getter, @Nullable final LongSetter setter) {
+			this.getterMethod = getterMethod;
+			this.setterMethod = setterMethod;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public long get(final Object instance) {
+			try {
+				return getter.get(instance);
+			} catch (Throwable e) {
+				throw Reflection.callError(getterMethod, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final long value) {
+			try {
+				setter.set(instance, value);
+			} catch (Throwable e) {
+				throw Reflection.callError(setterMethod, e);
+			}
+		}
+	}
+
+	static final class DoubleMethods implements DoubleGetter, DoubleSetter {
+		private final Method getterMethod;
+		@Nullable
+		private final Method setterMethod;
+		private final DoubleGetter getter;
+		@Nullable
+		private final DoubleSetter setter;
+
+		DoubleMethods(final Method getterMethod, @Nullable final Method setterMethod, final DoubleGetter getter, @Nullable final DoubleSetter setter) {
+			this.getterMethod = getterMethod;
+			this.setterMethod = setterMethod;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public double get(final Object instance) {
+			try {
+				return getter.get(instance);
+			} catch (Throwable e) {
+				throw Reflection.callError(getterMethod, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final double value) {
+			try {
+				setter.set(instance, value);
+			} catch (Throwable e) {
+				throw Reflection.callError(setterMethod, e);
+			}
+		}
+	}
+
+	static final class FloatMethods implements FloatGetter, FloatSetter {
+		private final Method getterMethod;
+		@Nullable
+		private final Method setterMethod;
+		private final FloatGetter getter;
+		@Nullable
+		private final FloatSetter setter;
+
+		FloatMethods(final Method getterMethod, @Nullable final Method setterMethod, final FloatGetter getter, @Nullable final FloatSetter setter) {
+			this.getterMethod = getterMethod;
+			this.setterMethod = setterMethod;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public float get(final Object instance) {
+			try {
+				return getter.get(instance);
+			} catch (Throwable e) {
+				throw Reflection.callError(getterMethod, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final float value) {
+			try {
+				setter.set(instance, value);
+			} catch (Throwable e) {
+				throw Reflection.callError(setterMethod, e);
+			}
+		}
+	}
+
+	static final class BoolMethods implements BoolGetter, BoolSetter {
+		private final Method getterMethod;
+		@Nullable
+		private final Method setterMethod;
+		private final BoolGetter getter;
+		@Nullable
+		private final BoolSetter setter;
+
+		BoolMethods(final Method getterMethod, @Nullable final Method setterMethod, final BoolGetter getter, @Nullable final BoolSetter setter) {
+			this.getterMethod = getterMethod;
+			this.setterMethod = setterMethod;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean get(final Object instance) {
+			try {
+				return getter.get(instance);
+			} catch (Throwable e) {
+				throw Reflection.callError(getterMethod, e);
+			}
+		}
+
+		@Override
+		public void set(final Object instance, final boolean value) {
+			try {
+				setter.set(instance, value);
+			} catch (Throwable e) {
+				throw Reflection.callError(setterMethod, e);
+			}
+		}
+	}
+}
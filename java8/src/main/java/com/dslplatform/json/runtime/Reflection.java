@@ -3,13 +3,211 @@ package com.dslplatform.json.runtime;
 import com.dslplatform.json.ConfigurationException;
 import com.dslplatform.json.Nullable;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 
 abstract class Reflection {
 
+	/**
+	 * Create accessor for reading public field.
+	 * Reflection is used for fields since method handles stored in a field are not inlined on JDK 8.
+	 *
+	 * @param field public instance field
+	 * @return function which reads field from an instance
+	 */
+	static Settings.Function readField(final Field field) {
+		return new ReadField(field);
+	}
+
+	/**
+	 * Create accessor for calling public getter.
+	 * Getter will be called through a generated lambda when possible so JIT can inline it,
+	 * otherwise reflection will be used.
+	 * Exceptions thrown by the getter are wrapped into ConfigurationException in both cases.
+	 *
+	 * @param method public instance method without arguments
+	 * @return function which calls getter on an instance
+	 */
+	static Settings.Function readMethod(final Method method) {
+		final MethodHandle getter = unreflect(method);
+		if (getter != null) {
+			final Object lambda = metafactory(
+					"apply",
+					Settings.Function.class,
+					MethodType.methodType(Object.class, Object.class),
+					getter,
+					getter.type().wrap());
+			if (lambda != null) return new LambdaReadMethod(method, (Settings.Function) lambda);
+		}
+		return new ReadMethod(method);
+	}
+
+	/**
+	 * Create accessor for writing public field.
+	 * Reflection is used for fields since method handles stored in a field are not inlined on JDK 8.
+	 *
+	 * @param field public non final instance field
+	 * @return consumer which sets field on an instance
+	 */
+	static Settings.BiConsumer setField(final Field field) {
+		return new SetField(field);
+	}
+
+	/**
+	 * Create accessor for calling public setter.
+	 * Setter will be called through a generated lambda when possible so JIT can inline it,
+	 * otherwise reflection will be used.
+	 * Exceptions thrown by the setter are wrapped into ConfigurationException in both cases.
+	 *
+	 * @param method public instance method with a single argument
+	 * @return consumer which calls setter on an instance
+	 */
+	static Settings.BiConsumer setMethod(final Method method) {
+		final MethodHandle setter = unreflect(method);
+		if (setter != null) {
+			final Object lambda = metafactory(
+					"accept",
+					Settings.BiConsumer.class,
+					MethodType.methodType(void.class, Object.class, Object.class),
+					setter,
+					setter.type().wrap().changeReturnType(void.class));
+			if (lambda != null) return new LambdaSetMethod(method, (Settings.BiConsumer) lambda);
+		}
+		return new SetMethod(method);
+	}
+
+	/**
+	 * Implement specified interface with a lambda which calls the method.
+	 * Used for accessors which work with primitive values directly.
+	 *
+	 * @param method    public instance method
+	 * @param name      interface method name
+	 * @param signature functional interface
+	 * @param erased    interface method signature
+	 * @return lambda instance or null when it can't be created
+	 */
+	@Nullable
+	static Object lambda(final Method method, final String name, final Class<?> signature, final MethodType erased) {
+		final MethodHandle target = unreflect(method);
+		if (target == null) return null;
+		return metafactory(name, signature, erased, target, target.type());
+	}
+
+	@Nullable
+	private static MethodHandle unreflect(final Method method) {
+		if (!isAccessible(method.getDeclaringClass(), method.getModifiers())) return null;
+		try {
+			return MethodHandles.publicLookup().unreflect(method);
+		} catch (IllegalAccessException | RuntimeException | LinkageError ignore) {
+			return null;
+		}
+	}
+
+	@Nullable
+	static MethodHandle unreflect(final Constructor<?> ctor) {
+		if (!isAccessible(ctor.getDeclaringClass(), ctor.getModifiers())) return null;
+		try {
+			return MethodHandles.publicLookup().unreflectConstructor(ctor);
+		} catch (IllegalAccessException | RuntimeException | LinkageError ignore) {
+			return null;
+		}
+	}
+
+	private static boolean isAccessible(final Class<?> declaringClass, final int modifiers) {
+		if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)) return false;
+		for (Class<?> c = declaringClass; c != null; c = c.getDeclaringClass()) {
+			if (!Modifier.isPublic(c.getModifiers())) return false;
+		}
+		return true;
+	}
+
+	//lambda classes are defined next to this class, so they can only refer to types visible from its class loader
+	private static boolean isVisible(final Class<?> type) {
+		if (type.isPrimitive()) return true;
+		if (type.isArray()) return isVisible(type.getComponentType());
+		final ClassLoader loader = Reflection.class.getClassLoader();
+		if (type.getClassLoader() == null || type.getClassLoader() == loader) return true;
+		try {
+			return Class.forName(type.getName(), false, loader) == type;
+		} catch (ClassNotFoundException | LinkageError ignore) {
+			return false;
+		}
+	}
+
+	@Nullable
+	private static Object metafactory(
+			final String name,
+			final Class<?> signature,
+			final MethodType erased,
+			final MethodHandle target,
+			final MethodType instantiated) {
+		if (!isVisible(instantiated.returnType())) return null;
+		for (int i = 0; i < instantiated.parameterCount(); i++) {
+			if (!isVisible(instantiated.parameterType(i))) return null;
+		}
+		try {
+			return LambdaMetafactory.metafactory(
+					MethodHandles.lookup(),
+					name,
+					MethodType.methodType(signature),
+					erased,
+					target,
+					instantiated).getTarget().invoke();
+		} catch (Throwable ignore) {
+			return null;
+		}
+	}
+
+	static ConfigurationException callError(final Method method, final Throwable e) {
+		return new ConfigurationException("Unable to call method " + method.getName() + " of " + method.getDeclaringClass(), e);
+	}
+
+	static final class LambdaReadMethod implements Settings.Function {
+		private final Method method;
+		private final Settings.Function getter;
+
+		LambdaReadMethod(Method method, Settings.Function getter) {
+			this.method = method;
+			this.getter = getter;
+		}
+
+		@Override
+		public Object apply(@Nullable Object instance) {
+			try {
+				return getter.apply(instance);
+			} catch (Throwable e) {
+				throw callError(method, e);
+			}
+		}
+	}
+
+	static final class LambdaSetMethod implements Settings.BiConsumer {
+		private final Method method;
+		private final Settings.BiConsumer setter;
+
+		LambdaSetMethod(Method method, Settings.BiConsumer setter) {
+			this.method = method;
+			this.setter = setter;
+		}
+
+		@Override
+		public void accept(Object instance, @Nullable Object value) {
+			try {
+				setter.accept(instance, value);
+			} catch (Throwable e) {
+				throw callError(method, e);
+			}
+		}
+	}
+
 	static final class ReadField implements Settings.Function {
 		private final Field field;
 
@@ -39,7 +237,7 @@ abstract class Reflection {
 			try {
 				return method.invoke(instance);
 			} catch (IllegalAccessException | InvocationTargetException e) {
-				throw new ConfigurationException("Unable to call method " + method.getName() + " of " + method.getDeclaringClass(), e);
+				throw callError(method, e);
 			}
 		}
 	}
@@ -73,7 +271,7 @@ abstract class Reflection {
 			try {
 				method.invoke(instance, value);
 			} catch (IllegalAccessException | InvocationTargetException e) {
-				throw new ConfigurationException("Unable to call method " + method.getName() + " of " + method.getDeclaringClass(), e);
+				throw callError(method, e);
 			}
 		}
 	}
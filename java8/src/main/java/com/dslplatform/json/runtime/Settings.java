@@ -65,6 +65,33 @@ public abstract class Settings {
 		return type != null;
 	}
 
+	/**
+	 * Hint for presizing decoded collections and arrays, which should be kept per decoder.
+	 * Capacity is limited, so large buffers are not allocated upfront just because some inputs were large.
+	 *
+	 * @return new capacity hint
+	 */
+	static CapacityHint newCapacityHint() {
+		return new CapacityHint(1 << 16);
+	}
+
+	/**
+	 * Binder which can update an instance created by the provided decoder.
+	 * Descriptions which decode via builder can't bind into the resulting instance.
+	 *
+	 * @param decoder reader for some type
+	 * @param <T> decoded type
+	 * @return binder for the same type or null when decoder doesn't support binding
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static <T> JsonReader.BindObject<T> findBinder(@Nullable final JsonReader.ReadObject<T> decoder) {
+		if (decoder instanceof ObjectFormatDescription) {
+			return ((ObjectFormatDescription) decoder).bindsResult() ? (JsonReader.BindObject<T>) decoder : null;
+		}
+		return decoder instanceof JsonReader.BindObject ? (JsonReader.BindObject<T>) decoder : null;
+	}
+
 	public static <T, R> JsonWriter.WriteObject<T> createEncoder(
 			final Function<T, R> read,
 			final String name,
@@ -189,8 +216,11 @@ public abstract class Settings {
 	public static <T> DslJson.Settings<T> withAnalyzers(boolean unknownReader, boolean unknownWriter) {
 		DslJson.Settings<T> settings = new DslJson.Settings<>();
 		if (unknownReader) settings.resolveReader(UNKNOWN_READER);
-		settings.resolveReader(CollectionAnalyzer.READER)
+		settings.resolveReader(CollectionAnalyzer.PRIMITIVE_READER)
+				.resolveWriter(CollectionAnalyzer.PRIMITIVE_WRITER)
+				.resolveReader(CollectionAnalyzer.READER)
 				.resolveWriter(CollectionAnalyzer.WRITER)
+				.resolveWriter(IteratorAnalyzer.WRITER)
 				.resolveReader(ArrayAnalyzer.READER)
 				.resolveWriter(ArrayAnalyzer.WRITER)
 				.resolveReader(MapAnalyzer.READER)
@@ -26,7 +26,7 @@ abstract class WriteDescription<T> implements JsonWriter.WriteObject<T> {
 		} else {
 			writer.writeByte(JsonWriter.OBJECT_START);
 			if (writeContentMinimal(writer, instance)) {
-				writer.getByteBuffer()[writer.size() - 1] = JsonWriter.OBJECT_END;
+				writer.replaceTrailingComma(JsonWriter.OBJECT_END);
 			} else {
 				writer.writeByte(JsonWriter.OBJECT_END);
 			}
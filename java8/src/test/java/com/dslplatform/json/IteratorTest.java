@@ -0,0 +1,156 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import com.dslplatform.json.runtime.TypeDefinition;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class IteratorTest {
+
+	public static class Row {
+		public int id;
+		public String name;
+
+		public Row() {
+		}
+
+		public Row(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	private final DslJson<Object> dslJson = new DslJson<>(Settings.withRuntime());
+
+	private String serialize(Object value) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(value, os);
+		return os.toString("UTF-8");
+	}
+
+	@Test
+	public void untypedSources() throws IOException {
+		Assert.assertEquals("[1,\"a\",null]", serialize(Arrays.asList(1, "a", null).iterator()));
+		Assert.assertEquals("[1,2,3]", serialize(Stream.of(1, 2, 3)));
+		Assert.assertEquals("[]", serialize(Stream.empty()));
+		Assert.assertEquals("[\"x\",\"y\"]", serialize(Arrays.asList("x", "y").spliterator()));
+		Assert.assertEquals("[{\"id\":1,\"name\":\"a\"}]", serialize(Stream.of(new Row(1, "a"))));
+	}
+
+	@Test
+	public void typedStream() throws IOException {
+		JsonWriter writer = dslJson.newWriter();
+		Stream<Row> rows = IntStream.range(0, 3).mapToObj(i -> new Row(i, "r" + i));
+		Assert.assertTrue(dslJson.serialize(writer, new TypeDefinition<Stream<Row>>() {}.type, rows));
+		Assert.assertEquals("[{\"id\":0,\"name\":\"r0\"},{\"id\":1,\"name\":\"r1\"},{\"id\":2,\"name\":\"r2\"}]", writer.toString());
+	}
+
+	@Test
+	public void sourcesInsideMap() throws IOException {
+		Map<String, Object> map = new LinkedHashMap<>();
+		Iterable<Integer> numbers = () -> IntStream.range(0, 4).iterator();
+		map.put("numbers", numbers);
+		map.put("rows", Stream.of(new Row(5, null)));
+		Assert.assertEquals("{\"numbers\":[0,1,2,3],\"rows\":[{\"id\":5,\"name\":null}]}", serialize(map));
+	}
+
+	@Test
+	public void largeStreamIsFlushedAsItGoes() throws IOException {
+		final int[] writes = new int[1];
+		final long[] total = new long[1];
+		OutputStream os = new OutputStream() {
+			@Override
+			public void write(int b) {
+				writes[0]++;
+				total[0]++;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				writes[0]++;
+				total[0] += len;
+			}
+		};
+		JsonWriter writer = dslJson.newWriter(1024);
+		writer.reset(os);
+		dslJson.serialize(writer, IntStream.range(0, 100000).mapToObj(i -> new Row(i, "row number " + i)));
+		writer.flush();
+		Assert.assertEquals(1024, writer.getByteBuffer().length);
+		Assert.assertTrue(writes[0] > 100);
+		Assert.assertEquals(total[0], writer.flushed());
+	}
+
+	@Test
+	public void canSerialize() {
+		Assert.assertTrue(dslJson.canSerialize(new TypeDefinition<Stream<Row>>() {}.type));
+		Assert.assertTrue(dslJson.canSerialize(new TypeDefinition<Iterator<String>>() {}.type));
+		Assert.assertTrue(dslJson.canSerialize(new TypeDefinition<Iterable<Long>>() {}.type));
+	}
+
+	@Test
+	public void iteratorThroughWriter() {
+		JsonWriter writer = dslJson.newWriter();
+		writer.serialize(Arrays.asList("a", null, "b").iterator(), StringConverter.WRITER);
+		Assert.assertEquals("[\"a\",null,\"b\"]", writer.toString());
+		writer.reset();
+		writer.serialize(Collections.<String>emptyIterator(), StringConverter.WRITER);
+		Assert.assertEquals("[]", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	public static class Range implements Iterable<Integer> {
+		private final int count;
+
+		public Range(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public Iterator<Integer> iterator() {
+			return IntStream.range(0, count).iterator();
+		}
+	}
+
+	public static class Page implements Iterable<String> {
+		public int number = 2;
+		private final List<String> items = Arrays.asList("a", "b");
+
+		public List<String> getItems() {
+			return items;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return items.iterator();
+		}
+	}
+
+	public static class Cursor implements Iterator<Integer> {
+		public int position;
+
+		@Override
+		public boolean hasNext() {
+			return false;
+		}
+
+		@Override
+		public Integer next() {
+			throw new NoSuchElementException();
+		}
+	}
+
+	@Test
+	public void iterableImplementations() throws IOException {
+		Assert.assertEquals("[0,1,2]", serialize(new Range(3)));
+		Assert.assertEquals("{\"number\":2}", serialize(new Page()));
+		Assert.assertEquals("{\"position\":0}", serialize(new Cursor()));
+		Assert.assertEquals("[\"x\"]", serialize(new HashSet<>(Collections.singletonList("x"))));
+	}
+}
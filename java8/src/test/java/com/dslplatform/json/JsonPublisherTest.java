@@ -0,0 +1,172 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class JsonPublisherTest {
+
+	public static class Item {
+		public int id;
+		public String name;
+
+		public Item() {
+		}
+
+		public Item(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	private final DslJson<Object> dslJson = new DslJson<>(Settings.withRuntime());
+
+	private static class Collector implements JsonPublisher.Subscriber {
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		final List<Integer> sizes = new ArrayList<>();
+		JsonPublisher.Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(JsonPublisher.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ByteBuffer chunk) {
+			sizes.add(chunk.remaining());
+			os.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+
+		String json() {
+			return new String(os.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	public void singleValueInChunks() {
+		Item item = new Item(42, "some name which is longer than a chunk");
+		JsonPublisher<Item> publisher = JsonPublisher.fromValue(dslJson, item, 8);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		collector.subscription.request(2);
+		Assert.assertEquals(Arrays.asList(8, 8), collector.sizes);
+		Assert.assertFalse(collector.completed);
+		collector.subscription.request(Long.MAX_VALUE);
+		Assert.assertTrue(collector.completed);
+		Assert.assertNull(collector.error);
+		Assert.assertEquals("{\"id\":42,\"name\":\"some name which is longer than a chunk\"}", collector.json());
+		for (int size : collector.sizes) {
+			Assert.assertTrue(size <= 8);
+		}
+	}
+
+	@Test
+	public void elementsArePulledOnDemand() throws IOException {
+		AtomicInteger pulled = new AtomicInteger();
+		Iterator<Item> iterator = new Iterator<Item>() {
+			@Override
+			public boolean hasNext() {
+				return pulled.get() < 1000;
+			}
+
+			@Override
+			public Item next() {
+				int i = pulled.incrementAndGet();
+				return new Item(i, "item " + i);
+			}
+		};
+		JsonPublisher<Item> publisher = JsonPublisher.fromIterator(dslJson, iterator, null, 64);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		Assert.assertEquals(0, pulled.get());
+		collector.subscription.request(1);
+		Assert.assertEquals(1, collector.sizes.size());
+		Assert.assertTrue(pulled.get() < 5);
+		collector.subscription.request(Long.MAX_VALUE);
+		Assert.assertTrue(collector.completed);
+		Assert.assertEquals(1000, pulled.get());
+		List<Item> result = dslJson.deserializeList(Item.class, collector.os.toByteArray(), collector.os.size());
+		Assert.assertEquals(1000, result.size());
+		Assert.assertEquals(1000, result.get(999).id);
+		Assert.assertEquals("item 1", result.get(0).name);
+	}
+
+	@Test
+	public void emptyStreamWithEncoder() {
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Integer> stream = Stream.<Integer>empty().onClose(() -> closed.set(true));
+		JsonPublisher<Integer> publisher = JsonPublisher.fromStream(dslJson, stream, NumberConverter.INT_WRITER, 16);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		collector.subscription.request(10);
+		Assert.assertTrue(collector.completed);
+		Assert.assertTrue(closed.get());
+		Assert.assertEquals("[]", collector.json());
+	}
+
+	@Test
+	public void streamWithNulls() {
+		Stream<Integer> stream = IntStream.range(0, 100).mapToObj(i -> i % 10 == 0 ? null : i);
+		JsonPublisher<Integer> publisher = JsonPublisher.fromStream(dslJson, stream, NumberConverter.INT_WRITER, 16);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		collector.subscription.request(Long.MAX_VALUE);
+		Assert.assertTrue(collector.completed);
+		StringBuilder expected = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) expected.append(',');
+			expected.append(i % 10 == 0 ? "null" : Integer.toString(i));
+		}
+		expected.append(']');
+		Assert.assertEquals(expected.toString(), collector.json());
+	}
+
+	@Test
+	public void cancelClosesStream() {
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Integer> stream = IntStream.range(0, 100000).boxed().onClose(() -> closed.set(true));
+		JsonPublisher<Integer> publisher = JsonPublisher.fromStream(dslJson, stream, NumberConverter.INT_WRITER, 16);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		collector.subscription.request(3);
+		collector.subscription.cancel();
+		collector.subscription.request(3);
+		Assert.assertEquals(3, collector.sizes.size());
+		Assert.assertTrue(closed.get());
+		Assert.assertFalse(collector.completed);
+	}
+
+	@Test
+	public void invalidRequestAndSecondSubscriber() {
+		JsonPublisher<String> publisher = JsonPublisher.fromValue(dslJson, "abc", 16);
+		Collector collector = new Collector();
+		publisher.subscribe(collector);
+		collector.subscription.request(0);
+		Assert.assertTrue(collector.error instanceof IllegalArgumentException);
+		Collector second = new Collector();
+		publisher.subscribe(second);
+		Assert.assertTrue(second.error instanceof IllegalStateException);
+	}
+}
@@ -0,0 +1,122 @@
+package com.dslplatform.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class JsonTranscoderTest {
+
+	private static final String[] SAMPLES = {
+			"123.4",
+			"\"1234\"",
+			"null",
+			"[\"1\\2\\\"34\",\"\\\\\",\"\"]",
+			"[\"\\\",\\\"\"]",
+			"[{\"abc\":123},{\"abc\":234}]",
+			"[true,false,null,{\"abc\":[]},{\"abc\":234}]",
+			"{\"a\":true,\"b\":false,\"c\":null,\"d\":{\"abc\":[]},\"e\":{\"abc\":234}}",
+			"{\"a {b}\":\"[1, 2]\",\"c\":[[],{},[[1,-2.5e3]]],\"\\u0041\":\"žšđ\"}"
+	};
+
+	private static String prettify(String json) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		PrettifyOutputStream pretty = new PrettifyOutputStream(os);
+		pretty.write(json.getBytes(StandardCharsets.UTF_8));
+		return new String(os.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static String transcode(JsonTranscoder transcoder, String json) {
+		return new String(transcoder.transcode(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+	}
+
+	private static class OneByteStream extends InputStream {
+		private final ByteArrayInputStream is;
+
+		OneByteStream(byte[] bytes) {
+			is = new ByteArrayInputStream(bytes);
+		}
+
+		@Override
+		public int read() {
+			return is.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			return is.read(b, off, Math.min(1, len));
+		}
+	}
+
+	@Test
+	public void prettifyMatchesPrettifyStream() throws IOException {
+		for (String json : SAMPLES) {
+			Assert.assertEquals(prettify(json), transcode(JsonTranscoder.prettifier(), json));
+		}
+	}
+
+	@Test
+	public void minifyRevertsPrettify() throws IOException {
+		for (String json : SAMPLES) {
+			Assert.assertEquals(json, transcode(JsonTranscoder.minifier(), prettify(json)));
+			Assert.assertEquals(json, transcode(JsonTranscoder.minifier(), " \r\n" + json + "\n"));
+		}
+		Assert.assertEquals("{\"a\":[1,\" , \"]}", transcode(JsonTranscoder.minifier(), "{ \"a\" :\t[ 1 ,\r\n\" , \" ] }"));
+	}
+
+	@Test
+	public void tabs() {
+		Assert.assertEquals(
+				"{\n\t\t\"a\": [\n\t\t\t\t1\n\t\t]\n}",
+				transcode(JsonTranscoder.prettifier(PrettifyOutputStream.IndentType.TABS, 2), "{\"a\":[1]}"));
+	}
+
+	@Test
+	public void streamWithSingleByteReads() throws IOException {
+		for (String json : SAMPLES) {
+			byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			ByteArrayOutputStream os = new ByteArrayOutputStream();
+			JsonTranscoder.prettifier().transcode(new OneByteStream(bytes), os);
+			Assert.assertEquals(prettify(json), new String(os.toByteArray(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void byteBuffers() throws IOException {
+		String json = SAMPLES[SAMPLES.length - 1];
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		JsonTranscoder.prettifier().transcode(direct, os);
+		Assert.assertEquals(prettify(json), new String(os.toByteArray(), StandardCharsets.UTF_8));
+		Assert.assertFalse(direct.hasRemaining());
+		byte[] padded = new byte[bytes.length + 10];
+		System.arraycopy(bytes, 0, padded, 5, bytes.length);
+		ByteBuffer heap = ByteBuffer.wrap(padded, 5, bytes.length).slice();
+		os.reset();
+		JsonTranscoder.minifier().transcode(heap, os);
+		Assert.assertEquals(json, new String(os.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void largeInput() throws IOException {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 5000; i++) {
+			if (i > 0) sb.append(',');
+			sb.append("{\"id\":").append(i).append(",\"name\":\"some longer name with \\\"quotes\\\" ").append(i).append("\",\"list\":[[[]]]}");
+		}
+		sb.append(']');
+		String json = sb.toString();
+		String pretty = transcode(JsonTranscoder.prettifier(), json);
+		Assert.assertEquals(prettify(json), pretty);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		JsonTranscoder.minifier().transcode(new ByteArrayInputStream(pretty.getBytes(StandardCharsets.UTF_8)), os);
+		Assert.assertEquals(json, new String(os.toByteArray(), StandardCharsets.UTF_8));
+	}
+}
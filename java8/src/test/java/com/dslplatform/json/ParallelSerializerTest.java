@@ -0,0 +1,110 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSerializerTest {
+
+	public static class Item {
+		public int id;
+		public String name;
+		public List<Double> values;
+
+		public Item() {
+		}
+
+		public Item(int id) {
+			this.id = id;
+			this.name = "item " + id;
+			this.values = Arrays.asList(id / 3.0, id * 1.5);
+		}
+	}
+
+	private final DslJson<Object> dslJson = new DslJson<>(Settings.withRuntime());
+
+	private static List<Item> items(int size) {
+		List<Item> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			items.add(i % 100 == 7 ? null : new Item(i));
+		}
+		return items;
+	}
+
+	private String sequential(List<Item> items) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(items, os);
+		return os.toString("UTF-8");
+	}
+
+	@Test
+	public void sameResultAsSequential() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ParallelSerializer serializer = new ParallelSerializer(dslJson, pool, 100);
+			JsonWriter.WriteObject<Item> encoder = dslJson.tryFindWriter(Item.class);
+			for (int size : new int[]{0, 1, 99, 100, 101, 1000, 12345}) {
+				List<Item> items = items(size);
+				String expected = sequential(items);
+				ByteArrayOutputStream os = new ByteArrayOutputStream();
+				serializer.serialize(items, encoder, os);
+				Assert.assertEquals(expected, os.toString("UTF-8"));
+				JsonWriter writer = dslJson.newWriter();
+				serializer.serialize(writer, items, null);
+				Assert.assertEquals(expected, writer.toString());
+				os.reset();
+				serializer.serialize(new LinkedList<>(items), null, os);
+				Assert.assertEquals(expected, os.toString("UTF-8"));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void nullList() throws IOException {
+		ParallelSerializer serializer = new ParallelSerializer(dslJson);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		serializer.serialize(null, null, os);
+		Assert.assertEquals("null", os.toString("UTF-8"));
+	}
+
+	@Test
+	public void failureIsPropagated() throws IOException {
+		ParallelSerializer serializer = new ParallelSerializer(dslJson, ForkJoinPool.commonPool(), 10);
+		List<Item> items = items(1000);
+		JsonWriter.WriteObject<Item> failing = (writer, value) -> {
+			if (value != null && value.id == 555) throw new SerializationException("failed on 555");
+			writer.writeAscii("1");
+		};
+		try {
+			serializer.serialize(items, failing, new ByteArrayOutputStream());
+			Assert.fail("Expecting exception");
+		} catch (SerializationException ex) {
+			Assert.assertTrue(ex.getMessage().contains("failed on 555"));
+		}
+	}
+
+	@Test
+	public void prettyOutputMatchesSequential() throws IOException {
+		DslJson<Object> pretty = new DslJson<>(Settings.withRuntime().indentation("  "));
+		ParallelSerializer serializer = new ParallelSerializer(pretty, ForkJoinPool.commonPool(), 10);
+		List<Item> items = items(100);
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		pretty.serialize(items, expected);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		serializer.serialize(items, null, os);
+		Assert.assertEquals(expected.toString("UTF-8"), os.toString("UTF-8"));
+		JsonWriter writer = pretty.newWriter();
+		serializer.serialize(writer, items, null);
+		Assert.assertEquals(expected.toString("UTF-8"), writer.toString());
+		JsonWriter compact = dslJson.newWriter();
+		serializer.serialize(compact, items, null);
+		Assert.assertEquals(sequential(items), compact.toString());
+	}
+}
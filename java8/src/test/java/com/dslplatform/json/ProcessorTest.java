@@ -0,0 +1,178 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.processor.CompiledJsonAnnotationProcessor;
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ProcessorTest {
+
+	private static JavaCompiler compiler() {
+		JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+		Assume.assumeNotNull(javac);
+		return javac;
+	}
+
+	private static boolean compile(Path folder, String name, String source, DiagnosticCollector<JavaFileObject> diagnostics, String... options) throws IOException {
+		JavaCompiler javac = compiler();
+		Path file = Files.write(folder.resolve(name + ".java"), source.getBytes(StandardCharsets.UTF_8));
+		List<String> arguments = new ArrayList<>(Arrays.asList(options));
+		arguments.addAll(Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", folder.toString(), "-s", folder.toString()));
+		JavaCompiler.CompilationTask task = javac.getTask(
+				null,
+				null,
+				diagnostics,
+				arguments,
+				null,
+				javac.getStandardFileManager(null, null, StandardCharsets.UTF_8).getJavaFileObjects(file.toFile()));
+		task.setProcessors(Collections.singletonList(new CompiledJsonAnnotationProcessor()));
+		return task.call();
+	}
+
+	private static String generated(Path folder, String name) throws IOException {
+		return new String(Files.readAllBytes(folder.resolve("_" + name + "_DslJsonConverter.java")), StandardCharsets.UTF_8);
+	}
+
+	private static Class<?> configure(Path folder, String name, DslJson<Object> json) throws Exception {
+		ClassLoader loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, ProcessorTest.class.getClassLoader());
+		((Configuration) loader.loadClass("_" + name + "_DslJsonConverter").newInstance()).configure(json);
+		return loader.loadClass(name);
+	}
+
+	@Test
+	public void generatedConverterSupportsPrimitiveLists() throws Exception {
+		Path folder = Files.createTempDirectory("dsljson");
+		Assert.assertTrue(compile(
+				folder,
+				"Measurements",
+				"@com.dslplatform.json.CompiledJson\n"
+						+ "public class Measurements {\n"
+						+ "\tpublic com.dslplatform.json.IntList counts;\n"
+						+ "\tpublic com.dslplatform.json.DoubleList values;\n"
+						+ "}\n",
+				null));
+		Assert.assertTrue(generated(folder, "Measurements").contains("NumberConverter.INT_LIST_READER"));
+		DslJson<Object> json = new DslJson<>(Settings.withRuntime());
+		Class<?> manifest = configure(folder, "Measurements", json);
+		byte[] bytes = "{\"counts\":[1,2,3],\"values\":[0.5]}".getBytes("UTF-8");
+		Object result = json.deserialize(manifest, bytes, bytes.length);
+		Assert.assertArrayEquals(new int[]{1, 2, 3}, ((IntList) manifest.getField("counts").get(result)).toIntArray());
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		json.serialize(result, os);
+		Assert.assertTrue(os.toString("UTF-8").contains("\"counts\":[1,2,3]"));
+		Assert.assertTrue(os.toString("UTF-8").contains("\"values\":[0.5]"));
+	}
+
+	@Test
+	public void processorOptionSelectsPrimitiveLists() throws Exception {
+		Path folder = Files.createTempDirectory("dsljson");
+		Assert.assertTrue(compile(
+				folder,
+				"Samples",
+				"@com.dslplatform.json.CompiledJson\n"
+						+ "public class Samples {\n"
+						+ "\tpublic java.util.List<Integer> ints;\n"
+						+ "\tpublic java.util.List<Long> longs;\n"
+						+ "\tpublic java.util.List<Double> doubles;\n"
+						+ "\tpublic java.util.List<String> strings;\n"
+						+ "}\n",
+				null,
+				"-Adsljson.primitivecollections=true"));
+		String generated = generated(folder, "Samples");
+		Assert.assertTrue(generated.contains("NumberConverter.GENERIC_INT_LIST_READER"));
+		Assert.assertTrue(generated.contains("NumberConverter.GENERIC_LONG_LIST_WRITER"));
+		Assert.assertTrue(generated.contains("NumberConverter.GENERIC_DOUBLE_LIST_READER"));
+		Assert.assertFalse(generated.contains("GENERIC_STRING"));
+		DslJson<Object> json = new DslJson<>(Settings.withRuntime());
+		Class<?> manifest = configure(folder, "Samples", json);
+		byte[] bytes = "{\"ints\":[1,2],\"longs\":[3],\"doubles\":[0.5],\"strings\":[\"x\"]}".getBytes("UTF-8");
+		Object result = json.deserialize(manifest, bytes, bytes.length);
+		Assert.assertTrue(manifest.getField("ints").get(result) instanceof IntList);
+		Assert.assertTrue(manifest.getField("longs").get(result) instanceof LongList);
+		Assert.assertTrue(manifest.getField("doubles").get(result) instanceof DoubleList);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		json.serialize(result, os);
+		Assert.assertTrue(os.toString("UTF-8").contains("\"ints\":[1,2]"));
+		Assert.assertTrue(os.toString("UTF-8").contains("\"longs\":[3]"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void generatedConverterRecyclesInstances() throws Exception {
+		Path folder = Files.createTempDirectory("dsljson");
+		Assert.assertTrue(compile(
+				folder,
+				"Address",
+				"@com.dslplatform.json.CompiledJson\n"
+						+ "public class Address implements Runnable {\n"
+						+ "\tpublic String street;\n"
+						+ "\tpublic int number;\n"
+						+ "\tpublic void run() { street = null; number = 0; }\n"
+						+ "}\n",
+				null));
+		Assert.assertFalse(generated(folder, "Address").contains("__pool"));
+		ClassLoader loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, ProcessorTest.class.getClassLoader());
+		Class<Object> manifest = (Class<Object>) loader.loadClass("Address");
+		DslJson<Object> json = new DslJson<>(Settings.<Object>withRuntime().recycleInstances(InstancePools.striped(2), manifest, a -> ((Runnable) a).run()));
+		((Configuration) loader.loadClass("_Address_DslJsonConverter").newInstance()).configure(json);
+		byte[] bytes = "{\"street\":\"Side\",\"number\":3}".getBytes("UTF-8");
+		Object first = json.deserialize(manifest, bytes, bytes.length);
+		json.recycle(manifest, first);
+		bytes = "{\"number\":4}".getBytes("UTF-8");
+		Object second = json.deserialize(manifest, bytes, bytes.length);
+		Assert.assertSame(first, second);
+		Assert.assertEquals(4, manifest.getField("number").get(second));
+		Assert.assertNull(manifest.getField("street").get(second));
+		Object third = json.deserialize(manifest, bytes, bytes.length);
+		Assert.assertNotSame(second, third);
+	}
+
+	@Test
+	public void cacheSerializedIsRegisteredForEnums() throws IOException {
+		Path folder = Files.createTempDirectory("dsljson");
+		Assert.assertTrue(compile(
+				folder,
+				"Colors",
+				"@com.dslplatform.json.CompiledJson(cacheSerialized = true)\n"
+						+ "public enum Colors { RED, GREEN }\n",
+				null));
+		Assert.assertTrue(generated(folder, "Colors").contains("__dsljson.cacheSerialized(Colors.class"));
+	}
+
+	@Test
+	public void cacheSerializedIsReportedOnGenericClasses() throws IOException {
+		Path folder = Files.createTempDirectory("dsljson");
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		Assert.assertFalse(compile(
+				folder,
+				"Wrapper",
+				"@com.dslplatform.json.CompiledJson(cacheSerialized = true)\n"
+						+ "public class Wrapper<T> {\n"
+						+ "\tpublic T value;\n"
+						+ "}\n",
+				diagnostics));
+		boolean reported = false;
+		for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+			reported = reported || d.getKind() == Diagnostic.Kind.ERROR && d.getMessage(null).contains("cacheSerialized");
+		}
+		Assert.assertTrue(reported);
+	}
+}
@@ -8,6 +8,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -505,4 +506,485 @@ public class ReflectionTest {
 		UppercaseName deser = json.deserialize(UppercaseName.class, bytes, bytes.length);
 		Assert.assertEquals(val.getDOC(), deser.getDOC());
 	}
+
+	public static class PrimitiveAccessors {
+		public long count;
+		public boolean flag;
+		private double ratio;
+		private int level;
+		private List<String> names;
+		public double getRatio() { return ratio; }
+		public void setRatio(double value) { ratio = value; }
+		public int getLevel() { return level; }
+		public void setLevel(int value) { level = value; }
+		public List<String> getNames() { return names; }
+		public void setNames(List<String> value) { names = value; }
+	}
+
+	@Test
+	public void primitiveAccessorsRoundtrip() throws IOException {
+		PrimitiveAccessors val = new PrimitiveAccessors();
+		val.count = Long.MAX_VALUE;
+		val.flag = true;
+		val.setRatio(0.25);
+		val.setLevel(-3);
+		val.setNames(Arrays.asList("a", "b"));
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		json.serialize(val, baos);
+		byte[] bytes = baos.toByteArray();
+		PrimitiveAccessors deser = json.deserialize(PrimitiveAccessors.class, bytes, bytes.length);
+		Assert.assertEquals(Long.MAX_VALUE, deser.count);
+		Assert.assertTrue(deser.flag);
+		Assert.assertEquals(0.25, deser.getRatio(), 0);
+		Assert.assertEquals(-3, deser.getLevel());
+		Assert.assertEquals(Arrays.asList("a", "b"), deser.getNames());
+	}
+
+	@Test
+	public void primitiveDefaultsAreOmitted() throws IOException {
+		DslJson<Object> jsonMin = new DslJson<Object>(Settings.withRuntime().skipDefaultValues(true).includeServiceLoader());
+		PrimitiveAccessors val = new PrimitiveAccessors();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		jsonMin.serialize(val, baos);
+		Assert.assertEquals("{}", baos.toString("UTF-8"));
+		val.setRatio(-1.5);
+		val.flag = true;
+		baos.reset();
+		jsonMin.serialize(val, baos);
+		Assert.assertEquals("{\"flag\":true,\"ratio\":-1.5}", baos.toString("UTF-8"));
+	}
+
+	public static class WideObject {
+		public int a1;
+		public int a2;
+		public String b1;
+		public String b2;
+		public long c1;
+		public long c2;
+		public boolean d1;
+		public boolean d2;
+		public String e1;
+		public String e2;
+	}
+
+	public static class WideImmutable {
+		public final int a1;
+		public final String b1;
+		public final long c1;
+		public final boolean d1;
+		public final String e1;
+
+		public WideImmutable(int a1, String b1, long c1, boolean d1, String e1) {
+			this.a1 = a1;
+			this.b1 = b1;
+			this.c1 = c1;
+			this.d1 = d1;
+			this.e1 = e1;
+		}
+	}
+
+	@Test
+	public void outOfOrderPropertiesUseIndex() throws IOException {
+		byte[] input = "{\"e2\":\"y\",\"x\":[1,{\"a1\":2}],\"c2\":4,\"a2\":2,\"d1\":true,\"b1\":\"b\",\"unknown\":null,\"a1\":1}".getBytes("UTF-8");
+		WideObject wide = json.deserialize(WideObject.class, input, input.length);
+		Assert.assertEquals(1, wide.a1);
+		Assert.assertEquals(2, wide.a2);
+		Assert.assertEquals("b", wide.b1);
+		Assert.assertNull(wide.b2);
+		Assert.assertEquals(4, wide.c2);
+		Assert.assertTrue(wide.d1);
+		Assert.assertFalse(wide.d2);
+		Assert.assertEquals("y", wide.e2);
+		input = "{\"e1\":\"e\",\"d1\":true,\"zz\":{},\"c1\":3,\"b1\":\"b\",\"a1\":1}".getBytes("UTF-8");
+		WideImmutable immutable = json.deserialize(WideImmutable.class, input, input.length);
+		Assert.assertEquals(1, immutable.a1);
+		Assert.assertEquals("b", immutable.b1);
+		Assert.assertEquals(3, immutable.c1);
+		Assert.assertTrue(immutable.d1);
+		Assert.assertEquals("e", immutable.e1);
+	}
+
+	@Test
+	public void adaptiveOrderLearnsDominantOrder() throws IOException {
+		DslJson<Object> adaptive = new DslJson<Object>(Settings.withRuntime().adaptivePropertyOrder(true).includeServiceLoader());
+		ObjectFormatDescription description = (ObjectFormatDescription) adaptive.tryFindReader(WideObject.class);
+		byte[] reversed = "{\"e2\":\"e\",\"e1\":null,\"d2\":true,\"d1\":false,\"c2\":2,\"c1\":1,\"b2\":null,\"b1\":\"b\",\"a2\":2,\"a1\":1}".getBytes("UTF-8");
+		byte[] declared = "{\"a1\":1,\"a2\":2}".getBytes("UTF-8");
+		for (int i = 0; i < 100; i++) {
+			WideObject wide = adaptive.deserialize(WideObject.class, reversed, reversed.length);
+			Assert.assertEquals(1, wide.a1);
+			Assert.assertEquals(2, wide.c2);
+			Assert.assertTrue(wide.d2);
+			Assert.assertEquals("e", wide.e2);
+			if (i % 4 == 0) {
+				wide = adaptive.deserialize(WideObject.class, declared, declared.length);
+				Assert.assertEquals(2, wide.a2);
+			}
+		}
+		long slow = description.getSlowPathCount();
+		Assert.assertTrue(slow < 50);
+		Assert.assertEquals(125, description.getDecodeCount());
+		for (int i = 0; i < 100; i++) {
+			adaptive.deserialize(WideObject.class, reversed, reversed.length);
+		}
+		Assert.assertEquals(slow, description.getSlowPathCount());
+	}
+
+	@Test
+	public void adaptiveOrderWithUnknownProperties() throws IOException {
+		DslJson<Object> adaptive = new DslJson<Object>(Settings.withRuntime().adaptivePropertyOrder(true).includeServiceLoader());
+		ObjectFormatDescription description = (ObjectFormatDescription) adaptive.tryFindReader(WideObject.class);
+		byte[] unknown = "{\"a1\":1,\"a2\":2,\"zz\":[1],\"b1\":\"b\"}".getBytes("UTF-8");
+		byte[] reversed = "{\"c2\":4,\"b1\":\"x\",\"a1\":3,\"yy\":null}".getBytes("UTF-8");
+		for (int i = 0; i < 200; i++) {
+			WideObject wide = adaptive.deserialize(WideObject.class, unknown, unknown.length);
+			Assert.assertEquals(1, wide.a1);
+			Assert.assertEquals(2, wide.a2);
+			Assert.assertEquals("b", wide.b1);
+			wide = adaptive.deserialize(WideObject.class, reversed, reversed.length);
+			Assert.assertEquals(3, wide.a1);
+			Assert.assertEquals("x", wide.b1);
+			Assert.assertEquals(4, wide.c2);
+		}
+		Assert.assertEquals(400, description.getSlowPathCount());
+		Assert.assertEquals(400, description.getDecodeCount());
+	}
+
+	@Test
+	public void slowPathIsCountedWithoutAdaptiveOrder() throws IOException {
+		ObjectFormatDescription description = (ObjectFormatDescription) json.tryFindReader(WideObject.class);
+		byte[] input = "{\"a2\":2,\"a1\":1}".getBytes("UTF-8");
+		for (int i = 0; i < 10; i++) {
+			json.deserialize(WideObject.class, input, input.length);
+		}
+		Assert.assertEquals(10, description.getSlowPathCount());
+		Assert.assertEquals(-1, description.getDecodeCount());
+	}
+
+	public static class PrimitiveNode {
+		public final int count;
+		public final long total;
+		public final double ratio;
+		public final float weight;
+		public final boolean active;
+		public final String name;
+		public final PrimitiveNode next;
+
+		public PrimitiveNode(int count, long total, double ratio, float weight, boolean active, String name, PrimitiveNode next) {
+			this.count = count;
+			this.total = total;
+			this.ratio = ratio;
+			this.weight = weight;
+			this.active = active;
+			this.name = name;
+			this.next = next;
+		}
+	}
+
+	@Test
+	public void immutableWithPrimitiveArguments() throws IOException {
+		byte[] input = ("{\"weight\":2.5,\"count\":-3,\"total\":12345678901,\"ratio\":0.125,\"active\":true,\"name\":\"a\","
+				+ "\"next\":{\"count\":7,\"name\":\"b\",\"next\":{\"active\":true}}}").getBytes("UTF-8");
+		for (int i = 0; i < 3; i++) {
+			PrimitiveNode node = json.deserialize(PrimitiveNode.class, input, input.length);
+			Assert.assertEquals(-3, node.count);
+			Assert.assertEquals(12345678901L, node.total);
+			Assert.assertEquals(0.125, node.ratio, 0);
+			Assert.assertEquals(2.5f, node.weight, 0);
+			Assert.assertTrue(node.active);
+			Assert.assertEquals("a", node.name);
+			Assert.assertEquals(7, node.next.count);
+			Assert.assertEquals(0, node.next.total);
+			Assert.assertFalse(node.next.active);
+			Assert.assertEquals("b", node.next.name);
+			Assert.assertTrue(node.next.next.active);
+			Assert.assertNull(node.next.next.name);
+			Assert.assertNull(node.next.next.next);
+		}
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		PrimitiveNode node = new PrimitiveNode(1, 2, 3.5, 4.5f, true, "x", null);
+		json.serialize(node, os);
+		PrimitiveNode copy = json.deserialize(PrimitiveNode.class, os.toByteArray(), os.size());
+		Assert.assertEquals(1, copy.count);
+		Assert.assertEquals(2, copy.total);
+		Assert.assertEquals(3.5, copy.ratio, 0);
+		Assert.assertEquals(4.5f, copy.weight, 0);
+		Assert.assertTrue(copy.active);
+		Assert.assertEquals("x", copy.name);
+		Assert.assertNull(copy.next);
+	}
+
+	public static class DeepChild {
+		public int value;
+		public String name;
+	}
+
+	public static class DeepParent {
+		public DeepChild child;
+		public List<DeepChild> children;
+		public Map<String, Integer> counts;
+		public DeepChild[] array;
+	}
+
+	public static class DeepDefaults {
+		static final List<DeepChild> SHARED = new ArrayList<>();
+		public List<DeepChild> empty = Collections.emptyList();
+		public List<DeepChild> shared = SHARED;
+		public DeepChild[] array = new DeepChild[]{new DeepChild()};
+	}
+
+	@Test
+	public void deepBindDoesNotReuseDefaultsOfNewInstances() throws IOException {
+		DslJson<Object> deep = new DslJson<Object>(Settings.withRuntime().deepBind(true).includeServiceLoader());
+		byte[] bytes = "{\"empty\":[{\"value\":1}],\"shared\":[{\"value\":2}],\"array\":[{\"value\":3}]}".getBytes("UTF-8");
+		for (int i = 0; i < 2; i++) {
+			DeepDefaults result = deep.deserialize(DeepDefaults.class, bytes, bytes.length);
+			Assert.assertEquals(1, result.empty.get(0).value);
+			Assert.assertEquals(2, result.shared.get(0).value);
+			Assert.assertEquals(3, result.array[0].value);
+			Assert.assertNotSame(DeepDefaults.SHARED, result.shared);
+		}
+		Assert.assertTrue(DeepDefaults.SHARED.isEmpty());
+		DeepParent instance = new DeepParent();
+		DeepChild[] array = new DeepChild[]{new DeepChild(), new DeepChild()};
+		instance.array = array;
+		bytes = "{\"array\":[{\"value\":1},{\"value\":2},{\"value\":3}]}".getBytes("UTF-8");
+		JsonReader<Object> reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertEquals(3, instance.array.length);
+		Assert.assertSame(array[1], instance.array[1]);
+		Assert.assertEquals(2, array[1].value);
+		Assert.assertEquals(2, array.length);
+		bytes = "{\"array\":[{\"value\":4},{\"value\":5},\"invalid\"]}".getBytes("UTF-8");
+		reader = deep.newReader().process(bytes, bytes.length);
+		DeepChild[] previous = instance.array;
+		DeepChild third = previous[2];
+		try {
+			reader.next(DeepParent.class, instance);
+			Assert.fail("Expecting parsing exception");
+		} catch (ParsingException ignore) {
+		}
+		Assert.assertSame(previous, instance.array);
+		Assert.assertSame(third, previous[2]);
+	}
+
+	@Test
+	public void deepBindReusesNestedInstances() throws IOException {
+		DslJson<Object> deep = new DslJson<Object>(Settings.withRuntime().deepBind(true).includeServiceLoader());
+		DeepParent instance = new DeepParent();
+		byte[] bytes = ("{\"child\":{\"value\":1,\"name\":\"a\"},\"children\":[{\"value\":2},{\"value\":3}],"
+				+ "\"counts\":{\"x\":1},\"array\":[{\"value\":4}]}").getBytes("UTF-8");
+		JsonReader<Object> reader = deep.newReader().process(bytes, bytes.length);
+		Assert.assertSame(instance, reader.next(DeepParent.class, instance));
+		DeepChild child = instance.child;
+		List<DeepChild> children = instance.children;
+		DeepChild first = children.get(0);
+		Map<String, Integer> counts = instance.counts;
+		DeepChild[] array = instance.array;
+		Assert.assertEquals(1, child.value);
+		Assert.assertEquals(3, children.get(1).value);
+
+		bytes = ("{\"child\":{\"value\":5},\"children\":[{\"value\":6}],"
+				+ "\"counts\":{\"y\":2},\"array\":[{\"value\":7}]}").getBytes("UTF-8");
+		reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertSame(child, instance.child);
+		Assert.assertEquals(5, child.value);
+		Assert.assertEquals("a", child.name);
+		Assert.assertSame(children, instance.children);
+		Assert.assertEquals(1, children.size());
+		Assert.assertSame(first, children.get(0));
+		Assert.assertEquals(6, first.value);
+		Assert.assertSame(counts, instance.counts);
+		Assert.assertEquals(Collections.singletonMap("y", 2), counts);
+		Assert.assertSame(array, instance.array);
+		Assert.assertEquals(7, array[0].value);
+
+		bytes = "{\"child\":null,\"array\":[{\"value\":8},null]}".getBytes("UTF-8");
+		reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertNull(instance.child);
+		Assert.assertEquals(2, instance.array.length);
+		Assert.assertSame(array[0], instance.array[0]);
+		Assert.assertEquals(8, array[0].value);
+		Assert.assertNull(instance.array[1]);
+	}
+
+	@Test
+	public void deepBindReplacesUnmodifiableCollections() throws IOException {
+		DslJson<Object> deep = new DslJson<Object>(Settings.withRuntime().deepBind(true).includeServiceLoader());
+		DeepChild first = new DeepChild();
+		DeepParent instance = new DeepParent();
+		instance.children = Collections.unmodifiableList(new ArrayList<>(Collections.singletonList(first)));
+		instance.counts = Collections.emptyMap();
+		byte[] bytes = "{\"children\":[{\"value\":1},{\"value\":2}],\"counts\":{\"x\":1}}".getBytes("UTF-8");
+		JsonReader<Object> reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertEquals(2, instance.children.size());
+		Assert.assertSame(first, instance.children.get(0));
+		Assert.assertEquals(1, first.value);
+		Assert.assertEquals(2, instance.children.get(1).value);
+		Assert.assertEquals(Collections.singletonMap("x", 1), instance.counts);
+
+		instance.children = Arrays.asList(new DeepChild(), new DeepChild(), new DeepChild());
+		instance.counts = Collections.unmodifiableMap(Collections.singletonMap("y", 2));
+		bytes = "{\"children\":[{\"value\":3},null],\"counts\":{}}".getBytes("UTF-8");
+		reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertEquals(2, instance.children.size());
+		Assert.assertEquals(3, instance.children.get(0).value);
+		Assert.assertNull(instance.children.get(1));
+		Assert.assertTrue(instance.counts.isEmpty());
+
+		instance.children = Collections.emptyList();
+		bytes = "{\"children\":[{\"value\":4},{\"value\":5}]}".getBytes("UTF-8");
+		reader = deep.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertEquals(2, instance.children.size());
+		Assert.assertEquals(5, instance.children.get(1).value);
+		instance.children.add(new DeepChild());
+	}
+
+	@Test
+	public void bindWithoutDeepModeCreatesNestedInstances() throws IOException {
+		DeepParent instance = new DeepParent();
+		DeepChild child = new DeepChild();
+		instance.child = child;
+		byte[] bytes = "{\"child\":{\"value\":1}}".getBytes("UTF-8");
+		JsonReader<Object> reader = json.newReader().process(bytes, bytes.length);
+		reader.next(DeepParent.class, instance);
+		Assert.assertNotSame(child, instance.child);
+		Assert.assertEquals(1, instance.child.value);
+	}
+
+	@Test
+	public void recycledInstancesAreReused() throws IOException {
+		Type listType = new TypeDefinition<List<Integer>>() {}.type;
+		DslJson<Object> recycling = new DslJson<Object>(Settings.withRuntime()
+				.recycleInstances(InstancePools.striped(4), DeepChild.class, listType)
+				.includeServiceLoader());
+		byte[] input = "[{\"value\":1},{\"value\":2},{\"value\":3}]".getBytes("UTF-8");
+		Set<DeepChild> seen = Collections.newSetFromMap(new IdentityHashMap<DeepChild, Boolean>());
+		for (int i = 0; i < 10; i++) {
+			Iterator<DeepChild> iterator = recycling.iterateOver(DeepChild.class, new ByteArrayInputStream(input));
+			int expected = 1;
+			while (iterator.hasNext()) {
+				DeepChild child = iterator.next();
+				Assert.assertEquals(expected++, child.value);
+				seen.add(child);
+				child.value = 0;
+				recycling.recycle(DeepChild.class, child);
+			}
+		}
+		Assert.assertEquals(1, seen.size());
+		byte[] list = "[1,2]".getBytes("UTF-8");
+		List<Integer> first = (List<Integer>) recycling.deserialize(listType, list, list.length);
+		recycling.recycle(listType, first);
+		list = "[3]".getBytes("UTF-8");
+		List<Integer> second = (List<Integer>) recycling.deserialize(listType, list, list.length);
+		Assert.assertSame(first, second);
+		Assert.assertEquals(Collections.singletonList(3), second);
+	}
+
+	public static class Samples {
+		public List<Integer> counts;
+		public Collection<Long> ids;
+		public List<Double> values;
+		public List<String> names;
+	}
+
+	@Test
+	public void primitiveCollectionsAvoidBoxing() throws IOException {
+		DslJson<Object> primitive = new DslJson<Object>(Settings.withRuntime().primitiveCollections(true).includeServiceLoader());
+		byte[] bytes = "{\"counts\":[1,2,3],\"ids\":[4],\"values\":[0.5],\"names\":[\"a\"]}".getBytes("UTF-8");
+		Samples result = primitive.deserialize(Samples.class, bytes, bytes.length);
+		Assert.assertTrue(result.counts instanceof IntList);
+		Assert.assertTrue(result.ids instanceof LongList);
+		Assert.assertTrue(result.values instanceof DoubleList);
+		Assert.assertTrue(result.names instanceof ArrayList);
+		Assert.assertEquals(Arrays.asList(1, 2, 3), result.counts);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		primitive.serialize(result, os);
+		Assert.assertEquals(new String(bytes, "UTF-8"), os.toString("UTF-8"));
+		result.counts = Arrays.asList(7, 8);
+		os.reset();
+		primitive.serialize(result, os);
+		Assert.assertTrue(os.toString("UTF-8").startsWith("{\"counts\":[7,8]"));
+		Samples boxed = json.deserialize(Samples.class, bytes, bytes.length);
+		Assert.assertTrue(boxed.counts instanceof ArrayList);
+	}
+
+	public static class Sized {
+		public String[] names;
+		public List<String> tags;
+		public Set<String> codes;
+	}
+
+	@Test
+	public void presizedDecodingHandlesVaryingSizes() throws IOException {
+		int[] sizes = {3, 3, 3, 100, 0, 1, 20, 3};
+		for (int size : sizes) {
+			StringBuilder sb = new StringBuilder("[");
+			for (int i = 0; i < size; i++) {
+				if (i > 0) sb.append(',');
+				sb.append("\"v").append(i).append('"');
+			}
+			String array = sb.append(']').toString();
+			byte[] bytes = ("{\"names\":" + array + ",\"tags\":" + array + ",\"codes\":" + array + "}").getBytes("UTF-8");
+			Sized result = json.deserialize(Sized.class, bytes, bytes.length);
+			Assert.assertEquals(size, result.names.length);
+			Assert.assertEquals(size, result.tags.size());
+			Assert.assertEquals(size, result.codes.size());
+			for (int i = 0; i < size; i++) {
+				Assert.assertEquals("v" + i, result.names[i]);
+				Assert.assertEquals("v" + i, result.tags.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void sealedListWritesRuntimeImplementation() throws IOException {
+		Type type = new TypeDefinition<List<SimpleClass>>() {}.type;
+		DslJson<Object> sealed = new DslJson<>(Settings.withRuntime().sealed(type, SimpleClass.class));
+		SimpleClass item = new SimpleClass();
+		item.x = 5;
+		List<SimpleClass> list = new ArrayList<>();
+		list.add(item);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		sealed.serialize(list, os);
+		Assert.assertEquals("[{\"x\":5,\"y\":null}]", os.toString("UTF-8"));
+	}
+
+	public static class FailingGetters {
+		public String getName() {
+			throw new IllegalStateException("name");
+		}
+		public void setName(String value) {
+		}
+		public int getNumber() {
+			throw new IllegalStateException("number");
+		}
+		public void setNumber(int value) {
+		}
+	}
+
+	@Test
+	public void getterExceptionsAreWrapped() {
+		FailingGetters instance = new FailingGetters();
+		JsonWriter writer = json.newWriter();
+		try {
+			json.serialize(writer, instance);
+			Assert.fail("Expecting configuration exception");
+		} catch (ConfigurationException ex) {
+			Assert.assertTrue(ex.getCause() instanceof IllegalStateException);
+		} catch (IOException ex) {
+			Assert.fail(ex.getMessage());
+		}
+		try {
+			json.tryFindWriter(FailingGetters.class).write(writer, instance);
+			Assert.fail("Expecting configuration exception");
+		} catch (ConfigurationException ex) {
+			Assert.assertTrue(ex.getMessage().contains("FailingGetters"));
+		}
+	}
 }
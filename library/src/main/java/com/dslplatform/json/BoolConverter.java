@@ -78,6 +78,26 @@ public abstract class BoolConverter {
 		}
 	}
 
+	/**
+	 * Reader for boolean arrays which presizes the result from previously decoded lengths.
+	 *
+	 * @param hint capacity hint owned by the created reader
+	 * @return reader which uses provided hint
+	 */
+	public static JsonReader.ReadObject<boolean[]> arrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<boolean[]>() {
+			@Nullable
+			@Override
+			public boolean[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for boolean array start");
+				reader.getNextToken();
+				return deserializeBoolArray(reader, hint);
+			}
+		};
+	}
+
 	public static boolean deserialize(final JsonReader reader) throws IOException {
 		if (reader.wasTrue()) {
 			return true;
@@ -88,10 +108,14 @@ public abstract class BoolConverter {
 	}
 
 	public static boolean[] deserializeBoolArray(final JsonReader reader) throws IOException {
+		return deserializeBoolArray(reader, null);
+	}
+
+	public static boolean[] deserializeBoolArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return EMPTY_ARRAY;
 		}
-		boolean[] buffer = new boolean[4];
+		boolean[] buffer = new boolean[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = deserialize(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -102,7 +126,10 @@ public abstract class BoolConverter {
 			buffer[i++] = deserialize(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
 	}
 
 	@SuppressWarnings("unchecked")
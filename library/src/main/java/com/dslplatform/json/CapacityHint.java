@@ -0,0 +1,86 @@
+package com.dslplatform.json;
+
+/**
+ * Moving average of decoded element count, used for presizing collections, arrays and buffers.
+ * Each recorded size moves the average by 1/8 of the difference,
+ * so a single large input will not have a lasting effect.
+ * Updates from multiple threads can be lost, which is fine for a hint.
+ * Average is written only when it changes, so stable sizes don't cause contention.
+ * <p>
+ * When the last recorded size matched the average, it's considered stable
+ * and arrays can be allocated with the exact size which avoids trimming them at the end.
+ * <p>
+ * Hint should be kept per reader or per property, since unrelated inputs will skew the average.
+ */
+public final class CapacityHint {
+
+	public static final int MIN_CAPACITY = 4;
+	//average is kept multiplied by 8, so it must still fit into an int
+	private static final int LIMIT = Integer.MAX_VALUE >> 4;
+
+	private final int maxCapacity;
+	//average multiplied by 8, so that small sizes are not lost to rounding
+	private volatile int scaled;
+	private volatile boolean stable;
+
+	/**
+	 * Create a hint which will never suggest more than provided capacity,
+	 * so large buffers are not allocated upfront just because some inputs were large.
+	 *
+	 * @param maxCapacity upper limit for suggested capacity
+	 */
+	public CapacityHint(final int maxCapacity) {
+		if (maxCapacity < MIN_CAPACITY || maxCapacity > LIMIT) {
+			throw new IllegalArgumentException("maxCapacity must be between " + MIN_CAPACITY + " and " + LIMIT);
+		}
+		this.maxCapacity = maxCapacity;
+	}
+
+	public void record(final int size) {
+		final int current = scaled;
+		final int bounded = Math.min(size, maxCapacity);
+		final int next = current == 0 ? bounded << 3 : current - (current >> 3) + bounded;
+		if (next != current) {
+			scaled = next;
+		}
+		final boolean same = next == current;
+		if (same != stable) {
+			stable = same;
+		}
+	}
+
+	/**
+	 * Capacity which should fit a typical number of elements.
+	 * Average is increased by 25% so that slightly larger inputs don't cause resizing.
+	 *
+	 * @return suggested capacity
+	 */
+	public int capacity() {
+		final int current = scaled >> 3;
+		final int capacity = current + (current >> 2) + 1;
+		return capacity < MIN_CAPACITY ? MIN_CAPACITY : capacity > maxCapacity ? maxCapacity : capacity;
+	}
+
+	/**
+	 * Capacity for arrays which are trimmed to the number of elements after decoding.
+	 * While sizes are stable, the average is returned as is,
+	 * so a typical input fills the array and it can be used without a copy.
+	 *
+	 * @return suggested array length
+	 */
+	public int exactCapacity() {
+		if (!stable) return capacity();
+		final int current = scaled >> 3;
+		return current < 1 ? 1 : current;
+	}
+
+	/**
+	 * Capacity for hash based collections, which resize before they are full.
+	 *
+	 * @return suggested capacity for a hash table with default load factor
+	 */
+	public int hashCapacity() {
+		final int capacity = capacity();
+		return capacity + capacity / 3 + 1;
+	}
+}
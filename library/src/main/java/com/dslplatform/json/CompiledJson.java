@@ -88,6 +88,18 @@ public @interface CompiledJson {
 	 */
 	boolean minified() default false;
 
+	/**
+	 * Remember encoded bytes of recently serialized instances and reuse them
+	 * when the same instance is serialized again.
+	 * This should be used only on immutable classes which are serialized many times,
+	 * such as shared reference data.
+	 * Instances are matched by identity and cache is bounded to 1024 entries.
+	 * For different settings use DslJson.Settings.cacheSerialized instead.
+	 *
+	 * @return should serialized bytes be cached
+	 */
+	boolean cacheSerialized() default false;
+
 	/**
 	 * Specify how to handle unknown property during object processing.
 	 * On classes, default behavior is to skip over it and go to the next property.
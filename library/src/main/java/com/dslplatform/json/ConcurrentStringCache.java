@@ -0,0 +1,207 @@
+package com.dslplatform.json;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * String cache which can be shared across threads and readers.
+ * <p>
+ * Cache is set associative: string hash selects a set of 4 slots and string can be stored in any of them.
+ * Each entry counts how often it was used. When set is full, entries are visited in CLOCK order,
+ * their counters are decremented and the first one which was not used recently is replaced.
+ * This way frequent values (such as enum-like strings) survive a burst of unique values.
+ * <p>
+ * Strings are looked up directly from the input bytes when possible,
+ * so cached strings don't need to be decoded into chars.
+ * Only strings up to the specified length are cached.
+ * <p>
+ * Hits and misses are counted in striped counters to avoid contention between threads.
+ */
+public final class ConcurrentStringCache implements StringCache.Raw {
+
+	private static final Charset ascii = Charset.forName("US-ASCII");
+	private static final int WAYS = 4;
+	private static final int MAX_FREQUENCY = 3;
+	private static final int COUNTER_STRIPES = 16;
+	//each stripe takes 8 longs so that counters from different threads don't share a cache line
+	private static final int STRIPE_SHIFT = 3;
+
+	private static final class Entry {
+		final int hash;
+		final String value;
+		@Nullable
+		final byte[] raw;
+		volatile int frequency;
+
+		Entry(final int hash, final String value, @Nullable final byte[] raw) {
+			this.hash = hash;
+			this.value = value;
+			this.raw = raw;
+		}
+	}
+
+	private final AtomicReferenceArray<Entry> entries;
+	private final int setMask;
+	private final int maxLength;
+	private final AtomicLongArray counters = new AtomicLongArray(COUNTER_STRIPES << STRIPE_SHIFT);
+
+	/**
+	 * Cache with 4096 entries for strings up to 64 characters.
+	 */
+	public ConcurrentStringCache() {
+		this(4096, 64);
+	}
+
+	/**
+	 * Create cache with specified size.
+	 *
+	 * @param maxEntries maximum number of cached strings. Will be rounded up to power of 2
+	 * @param maxLength  longer strings will not be cached
+	 */
+	public ConcurrentStringCache(final int maxEntries, final int maxLength) {
+		if (maxEntries < WAYS || maxEntries > 1 << 24) {
+			throw new IllegalArgumentException("maxEntries must be between " + WAYS + " and " + (1 << 24));
+		}
+		if (maxLength < 1) throw new IllegalArgumentException("maxLength must be positive");
+		int size = WAYS;
+		while (size < maxEntries) {
+			size <<= 1;
+		}
+		this.entries = new AtomicReferenceArray<Entry>(size);
+		this.setMask = size / WAYS - 1;
+		this.maxLength = maxLength;
+	}
+
+	@Override
+	public String get(final char[] chars, final int len) {
+		if (len > maxLength) return new String(chars, 0, len);
+		int hash = 0x811c9dc5;
+		for (int i = 0; i < len; i++) {
+			hash ^= chars[i];
+			hash *= 0x1000193;
+		}
+		final int start = setStart(hash);
+		for (int i = 0; i < WAYS; i++) {
+			final Entry entry = entries.get(start + i);
+			if (entry != null && entry.hash == hash && matches(entry.value, chars, len)) {
+				return hit(entry);
+			}
+		}
+		count(1);
+		final String value = new String(chars, 0, len);
+		insert(start, new Entry(hash, value, null));
+		return value;
+	}
+
+	@Nullable
+	@Override
+	public String get(final byte[] input, final int offset, final int len) {
+		if (len > maxLength) return null;
+		int hash = 0x811c9dc5;
+		final int end = offset + len;
+		for (int i = offset; i < end; i++) {
+			final byte b = input[i];
+			//multibyte characters are left to the reader, which validates them
+			if (b < 0) return null;
+			hash ^= b;
+			hash *= 0x1000193;
+		}
+		final int start = setStart(hash);
+		for (int i = 0; i < WAYS; i++) {
+			final Entry entry = entries.get(start + i);
+			if (entry != null && entry.hash == hash && entry.raw != null && matches(entry.raw, input, offset, len)) {
+				return hit(entry);
+			}
+		}
+		count(1);
+		final byte[] raw = new byte[len];
+		System.arraycopy(input, offset, raw, 0, len);
+		final String value = new String(raw, 0, len, ascii);
+		insert(start, new Entry(hash, value, raw));
+		return value;
+	}
+
+	private int setStart(final int hash) {
+		return ((hash ^ (hash >>> 16)) & setMask) * WAYS;
+	}
+
+	private static boolean matches(final String value, final char[] chars, final int len) {
+		if (value.length() != len) return false;
+		for (int i = 0; i < len; i++) {
+			if (value.charAt(i) != chars[i]) return false;
+		}
+		return true;
+	}
+
+	private static boolean matches(final byte[] raw, final byte[] input, final int offset, final int len) {
+		if (raw.length != len) return false;
+		for (int i = 0; i < len; i++) {
+			if (raw[i] != input[offset + i]) return false;
+		}
+		return true;
+	}
+
+	private String hit(final Entry entry) {
+		final int frequency = entry.frequency;
+		if (frequency < MAX_FREQUENCY) {
+			entry.frequency = frequency + 1;
+		}
+		count(0);
+		return entry.value;
+	}
+
+	private void insert(final int start, final Entry entry) {
+		for (int i = 0; i < WAYS; i++) {
+			if (entries.get(start + i) == null && entries.compareAndSet(start + i, null, entry)) {
+				return;
+			}
+		}
+		//start sweeping from a different slot each time, based on the new entry hash
+		final int hand = (entry.hash >>> 24) & (WAYS - 1);
+		for (int step = 0; step < WAYS * (MAX_FREQUENCY + 1); step++) {
+			final int index = start + ((hand + step) & (WAYS - 1));
+			final Entry current = entries.get(index);
+			if (current == null || current.frequency == 0) {
+				if (entries.compareAndSet(index, current, entry)) {
+					return;
+				}
+			} else {
+				current.frequency = current.frequency - 1;
+			}
+		}
+	}
+
+	private void count(final int counter) {
+		final long id = Thread.currentThread().getId();
+		final int stripe = (int) (id ^ (id >>> 32)) & (COUNTER_STRIPES - 1);
+		counters.incrementAndGet((stripe << STRIPE_SHIFT) + counter);
+	}
+
+	private long sum(final int counter) {
+		long total = 0;
+		for (int i = 0; i < COUNTER_STRIPES; i++) {
+			total += counters.get((i << STRIPE_SHIFT) + counter);
+		}
+		return total;
+	}
+
+	/**
+	 * Number of lookups which returned cached instance.
+	 *
+	 * @return cache hits
+	 */
+	public long hits() {
+		return sum(0);
+	}
+
+	/**
+	 * Number of lookups which created a new instance.
+	 * Strings longer than max length are not counted.
+	 *
+	 * @return cache misses
+	 */
+	public long misses() {
+		return sum(1);
+	}
+}
@@ -0,0 +1,125 @@
+package com.dslplatform.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of double values backed by a double array.
+ * <p>
+ * Values are stored without boxing, which avoids an object per element for large numeric collections.
+ * Primitive methods such as getDouble and addDouble should be used to access values without boxing.
+ * Null elements are not supported.
+ */
+public final class DoubleList extends AbstractList<Double> implements RandomAccess {
+
+	double[] values;
+	int size;
+
+	public DoubleList() {
+		this(4);
+	}
+
+	public DoubleList(final int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity can't be negative");
+		this.values = initialCapacity == 0 ? NumberConverter.DOUBLE_EMPTY_ARRAY : new double[initialCapacity];
+	}
+
+	public DoubleList(final double[] values) {
+		if (values == null) throw new IllegalArgumentException("values can't be null");
+		this.values = values.clone();
+		this.size = values.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Double get(final int index) {
+		return getDouble(index);
+	}
+
+	public double getDouble(final int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	@Override
+	public Double set(final int index, final Double value) {
+		return setDouble(index, value);
+	}
+
+	public double setDouble(final int index, final double value) {
+		checkIndex(index);
+		final double previous = values[index];
+		values[index] = value;
+		return previous;
+	}
+
+	@Override
+	public boolean add(final Double value) {
+		addDouble(value);
+		return true;
+	}
+
+	public void addDouble(final double value) {
+		if (size == values.length) {
+			ensureCapacity(size + 1);
+		}
+		values[size++] = value;
+		modCount++;
+	}
+
+	@Override
+	public void add(final int index, final Double value) {
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		final double unboxed = value;
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = unboxed;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Double remove(final int index) {
+		checkIndex(index);
+		final double previous = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Grow backing array so that it can hold at least the specified number of values.
+	 *
+	 * @param capacity minimal number of values
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values, Math.max(capacity, Math.max(4, values.length << 1)));
+		}
+	}
+
+	/**
+	 * Copy values into a new array.
+	 *
+	 * @return array of values
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+}
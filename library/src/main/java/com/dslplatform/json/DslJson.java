@@ -10,6 +10,7 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main DSL-JSON class.
@@ -33,10 +34,10 @@ import java.util.concurrent.*;
  * </pre>
  * <p>
  * For best performance use serialization API with JsonWriter and byte[] as target.
- * JsonWriter is reused via thread local variable. When custom JsonWriter's are used, reusing them will yield maximum performance.
+ * JsonWriter is reused via instance pool (thread local by default). When custom JsonWriter's are used, reusing them will yield maximum performance.
  * JsonWriter can be reused via reset methods.
  * For best deserialization performance prefer byte[] API instead of InputStream API.
- * JsonReader is reused via thread local variable. When custom JsonReaders are used, reusing them will yield maximum performance.
+ * JsonReader is reused via instance pool (thread local by default). When custom JsonReaders are used, reusing them will yield maximum performance.
  * JsonReader can be reused via process methods.
  * <p>
  * During deserialization TContext can be used to pass data into deserialized classes.
@@ -81,6 +82,21 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * object will be serialized in such a way. Regardless of this value deserialization will support all formats.
 	 */
 	public final boolean allowArrayFormat;
+	/**
+	 * Runtime object decoders can detect the dominant order of incoming properties
+	 * and adjust their fast path to it when this value is enabled.
+	 */
+	public final boolean adaptivePropertyOrder;
+	/**
+	 * When binding into an existing instance, runtime decoders can also reuse nested objects,
+	 * collections, maps and arrays found on that instance when this value is enabled.
+	 */
+	public final boolean deepBind;
+	/**
+	 * Runtime analysis can decode lists of int, long and double values
+	 * into IntList, LongList and DoubleList when this value is enabled.
+	 */
+	public final boolean primitiveCollections;
 
 	protected final StringCache keyCache;
 	protected final StringCache valuesCache;
@@ -95,8 +111,17 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	private final JsonReader.UnknownNumberParsing unknownNumbers;
 	private final int maxNumberDigits;
 	private final int maxStringSize;
+	private final JsonWriter.EscapePolicy escapePolicy;
+	@Nullable
+	private final byte[] indentation;
 	protected final ThreadLocal<JsonWriter> localWriter;
 	protected final ThreadLocal<JsonReader> localReader;
+	private final InstancePool<JsonWriter> writerPool;
+	private final InstancePool<JsonReader> readerPool;
+	private final int retainedBufferSize;
+	private final SizeEstimates sizeEstimates = new SizeEstimates();
+	//primitive values are compact, so allow larger upfront buffers than for objects
+	private static final int MAX_PRIMITIVE_CAPACITY = 1 << 20;
 	private final ExternalConverterAnalyzer externalConverterAnalyzer;
 
 	public interface Fallback<TContext> {
@@ -127,6 +152,9 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		private Fallback<TContext> fallback;
 		private boolean omitDefaults;
 		private boolean allowArrayFormat;
+		private boolean adaptivePropertyOrder;
+		private boolean deepBind;
+		private boolean primitiveCollections;
 		private StringCache keyCache = new SimpleStringCache();
 		private StringCache valuesCache;
 		private int fromServiceLoader;
@@ -134,12 +162,22 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		private JsonReader.DoublePrecision doublePrecision = JsonReader.DoublePrecision.DEFAULT;
 		private JsonReader.UnknownNumberParsing unknownNumbers = JsonReader.UnknownNumberParsing.LONG_AND_BIGDECIMAL;
 		private int maxNumberDigits = 512;
+		private int retainedBufferSize = 64 * 1024;
+		private InstancePool.Strategy instancePool;
 		private int maxStringBuffer = 128 * 1024 * 1024;
+		private JsonWriter.EscapePolicy escapePolicy = JsonWriter.EscapePolicy.MINIMAL;
+		@Nullable
+		private byte[] indentation;
 		private final List<Configuration> configurations = new ArrayList<Configuration>();
 		private final List<ConverterFactory<JsonWriter.WriteObject>> writerFactories = new ArrayList<ConverterFactory<JsonWriter.WriteObject>>();
 		private final List<ConverterFactory<JsonReader.ReadObject>> readerFactories = new ArrayList<ConverterFactory<JsonReader.ReadObject>>();
 		private final List<ConverterFactory<JsonReader.BindObject>> binderFactories = new ArrayList<ConverterFactory<JsonReader.BindObject>>();
 		private final Set<ClassLoader> classLoaders = new HashSet<ClassLoader>();
+		private final Map<Type, SerializationCache<?>> serializationCaches = new HashMap<Type, SerializationCache<?>>();
+		private final Map<Type, InstancePool.Strategy> recycledTypes = new HashMap<Type, InstancePool.Strategy>();
+		private final Map<Type, InstancePool.Reset<?>> recycledResets = new HashMap<Type, InstancePool.Reset<?>>();
+		@Nullable
+		private Type[] sealedTypes;
 
 		/**
 		 * Pass in context for DslJson.
@@ -204,6 +242,56 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			return this;
 		}
 
+		/**
+		 * Decoders expect properties in declaration order and fall back to a slower lookup otherwise.
+		 * When JSON is produced by a third party, properties might consistently arrive in some other order.
+		 * With this setting enabled, decoders which support it will track the order seen on the slow path
+		 * and switch the fast path to it once it becomes dominant.
+		 * This adds a small overhead to each decode for collecting statistics.
+		 *
+		 * @param adaptivePropertyOrder learn dominant property order at runtime
+		 * @return itself
+		 */
+		public Settings<TContext> adaptivePropertyOrder(boolean adaptivePropertyOrder) {
+			this.adaptivePropertyOrder = adaptivePropertyOrder;
+			return this;
+		}
+
+		/**
+		 * Binding via JsonReader.next(Class, instance) reuses only the provided instance by default.
+		 * Nested objects, collections, maps and arrays are created anew for each property.
+		 * With this setting enabled, decoders which support it will bind into the current value of a property instead.
+		 * Nested objects and list elements are bound in place,
+		 * collections and maps are cleared and refilled and arrays are refilled when the length matches.
+		 * When an existing collection or map rejects modification (eg. Collections.unmodifiableList, Arrays.asList or List.of)
+		 * it's replaced with a newly decoded one, although fixed size lists can be partially updated before that.
+		 * Values of instances created during decoding (eg. defaults from constructor) are never reused,
+		 * since they can be immutable or shared between instances.
+		 * Arrays are decoded into a new array and copied into the existing one only when the length matches.
+		 *
+		 * @param deepBind reuse nested instances when binding
+		 * @return itself
+		 */
+		public Settings<TContext> deepBind(boolean deepBind) {
+			this.deepBind = deepBind;
+			return this;
+		}
+
+		/**
+		 * Lists of numbers are decoded into ArrayList with a boxed object for each element.
+		 * With this setting enabled, analyzers which support it will decode List&lt;Integer&gt;, List&lt;Long&gt;
+		 * and List&lt;Double&gt; (or Collection of those) into IntList, LongList and DoubleList instead.
+		 * Such lists store values in a primitive array, but don't support null elements.
+		 * Properties declared as IntList, LongList or DoubleList are supported regardless of this setting.
+		 *
+		 * @param primitiveCollections decode numeric lists into primitive backed lists
+		 * @return itself
+		 */
+		public Settings<TContext> primitiveCollections(boolean primitiveCollections) {
+			this.primitiveCollections = primitiveCollections;
+			return this;
+		}
+
 		/**
 		 * Use specific key cache implementation.
 		 * Key cache is enabled by default and it's used when deserializing unstructured objects such as Map&lt;String, Object&gt;
@@ -230,6 +318,8 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		 * <p>
 		 * Not every "JSON string" will use this cache... eg UUID, LocalDate don't create an instance of string
 		 * and therefore don't use this cache.
+		 * <p>
+		 * For caches shared among many threads, with many distinct values, ConcurrentStringCache should be used.
 		 *
 		 * @param valuesCache which values cache to use
 		 * @return itself
@@ -404,6 +494,153 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			return this;
 		}
 
+		/**
+		 * Specify maximum size of buffers kept by pooled writers and readers between calls. Default is 64kB.
+		 * When serialization of a large object or deserialization of a long string grows buffers over this size,
+		 * they will be replaced with small ones after the call, so that a single large
+		 * message does not keep memory in every thread.
+		 *
+		 * @param size maximum retained buffer size in bytes (chars for reader string buffer)
+		 * @return itself
+		 */
+		public Settings<TContext> retainedBufferSize(int size) {
+			if (size < 4096) throw new IllegalArgumentException("size can't be smaller than 4096");
+			this.retainedBufferSize = size;
+			return this;
+		}
+
+		/**
+		 * Specify how readers and writers used by convenience methods are reused. Default is thread local.
+		 * When many short lived threads are used (such as virtual threads)
+		 * thread local instances are discarded after each request.
+		 * In that case use shared pool, such as InstancePools.striped
+		 *
+		 * @param strategy pool for readers and writers
+		 * @return itself
+		 */
+		public Settings<TContext> instancePool(InstancePool.Strategy strategy) {
+			if (strategy == null) throw new IllegalArgumentException("strategy can't be null");
+			this.instancePool = strategy;
+			return this;
+		}
+
+		/**
+		 * Specify how strings should be escaped during serialization. Default is minimal escaping.
+		 * HTML safe policy can be used when JSON is embedded into HTML pages
+		 * and ASCII only policy when non ASCII output is not supported by the consumer.
+		 *
+		 * @param escapePolicy string escaping rules for writers created by this instance
+		 * @return itself
+		 */
+		public Settings<TContext> escapePolicy(JsonWriter.EscapePolicy escapePolicy) {
+			if (escapePolicy == null) throw new IllegalArgumentException("escapePolicy can't be null");
+			this.escapePolicy = escapePolicy;
+			return this;
+		}
+
+		/**
+		 * Write formatted JSON with objects and arrays spread across multiple lines.
+		 * Formatting is done by the writer during serialization, so there is no need for an additional pass
+		 * such as PrettifyOutputStream. Indentation can also be changed on a specific writer.
+		 * By default JSON is written without any whitespace.
+		 *
+		 * @param indentation spaces and/or tabs used for a single nesting level. Null or empty string for compact output
+		 * @return itself
+		 */
+		public Settings<TContext> indentation(@Nullable String indentation) {
+			this.indentation = JsonWriter.indentationBytes(indentation);
+			return this;
+		}
+
+		/**
+		 * Remember encoded bytes of serialized instances of specified type.
+		 * When the same instance is serialized again, cached bytes will be copied instead of encoding it again.
+		 * This should be used only for immutable types which are serialized frequently.
+		 * Caching can also be enabled on @CompiledJson classes.
+		 *
+		 * @param manifest   cached type
+		 * @param keys       match cached bytes by instance identity or equality
+		 * @param maxEntries maximum number of cached instances
+		 * @return itself
+		 */
+		public Settings<TContext> cacheSerialized(Type manifest, SerializationCache.Keys keys, int maxEntries) {
+			if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
+			serializationCaches.put(manifest, new SerializationCache<Object>(keys, maxEntries));
+			return this;
+		}
+
+		/**
+		 * Decoders will take instances of specified types from a pool instead of creating new ones.
+		 * Application should return an instance with DslJson.recycle once it's done with it,
+		 * which is useful when many short lived objects are decoded, eg. via iterateOver.
+		 * <p>
+		 * Collections and maps are cleared when they are recycled,
+		 * but other objects will retain values of properties which are missing from the input.
+		 * To reset them, register the type with a reset hook instead.
+		 * Nested objects are not recycled together with the outer object.
+		 * <p>
+		 * Strategy must not hand out the same instance until it's released,
+		 * which means that InstancePools.THREAD_LOCAL can't be used.
+		 *
+		 * @param strategy  pool for decoded instances, eg. InstancePools.striped
+		 * @param manifests types which will be recycled
+		 * @return itself
+		 */
+		public Settings<TContext> recycleInstances(InstancePool.Strategy strategy, Type... manifests) {
+			if (strategy == null) throw new IllegalArgumentException("strategy can't be null");
+			if (strategy == InstancePools.THREAD_LOCAL) {
+				throw new IllegalArgumentException("thread local strategy can't be used for recycling decoded instances");
+			}
+			if (manifests == null) throw new IllegalArgumentException("manifests can't be null");
+			for (Type t : manifests) {
+				if (t == null) throw new IllegalArgumentException("manifests can't contain null");
+				recycledTypes.put(t, strategy);
+			}
+			return this;
+		}
+
+		/**
+		 * Decoders will take instances of specified type from a pool instead of creating new ones.
+		 * Reset is called by DslJson.recycle before instance is returned into the pool,
+		 * so that properties missing from the next input don't keep values from the previous one.
+		 *
+		 * @param strategy pool for decoded instances, eg. InstancePools.striped
+		 * @param manifest type which will be recycled
+		 * @param reset    restores instance state before it's reused
+		 * @param <T>      recycled type
+		 * @return itself
+		 */
+		public <T> Settings<TContext> recycleInstances(InstancePool.Strategy strategy, Class<T> manifest, InstancePool.Reset<? super T> reset) {
+			if (reset == null) throw new IllegalArgumentException("reset can't be null");
+			recycleInstances(strategy, manifest);
+			recycledResets.put(manifest, reset);
+			return this;
+		}
+
+		/**
+		 * Resolve converters for specified types during startup and seal the converter registry.
+		 * Sealed DslJson uses immutable lookup tables without any locking or registration checks.
+		 * Types which were not registered or resolved during startup will not be looked up,
+		 * eg. tryFindWriter will return null for them and serialization will fail.
+		 * Writers for subtypes of sealed types (eg. ArrayList for sealed List&lt;Foo&gt;)
+		 * will still be found by scanning type hierarchy of the sealed table.
+		 * Registration of converters and factories is not allowed after DslJson is created.
+		 * <p>
+		 * All types used by the application, including collections and nested types
+		 * which are not resolved by the declared types, should be declared.
+		 *
+		 * @param types types for which converters will be resolved
+		 * @return itself
+		 */
+		public Settings<TContext> sealed(Type... types) {
+			if (types == null) throw new IllegalArgumentException("types can't be null");
+			for (Type t : types) {
+				if (t == null) throw new IllegalArgumentException("types can't contain null");
+			}
+			this.sealedTypes = types.clone();
+			return this;
+		}
+
 		/**
 		 * Configure DslJson with custom Configuration during startup.
 		 * Configurations are extension points for setting up readers/writers during DslJson initialization.
@@ -479,19 +716,39 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		this.localWriter = new ThreadLocal<JsonWriter>() {
 			@Override
 			protected JsonWriter initialValue() {
-				return new JsonWriter(4096, self);
+				return self.createPooledWriter();
 			}
 		};
 		this.localReader = new ThreadLocal<JsonReader>() {
 			@Override
 			protected JsonReader initialValue() {
-				return new JsonReader<TContext>(new byte[4096], 4096, self.context, new char[64], self.keyCache, self.valuesCache, self, self.errorInfo, self.doublePrecision, self.unknownNumbers, self.maxNumberDigits, self.maxStringSize);
+				return self.createPooledReader();
 			}
 		};
+		if (settings.instancePool == null) {
+			this.writerPool = new InstancePools.ThreadLocalPool<JsonWriter>(localWriter);
+			this.readerPool = new InstancePools.ThreadLocalPool<JsonReader>(localReader);
+		} else {
+			this.writerPool = settings.instancePool.create(new InstancePool.Factory<JsonWriter>() {
+				@Override
+				public JsonWriter create() {
+					return self.createPooledWriter();
+				}
+			});
+			this.readerPool = settings.instancePool.create(new InstancePool.Factory<JsonReader>() {
+				@Override
+				public JsonReader create() {
+					return self.createPooledReader();
+				}
+			});
+		}
 		this.context = settings.context;
 		this.fallback = settings.fallback;
 		this.omitDefaults = settings.omitDefaults;
 		this.allowArrayFormat = settings.allowArrayFormat;
+		this.adaptivePropertyOrder = settings.adaptivePropertyOrder;
+		this.deepBind = settings.deepBind;
+		this.primitiveCollections = settings.primitiveCollections;
 		this.keyCache = settings.keyCache;
 		this.valuesCache = settings.valuesCache;
 		this.unknownNumbers = settings.unknownNumbers;
@@ -499,6 +756,9 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		this.doublePrecision = settings.doublePrecision;
 		this.maxNumberDigits = settings.maxNumberDigits;
 		this.maxStringSize = settings.maxStringBuffer;
+		this.retainedBufferSize = settings.retainedBufferSize;
+		this.escapePolicy = settings.escapePolicy;
+		this.indentation = settings.indentation;
 		this.writerFactories.addAll(settings.writerFactories);
 		this.settingsWriters = settings.writerFactories.size();
 		this.readerFactories.addAll(settings.readerFactories);
@@ -506,13 +766,18 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		this.binderFactories.addAll(settings.binderFactories);
 		this.settingsBinders = settings.binderFactories.size();
 		this.externalConverterAnalyzer = new ExternalConverterAnalyzer(settings.classLoaders);
+		for (Map.Entry<Type, SerializationCache<?>> kv : settings.serializationCaches.entrySet()) {
+			serializationCaches.put(kv.getKey(), kv.getValue().withSameSettings());
+		}
+		this.recycledTypes = new HashMap<Type, InstancePool.Strategy>(settings.recycledTypes);
+		this.recyclingResets.putAll(settings.recycledResets);
 
 		registerReader(byte[].class, BinaryConverter.Base64Reader);
 		registerWriter(byte[].class, BinaryConverter.Base64Writer);
 		registerReader(boolean.class, BoolConverter.READER);
 		registerWriter(boolean.class, BoolConverter.WRITER);
 		registerDefault(boolean.class, false);
-		registerReader(boolean[].class, BoolConverter.ARRAY_READER);
+		registerReader(boolean[].class, BoolConverter.arrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(boolean[].class, BoolConverter.ARRAY_WRITER);
 		registerReader(Boolean.class, BoolConverter.NULLABLE_READER);
 		registerWriter(Boolean.class, BoolConverter.WRITER);
@@ -540,41 +805,49 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		registerWriter(URI.class, NetConverter.UriWriter);
 		registerReader(InetAddress.class, NetConverter.AddressReader);
 		registerWriter(InetAddress.class, NetConverter.AddressWriter);
+		registerReader(RawJson.class, RawJsonConverter.READER);
+		registerWriter(RawJson.class, RawJsonConverter.WRITER);
 		registerReader(double.class, NumberConverter.DOUBLE_READER);
 		registerWriter(double.class, NumberConverter.DOUBLE_WRITER);
 		registerDefault(double.class, 0.0);
-		registerReader(double[].class, NumberConverter.DOUBLE_ARRAY_READER);
+		registerReader(double[].class, NumberConverter.doubleArrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(double[].class, NumberConverter.DOUBLE_ARRAY_WRITER);
 		registerReader(Double.class, NumberConverter.NULLABLE_DOUBLE_READER);
 		registerWriter(Double.class, NumberConverter.DOUBLE_WRITER);
+		registerReader(DoubleList.class, NumberConverter.doubleListReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
+		registerWriter(DoubleList.class, NumberConverter.DOUBLE_LIST_WRITER);
 		registerReader(float.class, NumberConverter.FLOAT_READER);
 		registerWriter(float.class, NumberConverter.FLOAT_WRITER);
 		registerDefault(float.class, 0.0f);
-		registerReader(float[].class, NumberConverter.FLOAT_ARRAY_READER);
+		registerReader(float[].class, NumberConverter.floatArrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(float[].class, NumberConverter.FLOAT_ARRAY_WRITER);
 		registerReader(Float.class, NumberConverter.NULLABLE_FLOAT_READER);
 		registerWriter(Float.class, NumberConverter.FLOAT_WRITER);
 		registerReader(int.class, NumberConverter.INT_READER);
 		registerWriter(int.class, NumberConverter.INT_WRITER);
 		registerDefault(int.class, 0);
-		registerReader(int[].class, NumberConverter.INT_ARRAY_READER);
+		registerReader(int[].class, NumberConverter.intArrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(int[].class, NumberConverter.INT_ARRAY_WRITER);
 		registerReader(Integer.class, NumberConverter.NULLABLE_INT_READER);
 		registerWriter(Integer.class, NumberConverter.INT_WRITER);
+		registerReader(IntList.class, NumberConverter.intListReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
+		registerWriter(IntList.class, NumberConverter.INT_LIST_WRITER);
 		registerReader(short.class, NumberConverter.SHORT_READER);
 		registerWriter(short.class, NumberConverter.SHORT_WRITER);
 		registerDefault(short.class, (short)0);
-		registerReader(short[].class, NumberConverter.SHORT_ARRAY_READER);
+		registerReader(short[].class, NumberConverter.shortArrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(short[].class, NumberConverter.SHORT_ARRAY_WRITER);
 		registerReader(Short.class, NumberConverter.NULLABLE_SHORT_READER);
 		registerWriter(Short.class, NumberConverter.SHORT_WRITER);
 		registerReader(long.class, NumberConverter.LONG_READER);
 		registerWriter(long.class, NumberConverter.LONG_WRITER);
 		registerDefault(long.class, 0L);
-		registerReader(long[].class, NumberConverter.LONG_ARRAY_READER);
+		registerReader(long[].class, NumberConverter.longArrayReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
 		registerWriter(long[].class, NumberConverter.LONG_ARRAY_WRITER);
 		registerReader(Long.class, NumberConverter.NULLABLE_LONG_READER);
 		registerWriter(Long.class, NumberConverter.LONG_WRITER);
+		registerReader(LongList.class, NumberConverter.longListReader(new CapacityHint(MAX_PRIMITIVE_CAPACITY)));
+		registerWriter(LongList.class, NumberConverter.LONG_LIST_WRITER);
 		registerReader(BigDecimal.class, NumberConverter.DecimalReader);
 		registerWriter(BigDecimal.class, NumberConverter.DecimalWriter);
 		registerReader(String.class, StringConverter.READER);
@@ -595,6 +868,9 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			loadDefaultConverters(this, settings.classLoaders, "dsl_json.json.ExternalSerialization");
 			loadDefaultConverters(this, settings.classLoaders, "dsl_json_ExternalSerialization");
 		}
+		if (settings.sealedTypes != null) {
+			freeze(settings.sealedTypes, true);
+		}
 	}
 
 	/**
@@ -665,7 +941,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @return bound writer
 	 */
 	public JsonWriter newWriter() {
-		return new JsonWriter(this);
+		return new JsonWriter(new byte[512], this, escapePolicy, indentation);
 	}
 
 	/**
@@ -678,7 +954,79 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @return bound writer
 	 */
 	public JsonWriter newWriter(int size) {
-		return new JsonWriter(size, this);
+		return new JsonWriter(new byte[size], this, escapePolicy, indentation);
+	}
+
+	private JsonWriter createPooledWriter() {
+		return new JsonWriter(new byte[4096], this, escapePolicy, indentation);
+	}
+
+	private JsonReader<TContext> createPooledReader() {
+		final JsonReader<TContext> reader = new JsonReader<TContext>(new byte[4096], 4096, context, new char[64], keyCache, valuesCache, this, errorInfo, doublePrecision, unknownNumbers, maxNumberDigits, maxStringSize);
+		reader.retainedCharsLimit = retainedBufferSize;
+		return reader;
+	}
+
+	/**
+	 * Take a writer from the pool used by convenience serialization methods.
+	 * Writer should be returned with releaseWriter once its content was consumed.
+	 * This can be used by integrations which want to reuse writers in the same way as DslJson does.
+	 *
+	 * @return pooled writer
+	 */
+	public final JsonWriter acquireWriter() {
+		return writerPool.acquire();
+	}
+
+	/**
+	 * Return the writer taken with acquireWriter into the pool.
+	 * Writer will be reset and its buffer will be replaced with a smaller one if it grew too large.
+	 *
+	 * @param writer writer which is no longer used
+	 */
+	public final void releaseWriter(final JsonWriter writer) {
+		if (writer == null) throw new IllegalArgumentException("writer can't be null");
+		writer.reset(null);
+		writer.shrinkBuffer(retainedBufferSize, 4096);
+		writerPool.release(writer);
+	}
+
+	/**
+	 * Take a reader from the pool used by convenience deserialization methods.
+	 * Reader should be returned with releaseReader once processing is done.
+	 *
+	 * @return pooled reader
+	 */
+	@SuppressWarnings("unchecked")
+	public final JsonReader<TContext> acquireReader() {
+		return (JsonReader<TContext>) readerPool.acquire();
+	}
+
+	/**
+	 * Return the reader taken with acquireReader into the pool.
+	 * Reader will be reset and released from the processed input.
+	 *
+	 * @param reader reader which is no longer used
+	 */
+	public final void releaseReader(final JsonReader reader) {
+		if (reader == null) throw new IllegalArgumentException("reader can't be null");
+		reader.reset();
+		readerPool.release(reader);
+	}
+
+	/**
+	 * Create a writer bound to this DSL-JSON with buffer sized for the specified type.
+	 * Size is estimated from previous serializations of that type through this DslJson instance,
+	 * so that resulting JSON can usually fit without resizing the buffer.
+	 * Sizes are recorded only for types which were requested through this method, starting with the first request.
+	 * Bound writer can use lookups to find custom writers.
+	 *
+	 * @param manifest type which will be serialized
+	 * @return bound writer
+	 */
+	public JsonWriter newWriter(Class<?> manifest) {
+		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
+		return new JsonWriter(new byte[sizeEstimates.bufferSize(manifest)], this, escapePolicy, indentation);
 	}
 
 	/**
@@ -692,7 +1040,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	public JsonWriter newWriter(byte[] buffer) {
 		if (buffer == null) throw new IllegalArgumentException("null value provided for buffer");
-		return new JsonWriter(buffer, this);
+		return new JsonWriter(buffer, this, escapePolicy, indentation);
 	}
 
 	/**
@@ -816,22 +1164,27 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	@SuppressWarnings("unchecked")
 	public boolean registerWriterFactory(ConverterFactory<? extends JsonWriter.WriteObject> factory) {
 		if (factory == null) throw new IllegalArgumentException("factory can't be null");
+		checkNotSealed();
 		if (writerFactories.contains(factory)) return false;
 		writerFactories.add(writerFactories.size() - settingsWriters, (ConverterFactory<JsonWriter.WriteObject>) factory);
+		invalidateDispatch();
 		return true;
 	}
 
 	@SuppressWarnings("unchecked")
 	public boolean registerReaderFactory(ConverterFactory<? extends JsonReader.ReadObject> factory) {
 		if (factory == null) throw new IllegalArgumentException("factory can't be null");
+		checkNotSealed();
 		if (readerFactories.contains(factory)) return false;
 		readerFactories.add(readerFactories.size() - settingsReaders, (ConverterFactory<JsonReader.ReadObject>) factory);
+		invalidateDispatch();
 		return true;
 	}
 
 	@SuppressWarnings("unchecked")
 	public boolean registerBinderFactory(ConverterFactory<? extends JsonReader.BindObject> factory) {
 		if (factory == null) throw new IllegalArgumentException("factory can't be null");
+		checkNotSealed();
 		if (binderFactories.contains(factory)) return false;
 		binderFactories.add(binderFactories.size() - settingsBinders, (ConverterFactory<JsonReader.BindObject>) factory);
 		return true;
@@ -861,6 +1214,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	private final ConcurrentMap<Type, JsonReader.ReadObject> readers = new ConcurrentHashMap<Type, JsonReader.ReadObject>();
 	private final ConcurrentMap<Type, JsonReader.BindObject> binders = new ConcurrentHashMap<Type, JsonReader.BindObject>();
 	private final ConcurrentMap<Type, JsonWriter.WriteObject> writers = new ConcurrentHashMap<Type, JsonWriter.WriteObject>();
+	private final ConcurrentMap<Type, SerializationCache> serializationCaches = new ConcurrentHashMap<Type, SerializationCache>();
 
 
 	public final Set<Type> getRegisteredDecoders() {
@@ -890,8 +1244,9 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @param <S>      type or subtype
 	 */
 	public <T, S extends T> void registerReader(final Class<T> manifest, @Nullable final JsonReader.ReadObject<S> reader) {
-		if (reader == null) readers.remove(manifest);
-		else readers.put(manifest, reader);
+		checkNotFrozen(manifest, FROZEN_READERS);
+		final JsonReader.ReadObject old = reader == null ? readers.remove(manifest) : readers.put(manifest, reader);
+		if (old != reader) invalidateDispatch(manifest, old, readerDispatch);
 	}
 
 	/**
@@ -909,12 +1264,10 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	@Nullable
 	public JsonReader.ReadObject registerReader(final Type manifest, @Nullable final JsonReader.ReadObject<?> reader) {
-		if (reader == null) return readers.remove(manifest);
-		try {
-			return readers.get(manifest);
-		} finally {
-			readers.put(manifest, reader);
-		}
+		checkNotFrozen(manifest, FROZEN_READERS);
+		final JsonReader.ReadObject old = reader == null ? readers.remove(manifest) : readers.put(manifest, reader);
+		if (old != reader) invalidateDispatch(manifest, old, readerDispatch);
+		return old;
 	}
 
 	/**
@@ -933,6 +1286,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @param <S>      type or subtype
 	 */
 	public <T, S extends T> void registerBinder(final Class<T> manifest, @Nullable final JsonReader.BindObject<S> binder) {
+		checkNotFrozen(manifest, FROZEN_BINDERS);
 		if (binder == null) binders.remove(manifest);
 		else binders.put(manifest, binder);
 	}
@@ -951,6 +1305,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @param binder   provide custom implementation for binding JSON to an object instance
 	 */
 	public void registerBinder(final Type manifest, @Nullable final JsonReader.BindObject<?> binder) {
+		checkNotFrozen(manifest, FROZEN_BINDERS);
 		if (binder == null) binders.remove(manifest);
 		else binders.put(manifest, binder);
 	}
@@ -969,13 +1324,16 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * @param <T>      type
 	 */
 	public <T> void registerWriter(final Class<T> manifest, @Nullable final JsonWriter.WriteObject<T> writer) {
+		checkNotFrozen(manifest, FROZEN_WRITERS);
+		final JsonWriter.WriteObject old;
 		if (writer == null) {
 			writerMap.remove(manifest);
-			writers.remove(manifest);
+			old = writers.remove(manifest);
 		} else {
 			writerMap.put(manifest, manifest);
-			writers.put(manifest, writer);
+			old = writers.put(manifest, withSerializationCache(manifest, writer));
 		}
+		if (old != writer) invalidateDispatch(manifest, old, writerDispatch);
 	}
 
 	/**
@@ -993,16 +1351,339 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	@Nullable
 	public JsonWriter.WriteObject registerWriter(final Type manifest, @Nullable final JsonWriter.WriteObject<?> writer) {
-		if (writer == null) return writers.remove(manifest);
-		try {
-			return writers.get(manifest);
-		} finally {
-			writers.put(manifest, writer);
+		checkNotFrozen(manifest, FROZEN_WRITERS);
+		final JsonWriter.WriteObject old = writer == null
+				? writers.remove(manifest)
+				: writers.put(manifest, withSerializationCache(manifest, writer));
+		if (old != writer) invalidateDispatch(manifest, old, writerDispatch);
+		return old;
+	}
+
+	@SuppressWarnings("unchecked")
+	private JsonWriter.WriteObject withSerializationCache(final Type manifest, final JsonWriter.WriteObject writer) {
+		if (serializationCaches.isEmpty()) return writer;
+		final SerializationCache cache = serializationCaches.get(manifest);
+		if (cache == null || cache == writer) return writer;
+		cache.encoder(writer);
+		return cache;
+	}
+
+	/**
+	 * Remember encoded bytes of serialized instances of specified type.
+	 * Writer for the type can be registered before or after this call.
+	 * This is used by @CompiledJson classes with enabled caching.
+	 * Calling it for a type which already has a cache will keep the existing cache.
+	 *
+	 * @param manifest   cached type
+	 * @param keys       match cached bytes by instance identity or equality
+	 * @param maxEntries maximum number of cached instances
+	 * @return cache for specified type, which can be used to inspect statistics
+	 */
+	@SuppressWarnings("unchecked")
+	public SerializationCache<?> cacheSerialized(final Type manifest, final SerializationCache.Keys keys, final int maxEntries) {
+		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
+		checkNotFrozen(manifest, FROZEN_WRITERS);
+		final SerializationCache cache = new SerializationCache<Object>(keys, maxEntries);
+		final SerializationCache existing = serializationCaches.putIfAbsent(manifest, cache);
+		if (existing != null) return existing;
+		final JsonWriter.WriteObject writer = writers.get(manifest);
+		if (writer != null) {
+			writers.put(manifest, withSerializationCache(manifest, writer));
+			invalidateDispatch(manifest, writer, writerDispatch);
 		}
+		return cache;
+	}
+
+	/**
+	 * Find serialization cache for specified type.
+	 * Caches are enabled through Settings or @CompiledJson annotation.
+	 *
+	 * @param manifest cached type
+	 * @return cache with hit/miss statistics or null if caching is not enabled for the type
+	 */
+	@Nullable
+	public SerializationCache<?> getSerializationCache(final Type manifest) {
+		return serializationCaches.get(manifest);
+	}
+
+	private final Map<Type, InstancePool.Strategy> recycledTypes;
+	private final ConcurrentMap<Type, InstancePool<?>> recyclingPools = new ConcurrentHashMap<Type, InstancePool<?>>();
+	private final ConcurrentMap<Type, InstancePool.Reset<?>> recyclingResets = new ConcurrentHashMap<Type, InstancePool.Reset<?>>();
+
+	//pool created by acquireRecycled is empty until instances are recycled
+	private static final InstancePool.Factory<Object> NO_INSTANCE = new InstancePool.Factory<Object>() {
+		@Nullable
+		@Override
+		public Object create() {
+			return null;
+		}
+	};
+
+	/**
+	 * Pool for decoded instances of a type enabled for recycling through Settings.
+	 * Decoders call this once during initialization and acquire instances from the pool when it exists.
+	 * All decoders of the same type share the pool, which is created with the factory from the first call.
+	 *
+	 * @param manifest decoded type
+	 * @param factory  creates new instances when pool is empty
+	 * @param <T>      decoded type
+	 * @return pool or null when recycling is not enabled for the type
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public final <T> InstancePool<T> recyclingPool(final Type manifest, final InstancePool.Factory<T> factory) {
+		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
+		if (factory == null) throw new IllegalArgumentException("factory can't be null");
+		if (recycledTypes.isEmpty()) return null;
+		final InstancePool.Strategy strategy = recycledTypes.get(manifest);
+		if (strategy == null) return null;
+		final InstancePool<?> existing = recyclingPools.get(manifest);
+		if (existing != null) return (InstancePool<T>) existing;
+		final InstancePool<T> pool = strategy.create(factory);
+		final InstancePool<?> previous = recyclingPools.putIfAbsent(manifest, pool);
+		return previous != null ? (InstancePool<T>) previous : pool;
+	}
+
+	/**
+	 * Pool for decoded instances of a type enabled for recycling through Settings,
+	 * with a default reset used when one was not registered for the type through Settings.
+	 * Decoders of collections and maps use this to clear instances when they are recycled.
+	 *
+	 * @param manifest decoded type
+	 * @param factory  creates new instances when pool is empty
+	 * @param reset    default reset for recycled instances
+	 * @param <T>      decoded type
+	 * @return pool or null when recycling is not enabled for the type
+	 */
+	@Nullable
+	public final <T> InstancePool<T> recyclingPool(
+			final Type manifest,
+			final InstancePool.Factory<T> factory,
+			final InstancePool.Reset<? super T> reset) {
+		if (reset == null) throw new IllegalArgumentException("reset can't be null");
+		final InstancePool<T> pool = recyclingPool(manifest, factory);
+		if (pool != null) recyclingResets.putIfAbsent(manifest, reset);
+		return pool;
+	}
+
+	/**
+	 * Take an instance from the pool of a type enabled for recycling through Settings.
+	 * Used by generated decoders, which create a new instance when null is returned.
+	 *
+	 * @param manifest decoded type
+	 * @param <T>      decoded type
+	 * @return recycled instance or null when there is none or recycling is not enabled for the type
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public final <T> T acquireRecycled(final Class<T> manifest) {
+		if (recycledTypes.isEmpty()) return null;
+		InstancePool<?> pool = recyclingPools.get(manifest);
+		if (pool == null) {
+			pool = recyclingPool(manifest, NO_INSTANCE);
+			if (pool == null) return null;
+		}
+		return (T) pool.acquire();
+	}
+
+	/**
+	 * Return decoded instance to its pool, so that it can be reused by decoders.
+	 * Instance is reset first, when reset is registered for the type.
+	 * Instance must not be used by the application after this call.
+	 * When recycling is not enabled for the type this call does nothing.
+	 *
+	 * @param manifest type used during decoding
+	 * @param instance instance which is no longer used
+	 */
+	@SuppressWarnings("unchecked")
+	public final void recycle(final Type manifest, @Nullable final Object instance) {
+		if (instance == null || recyclingPools.isEmpty()) return;
+		final InstancePool pool = recyclingPools.get(manifest);
+		if (pool == null) return;
+		final InstancePool.Reset reset = recyclingResets.get(manifest);
+		if (reset != null) reset.reset(instance);
+		pool.release(instance);
 	}
 
 	private final ConcurrentMap<Class<?>, Class<?>> writerMap = new ConcurrentHashMap<Class<?>, Class<?>>();
 
+	/**
+	 * Result of converter lookup for a class, including negative result when converter was not found.
+	 */
+	private static final class ClassDispatch {
+		@Nullable
+		final Object converter;
+
+		ClassDispatch(@Nullable final Object converter) {
+			this.converter = converter;
+		}
+	}
+
+	private final ConcurrentMap<Class<?>, ClassDispatch> writerDispatch = new ConcurrentHashMap<Class<?>, ClassDispatch>();
+	private final ConcurrentMap<Class<?>, ClassDispatch> readerDispatch = new ConcurrentHashMap<Class<?>, ClassDispatch>();
+	//increased on every change, so that lookups which raced with a registration don't remember stale results
+	private final AtomicInteger dispatchVersion = new AtomicInteger();
+
+	private void invalidateDispatch() {
+		dispatchVersion.incrementAndGet();
+		writerDispatch.clear();
+		readerDispatch.clear();
+	}
+
+	/**
+	 * Registration of a converter can only change lookup results for the registered class and its subtypes
+	 * or for classes which were resolved to the replaced converter.
+	 * Other entries are kept, so that lazy registrations by analyzers during warm-up don't discard the whole map.
+	 */
+	private void invalidateDispatch(
+			final Type manifest,
+			@Nullable final Object replaced,
+			final ConcurrentMap<Class<?>, ClassDispatch> dispatch) {
+		dispatchVersion.incrementAndGet();
+		if (dispatch.isEmpty()) return;
+		final Type actualType = extractActualType(manifest);
+		final Class<?> raw = actualType instanceof Class<?> ? (Class<?>) actualType
+				: actualType instanceof ParameterizedType && ((ParameterizedType) actualType).getRawType() instanceof Class<?>
+				? (Class<?>) ((ParameterizedType) actualType).getRawType()
+				: null;
+		if (raw == null) {
+			dispatch.clear();
+			return;
+		}
+		for (final Map.Entry<Class<?>, ClassDispatch> kv : dispatch.entrySet()) {
+			final Object converter = kv.getValue().converter;
+			if (raw.isAssignableFrom(kv.getKey()) || replaced != null && converter == replaced) {
+				dispatch.remove(kv.getKey(), kv.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Writer lookup for untyped serialization.
+	 * Classes are resolved from the dispatch map which also remembers classes without a writer.
+	 */
+	@Nullable
+	private JsonWriter.WriteObject dispatchWriter(final Class<?> manifest) {
+		final ClassDispatch found = writerDispatch.get(manifest);
+		if (found != null) return (JsonWriter.WriteObject) found.converter;
+		final int version = dispatchVersion.get();
+		final ClassDispatch dispatch = new ClassDispatch(tryFindWriter(manifest));
+		writerDispatch.put(manifest, dispatch);
+		if (dispatchVersion.get() != version) {
+			writerDispatch.remove(manifest, dispatch);
+		}
+		return (JsonWriter.WriteObject) dispatch.converter;
+	}
+
+	@Nullable
+	private JsonReader.ReadObject dispatchReader(final Class<?> manifest) {
+		final ClassDispatch found = readerDispatch.get(manifest);
+		if (found != null) return (JsonReader.ReadObject) found.converter;
+		final int version = dispatchVersion.get();
+		final ClassDispatch dispatch = new ClassDispatch(tryFindReader(manifest));
+		readerDispatch.put(manifest, dispatch);
+		if (dispatchVersion.get() != version) {
+			readerDispatch.remove(manifest, dispatch);
+		}
+		return (JsonReader.ReadObject) dispatch.converter;
+	}
+
+	/**
+	 * Immutable snapshot of registered converters.
+	 * Once created, lookups for known types don't touch concurrent maps.
+	 * When sealed, unknown types are not looked up at all.
+	 */
+	private static final class Frozen {
+		final FrozenTable<JsonWriter.WriteObject> writers;
+		final FrozenTable<JsonReader.ReadObject> readers;
+		final FrozenTable<JsonReader.BindObject> binders;
+		final boolean sealed;
+
+		Frozen(
+				final Map<Type, JsonWriter.WriteObject> writers,
+				final Map<Type, JsonReader.ReadObject> readers,
+				final Map<Type, JsonReader.BindObject> binders,
+				final boolean sealed) {
+			this.writers = new FrozenTable<JsonWriter.WriteObject>(writers);
+			this.readers = new FrozenTable<JsonReader.ReadObject>(readers);
+			this.binders = new FrozenTable<JsonReader.BindObject>(binders);
+			this.sealed = sealed;
+		}
+	}
+
+	private static final int FROZEN_WRITERS = 0;
+	private static final int FROZEN_READERS = 1;
+	private static final int FROZEN_BINDERS = 2;
+
+	@Nullable
+	private volatile Frozen frozen;
+
+	/**
+	 * Resolve converters for specified types and switch lookups to an immutable table.
+	 * Table will contain all converters registered or resolved so far, along with converters for specified types.
+	 * Lookups for types from the table will not go through registration maps, type hierarchy or factories.
+	 * Other types will still be resolved as usual, but they will not be added to the table
+	 * until freeze is called again.
+	 * <p>
+	 * Converters for types in the table can't be replaced afterwards.
+	 * To disallow lookups for unknown types use Settings.sealed instead.
+	 *
+	 * @param types types for which converters should be resolved before freezing
+	 * @throws ConfigurationException when converter is not found for some of the types
+	 */
+	public void freeze(final Type... types) {
+		if (types == null) throw new IllegalArgumentException("types can't be null");
+		freeze(types, false);
+	}
+
+	private synchronized void freeze(final Type[] types, final boolean sealed) {
+		checkNotSealed();
+		for (final Type type : types) {
+			if (type == null) throw new IllegalArgumentException("types can't contain null");
+			final boolean hasWriter = tryFindWriter(type) != null;
+			final boolean hasReader = tryFindReader(type) != null;
+			tryFindBinder(type);
+			if (!hasWriter && !hasReader) {
+				throw new ConfigurationException("Unable to find converters for " + type + " while freezing DslJson");
+			}
+			//instances are serialized through their class, so raw writer must be available for hierarchy lookup
+			if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class<?>) {
+				tryFindWriter(((ParameterizedType) type).getRawType());
+			}
+		}
+		frozen = new Frozen(writers, readers, binders, sealed);
+		invalidateDispatch();
+	}
+
+	/**
+	 * Check if converter registry was sealed during startup.
+	 * Sealed DslJson will not look up converters for unknown types and will not allow new registrations.
+	 *
+	 * @return is converter registry sealed
+	 */
+	public boolean isSealed() {
+		final Frozen current = frozen;
+		return current != null && current.sealed;
+	}
+
+	private void checkNotSealed() {
+		if (isSealed()) {
+			throw new ConfigurationException("DslJson was sealed during startup. Converters can't be registered afterwards");
+		}
+	}
+
+	private void checkNotFrozen(final Type manifest, final int kind) {
+		final Frozen current = frozen;
+		if (current == null) return;
+		checkNotSealed();
+		final FrozenTable<?> table = kind == FROZEN_WRITERS
+				? current.writers
+				: kind == FROZEN_READERS ? current.readers : current.binders;
+		if (table.containsKey(manifest)) {
+			throw new ConfigurationException("Converter for " + manifest + " was frozen and can't be replaced");
+		}
+	}
+
 	/**
 	 * Try to find registered writer for provided type.
 	 * If writer is not found, null will be returned.
@@ -1015,6 +1696,12 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	@Nullable
 	public JsonWriter.WriteObject<?> tryFindWriter(final Type manifest) {
+		final Frozen current = frozen;
+		if (current != null) {
+			final JsonWriter.WriteObject known = current.writers.get(manifest);
+			if (known != null) return known;
+			if (current.sealed) return findSealedWriter(current, manifest);
+		}
 		JsonWriter.WriteObject writer = writers.get(manifest);
 		if (writer != null) return writer;
 		final Type actualType = extractActualType(manifest);
@@ -1055,6 +1742,35 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		return null;
 	}
 
+	/**
+	 * Writer lookup for types which were not resolved before sealing.
+	 * Same as the regular lookup, but only converters from the sealed table are considered
+	 * and nothing is registered.
+	 */
+	@Nullable
+	private JsonWriter.WriteObject findSealedWriter(final Frozen current, final Type manifest) {
+		final Type actualType = extractActualType(manifest);
+		if (actualType != manifest) {
+			final JsonWriter.WriteObject writer = current.writers.get(actualType);
+			if (writer != null) return writer;
+		}
+		if (!(actualType instanceof Class<?>)) return null;
+		final Class<?> container = (Class<?>) actualType;
+		if (JsonObject.class.isAssignableFrom(container)) return OBJECT_WRITER;
+		final Class<?> found = writerMap.get(container);
+		if (found != null) return current.writers.get(found);
+		final ArrayList<Class<?>> signatures = new ArrayList<Class<?>>();
+		findAllSignatures(container, signatures);
+		for (final Class<?> sig : signatures) {
+			final JsonWriter.WriteObject writer = current.writers.get(sig);
+			if (writer != null) {
+				writerMap.putIfAbsent(container, sig);
+				return writer;
+			}
+		}
+		return null;
+	}
+
 	private static Type extractActualType(final Type manifest) {
 		if (manifest instanceof WildcardType) {
 			WildcardType wt = (WildcardType) manifest;
@@ -1123,6 +1839,12 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	@Nullable
 	public JsonReader.ReadObject<?> tryFindReader(final Type manifest) {
+		final Frozen current = frozen;
+		if (current != null) {
+			final JsonReader.ReadObject known = current.readers.get(manifest);
+			if (known != null) return known;
+			if (current.sealed) return current.readers.get(extractActualType(manifest));
+		}
 		JsonReader.ReadObject found = readers.get(manifest);
 		if (found != null) return found;
 		final Type actualType = extractActualType(manifest);
@@ -1163,6 +1885,12 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 */
 	@Nullable
 	public JsonReader.BindObject<?> tryFindBinder(final Type manifest) {
+		final Frozen current = frozen;
+		if (current != null) {
+			final JsonReader.BindObject known = current.binders.get(manifest);
+			if (known != null) return known;
+			if (current.sealed) return current.binders.get(extractActualType(manifest));
+		}
 		JsonReader.BindObject found = binders.get(manifest);
 		if (found != null) return found;
 		final Type actualType = extractActualType(manifest);
@@ -1543,10 +2271,10 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (body == null) {
 			throw new IllegalArgumentException("body can't be null");
 		}
-		final JsonReader json = localReader.get().process(body, size);
+		final JsonReader json = acquireReader().process(body, size);
 		try {
 			json.getNextToken();
-			final JsonReader.ReadObject<?> simpleReader = tryFindReader(manifest);
+			final JsonReader.ReadObject<?> simpleReader = dispatchReader(manifest);
 			if (simpleReader != null) {
 				return (TResult) simpleReader.read(json);
 			}
@@ -1568,7 +2296,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			}
 			throw createErrorMessage(manifest);
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -1600,7 +2328,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (body == null) {
 			throw new IllegalArgumentException("body can't be null");
 		}
-		final JsonReader json = localReader.get().process(body, size);
+		final JsonReader json = acquireReader().process(body, size);
 		try {
 			json.getNextToken();
 			final Object result = deserializeWith(manifest, json);
@@ -1611,7 +2339,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			throw new ConfigurationException("Unable to find reader for provided type: " + manifest + " and fallback serialization is not registered.\n" +
 					"Try initializing DslJson with custom fallback in case of unsupported objects or register specified type using registerReader into " + getClass());
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -1736,7 +2464,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		} else if (size == 2 && body[0] == '[' && body[1] == ']') {
 			return new ArrayList<TResult>(0);
 		}
-		final JsonReader json = localReader.get().process(body, size);
+		final JsonReader json = acquireReader().process(body, size);
 		try {
 			if (json.getNextToken() != '[') {
 				if (json.wasNull()) {
@@ -1754,7 +2482,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 					return (List<TResult>) json.deserializeNullableCollection(reader);
 				}
 			}
-			final JsonReader.ReadObject<?> simpleReader = tryFindReader(manifest);
+			final JsonReader.ReadObject<?> simpleReader = dispatchReader(manifest);
 			if (simpleReader != null) {
 				return json.deserializeNullableCollection(simpleReader);
 			}
@@ -1772,7 +2500,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			}
 			throw createErrorMessage(manifest);
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -1784,7 +2512,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * Deserialize provided stream input into target object.
 	 * Use buffer for internal conversion from stream into byte[] for partial processing.
 	 * This method creates a new instance of JsonReader.
-	 * There is also deserializeList without the buffer which reuses thread local reader.
+	 * There is also deserializeList without the buffer which reuses pooled reader.
 	 * <p>
 	 * Since JSON is often though of as a series of char,
 	 * most libraries will convert inputs into a sequence of chars and do processing on them.
@@ -1839,11 +2567,11 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (manifest == null) throw new IllegalArgumentException("manifest can't be null");
 		if (stream == null) throw new IllegalArgumentException("stream can't be null");
 
-		final JsonReader json = localReader.get().process(stream);
+		final JsonReader json = acquireReader().process(stream);
 		try {
 			return deserializeList(manifest, json, stream);
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -1932,7 +2660,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	/**
 	 * Convenient deserialize API for working with streams.
 	 * Deserialize provided stream input into target object.
-	 * This method reuses thread local reader for processing input stream.
+	 * This method reuses pooled reader for processing input stream.
 	 * <p>
 	 * Since JSON is often though of as a series of char,
 	 * most libraries will convert inputs into a sequence of chars and do processing on them.
@@ -1958,11 +2686,11 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (stream == null) {
 			throw new IllegalArgumentException("stream can't be null");
 		}
-		final JsonReader json = localReader.get().process(stream);
+		final JsonReader json = acquireReader().process(stream);
 		try {
 			return deserialize(manifest, json, stream);
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -1973,7 +2701,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			final JsonReader json,
 			final InputStream stream) throws IOException {
 		json.getNextToken();
-		final JsonReader.ReadObject<?> simpleReader = tryFindReader(manifest);
+		final JsonReader.ReadObject<?> simpleReader = dispatchReader(manifest);
 		if (simpleReader != null) {
 			return (TResult) simpleReader.read(json);
 		}
@@ -2012,7 +2740,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * Deserialize provided stream input into target object.
 	 * Use buffer for internal conversion from stream into byte[] for partial processing.
 	 * This method creates a new instance of JsonReader for processing the stream.
-	 * There is also a method without the byte[] buffer which reuses thread local reader.
+	 * There is also a method without the byte[] buffer which reuses pooled reader.
 	 * <p>
 	 * Since JSON is often though of as a series of char,
 	 * most libraries will convert inputs into a sequence of chars and do processing on them.
@@ -2060,7 +2788,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	/**
 	 * Deserialize API for working with streams.
 	 * Deserialize provided stream input into target object.
-	 * This method reuses thread local reader for processing JSON input.
+	 * This method reuses pooled reader for processing JSON input.
 	 * <p>
 	 * Since JSON is often though of as a series of char,
 	 * most libraries will convert inputs into a sequence of chars and do processing on them.
@@ -2086,7 +2814,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (stream == null) {
 			throw new IllegalArgumentException("stream can't be null");
 		}
-		final JsonReader json = localReader.get().process(stream);
+		final JsonReader json = acquireReader().process(stream);
 		try {
 			json.getNextToken();
 			final Object result = deserializeWith(manifest, json);
@@ -2097,7 +2825,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			throw new ConfigurationException("Unable to find reader for provided type: " + manifest + " and fallback serialization is not registered.\n" +
 					"Try initializing DslJson with custom fallback in case of unsupported objects or register specified type using registerReader into " + getClass());
 		} finally {
-			json.reset();
+			releaseReader(json);
 		}
 	}
 
@@ -2161,13 +2889,13 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * Streaming API for collection deserialization.
 	 * DslJson will create iterator based on provided manifest info.
 	 * It will attempt to deserialize from stream on each next() invocation.
-	 * This method requires buffer instance for partial stream processing.
-	 * It will create a new instance of JsonReader.
-	 * There is also a method without the buffer which will reuse thread local reader.
+	 * This method will use a pooled reader, which is returned to the pool
+	 * once the iterator is exhausted or fails.
+	 * There is also a method with the buffer which will create a new instance of JsonReader.
 	 * <p>
 	 * Useful for processing very large streams if only one instance from collection is required at once.
 	 * <p>
-	 * Stream will be processed in chunks of specified buffer byte[].
+	 * Stream will be processed in chunks of reader buffer.
 	 * It will block on reading until buffer is full or end of stream is detected.
 	 *
 	 * @param manifest  type info
@@ -2187,9 +2915,58 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (stream == null) {
 			throw new IllegalArgumentException("stream can't be null");
 		}
-		final JsonReader json = localReader.get();
-		json.process(stream);
-		return iterateOver(manifest, json, stream);
+		final JsonReader json = acquireReader();
+		boolean iterating = false;
+		try {
+			json.process(stream);
+			final Iterator<TResult> iterator = iterateOver(manifest, json, stream);
+			if (iterator == null || !iterator.hasNext()) return iterator;
+			iterating = true;
+			return new PooledReaderIterator<TResult>(iterator, json);
+		} finally {
+			if (!iterating) releaseReader(json);
+		}
+	}
+
+	private final class PooledReaderIterator<T> implements Iterator<T> {
+		private final Iterator<T> iterator;
+		private final JsonReader reader;
+		private boolean released;
+
+		PooledReaderIterator(final Iterator<T> iterator, final JsonReader reader) {
+			this.iterator = iterator;
+			this.reader = reader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !released && iterator.hasNext();
+		}
+
+		@Override
+		public T next() {
+			if (released) throw new NoSuchElementException();
+			try {
+				final T instance = iterator.next();
+				if (!iterator.hasNext()) release();
+				return instance;
+			} catch (RuntimeException ex) {
+				release();
+				throw ex;
+			}
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private void release() {
+			if (!released) {
+				released = true;
+				releaseReader(reader);
+			}
+		}
 	}
 
 
@@ -2199,7 +2976,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	 * It will attempt to deserialize from stream on each next() invocation.
 	 * This method requires buffer instance for partial stream processing.
 	 * It will create a new instance of JsonReader.
-	 * There is also a method without the buffer which will reuse thread local reader.
+	 * There is also a method without the buffer which will reuse pooled reader.
 	 * <p>
 	 * Useful for processing very large streams if only one instance from collection is required at once.
 	 * <p>
@@ -2370,7 +3147,8 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 						writer.writeByte(JsonWriter.ARRAY_START);
 						writer.writeNull();
 						for (int i = 1; i < items.size(); i++) {
-							writer.writeAscii(",null");
+							writer.writeByte(JsonWriter.COMMA);
+							writer.writeNull();
 						}
 						writer.writeByte(JsonWriter.ARRAY_END);
 					} else if (JsonObject.class.isAssignableFrom(baseType)) {
@@ -2433,7 +3211,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			stream.write(JsonWriter.ARRAY_END);
 			return;
 		}
-		final JsonWriter buffer = writer == null ? new JsonWriter(this) : writer;
+		final JsonWriter buffer = writer == null ? newWriter() : writer;
 		T item = iterator.next();
 		Class<?> lastManifest = null;
 		JsonWriter.WriteObject lastWriter = null;
@@ -2509,7 +3287,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 		if (stream == null) {
 			throw new IllegalArgumentException("stream can't be null");
 		}
-		final JsonWriter buffer = writer == null ? new JsonWriter(this) : writer;
+		final JsonWriter buffer = writer == null ? newWriter() : writer;
 		final JsonWriter.WriteObject instanceWriter = getOrCreateWriter(null, manifest);
 		stream.write(JsonWriter.ARRAY_START);
 		T item = iterator.next();
@@ -2723,7 +3501,9 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			serialize(writer, (JsonObject[]) value);
 			return true;
 		}
-		final JsonWriter.WriteObject simpleWriter = tryFindWriter(manifest);
+		final JsonWriter.WriteObject simpleWriter = manifest instanceof Class<?>
+				? dispatchWriter((Class<?>) manifest)
+				: tryFindWriter(manifest);
 		if (simpleWriter != null) {
 			simpleWriter.write(writer, value);
 			return true;
@@ -2828,7 +3608,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 	/**
 	 * Convenient serialize API.
 	 * In most cases JSON is serialized into target `OutputStream`.
-	 * This method will reuse thread local instance of `JsonWriter` and serialize JSON into it.
+	 * This method will reuse pooled instance of `JsonWriter` and serialize JSON into it.
 	 *
 	 * @param value    		instance to serialize
 	 * @param stream 		where to write resulting JSON
@@ -2842,17 +3622,21 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			stream.write(NULL);
 			return;
 		}
-		final JsonWriter jw = localWriter.get();
-		jw.reset(stream);
-		final Class<?> manifest = value.getClass();
-		if (!serialize(jw, manifest, value)) {
-			if (fallback == null) {
-				throw new ConfigurationException("Unable to serialize provided object. Failed to find serializer for: " + manifest);
+		final JsonWriter jw = acquireWriter();
+		try {
+			jw.reset(stream);
+			final Class<?> manifest = value.getClass();
+			if (!serialize(jw, manifest, value)) {
+				if (fallback == null) {
+					throw new ConfigurationException("Unable to serialize provided object. Failed to find serializer for: " + manifest);
+				}
+				fallback.serialize(value, stream);
+			} else {
+				sizeEstimates.record(manifest, jw.flushed() + jw.size());
+				jw.flush();
 			}
-			fallback.serialize(value, stream);
-		} else {
-			jw.flush();
-			jw.reset(null);
+		} finally {
+			releaseWriter(jw);
 		}
 	}
 
@@ -2878,6 +3662,7 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			return;
 		}
 		final Class<?> manifest = value.getClass();
+		final long start = writer.flushed() + writer.size();
 		if (!serialize(writer, manifest, value)) {
 			if (fallback == null) {
 				throw new ConfigurationException("Unable to serialize provided object. Failed to find serializer for: " + manifest);
@@ -2885,6 +3670,8 @@ public class DslJson<TContext> implements UnknownSerializer, TypeLookup {
 			ByteArrayOutputStream stream = new ByteArrayOutputStream();
 			fallback.serialize(value, stream);
 			writer.writeAscii(stream.toByteArray());
+		} else if (start == 0) {
+			sizeEstimates.record(manifest, writer.flushed() + writer.size());
 		}
 	}
 }
@@ -1,21 +1,86 @@
 package com.dslplatform.json;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 
 class ExternalConverterAnalyzer {
-	private final Set<String> lookedUpClasses = new HashSet<String>();
+	private final ConcurrentMap<String, Lookup> lookedUpClasses = new ConcurrentHashMap<String, Lookup>();
 	private final ClassLoader[] classLoaders;
+	private final boolean[] canProbeResources;
+	//lookup each thread is waiting for, used to detect cycles between converters configuring each other
+	private final Map<Thread, Lookup> waiting = new HashMap<Thread, Lookup>();
+
+	private static final class Lookup {
+		volatile Thread owner = Thread.currentThread();
+		final CountDownLatch done = new CountDownLatch(1);
+	}
 
 	ExternalConverterAnalyzer(Collection<ClassLoader> classLoaders) {
 		this.classLoaders = classLoaders.toArray(new ClassLoader[0]);
+		this.canProbeResources = new boolean[this.classLoaders.length];
+		final String probe = ExternalConverterAnalyzer.class.getName().replace('.', '/') + ".class";
+		for (int i = 0; i < this.classLoaders.length; i++) {
+			//some class loaders (eg. on Android) don't expose class files as resources
+			canProbeResources[i] = this.classLoaders[i].getResource(probe) != null;
+		}
 	}
 
-	synchronized boolean tryFindConverter(Class<?> manifest, DslJson<?> dslJson) {
+	boolean tryFindConverter(Class<?> manifest, DslJson<?> dslJson) {
 		final String className = manifest.getName();
-		if (!lookedUpClasses.add(className)) return false;
+		Lookup lookup = lookedUpClasses.get(className);
+		if (lookup == null) {
+			final Lookup newLookup = new Lookup();
+			lookup = lookedUpClasses.putIfAbsent(className, newLookup);
+			if (lookup == null) {
+				try {
+					return findConverter(className, dslJson);
+				} finally {
+					newLookup.owner = null;
+					newLookup.done.countDown();
+				}
+			}
+		}
+		awaitLookup(lookup);
+		return false;
+	}
+
+	/**
+	 * Wait until other thread finishes configuring the converter.
+	 * Wait is skipped only when it would never finish: for re-entrant lookups from the owning thread
+	 * and when the owner is (transitively) waiting for a lookup owned by the current thread.
+	 */
+	private void awaitLookup(final Lookup lookup) {
+		if (lookup.done.getCount() == 0) return;
+		final Thread current = Thread.currentThread();
+		synchronized (waiting) {
+			Lookup next = lookup;
+			while (next != null) {
+				final Thread owner = next.owner;
+				if (owner == null) break;
+				if (owner == current) return;
+				next = waiting.get(owner);
+			}
+			waiting.put(current, lookup);
+		}
+		try {
+			lookup.done.await();
+		} catch (InterruptedException ignore) {
+			current.interrupt();
+		} finally {
+			synchronized (waiting) {
+				waiting.remove(current);
+			}
+		}
+	}
+
+	private boolean findConverter(final String className, final DslJson<?> dslJson) {
 		String[] converterClassNames = resolveExternalConverterClassNames(className);
-		for (ClassLoader cl : classLoaders) {
+		for (int i = 0; i < classLoaders.length; i++) {
+			final ClassLoader cl = classLoaders[i];
 			for (String ccn : converterClassNames) {
+				if (canProbeResources[i] && cl.getResource(ccn.replace('.', '/') + ".class") == null) continue;
 				try {
 					Class<?> converterClass = cl.loadClass(ccn);
 					if (!Configuration.class.isAssignableFrom(converterClass)) continue;
@@ -38,9 +103,15 @@ class ExternalConverterAnalyzer {
 		}
 		String packageName = fullClassName.substring(0, dotIndex);
 		String className = fullClassName.substring(dotIndex + 1);
+		if (packageName.startsWith("java.")) {
+			//classes can't be defined in java packages, so only the prefixed names can exist
+			return new String[]{
+					String.format("dsl_json.%s._%s_DslJsonConverter", packageName, className),
+					String.format("dsl_json.%s.%sDslJsonConverter", packageName, className)};
+		}
 		return new String[]{
 				String.format("%s._%s_DslJsonConverter", packageName, className),
 				String.format("dsl_json.%s._%s_DslJsonConverter", packageName, className),
 				String.format("dsl_json.%s.%sDslJsonConverter", packageName, className)};
 	}
-}
\ No newline at end of file
+}
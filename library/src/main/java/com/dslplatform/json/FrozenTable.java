@@ -0,0 +1,105 @@
+package com.dslplatform.json;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Immutable lookup table for converters used by frozen DslJson.
+ * <p>
+ * Table uses open addressing with a hash seed which is selected during construction
+ * so that every key ends up in its own slot, when possible.
+ * Lookup is then a single array access and comparison, without locks or volatile reads.
+ * Keys with colliding hash codes will use linear probing.
+ *
+ * @param <T> converter type
+ */
+final class FrozenTable<T> {
+
+	private static final int MAX_SEEDS = 32;
+
+	private final Type[] keys;
+	private final Object[] values;
+	private final int mask;
+	private final int seed;
+	private final int size;
+
+	FrozenTable(final Map<? extends Type, ? extends T> source) {
+		this.size = source.size();
+		final Type[] sourceKeys = source.keySet().toArray(new Type[0]);
+		final int[] hashes = new int[sourceKeys.length];
+		for (int i = 0; i < hashes.length; i++) {
+			hashes[i] = sourceKeys[i].hashCode();
+		}
+		int length = 2;
+		while (length < size * 2) {
+			length <<= 1;
+		}
+		int bestSeed = 0;
+		int bestLength = length;
+		int bestCollisions = Integer.MAX_VALUE;
+		//try a few larger tables until there are no collisions
+		for (int attempt = 0; attempt < 3 && bestCollisions != 0; attempt++, length <<= 1) {
+			final boolean[] used = new boolean[length];
+			for (int s = 0; s < MAX_SEEDS; s++) {
+				final int candidate = 0x9E3779B9 * (s + 1);
+				final int collisions = countCollisions(hashes, candidate, used, length - 1);
+				if (collisions < bestCollisions) {
+					bestCollisions = collisions;
+					bestSeed = candidate;
+					bestLength = length;
+					if (collisions == 0) break;
+				}
+			}
+		}
+		this.seed = bestSeed;
+		this.mask = bestLength - 1;
+		this.keys = new Type[bestLength];
+		this.values = new Object[bestLength];
+		for (final Type key : sourceKeys) {
+			int index = index(key.hashCode(), seed, mask);
+			while (keys[index] != null) {
+				index = (index + 1) & mask;
+			}
+			keys[index] = key;
+			values[index] = source.get(key);
+		}
+	}
+
+	private static int index(final int hash, final int seed, final int mask) {
+		final int h = hash * seed;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private static int countCollisions(final int[] hashes, final int seed, final boolean[] used, final int mask) {
+		for (int i = 0; i < used.length; i++) {
+			used[i] = false;
+		}
+		int collisions = 0;
+		for (final int hash : hashes) {
+			final int index = index(hash, seed, mask);
+			if (used[index]) collisions++;
+			else used[index] = true;
+		}
+		return collisions;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	T get(final Type key) {
+		int index = index(key.hashCode(), seed, mask);
+		Type found;
+		while ((found = keys[index]) != null) {
+			if (found == key || found.equals(key)) return (T) values[index];
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	boolean containsKey(final Type key) {
+		return get(key) != null;
+	}
+
+	int size() {
+		return size;
+	}
+}
@@ -0,0 +1,57 @@
+package com.dslplatform.json;
+
+/**
+ * Pool of reusable instances, such as JsonWriter and JsonReader used by DslJson convenience methods.
+ * Instance taken with acquire should be returned with release once it's no longer used.
+ * Instance which is not returned will be collected as usual.
+ * <p>
+ * Pool must be thread safe. It's not required to keep every released instance,
+ * it can drop them when it's full.
+ * <p>
+ * Builtin strategies are available in InstancePools.
+ *
+ * @param <T> pooled type
+ */
+public interface InstancePool<T> {
+
+	/**
+	 * Take an instance from the pool or create a new one if pool is empty.
+	 *
+	 * @return instance for exclusive use until released
+	 */
+	T acquire();
+
+	/**
+	 * Return previously acquired instance into the pool.
+	 *
+	 * @param instance instance which is no longer used
+	 */
+	void release(T instance);
+
+	/**
+	 * Creates new instances when pool is empty.
+	 *
+	 * @param <T> pooled type
+	 */
+	interface Factory<T> {
+		T create();
+	}
+
+	/**
+	 * Restores state of an instance when it's returned into the pool,
+	 * so that values from the previous use are not visible to the next one.
+	 *
+	 * @param <T> pooled type
+	 */
+	interface Reset<T> {
+		void reset(T instance);
+	}
+
+	/**
+	 * Creates pools for DslJson.
+	 * DslJson will create a separate pool for writers and for readers.
+	 */
+	interface Strategy {
+		<T> InstancePool<T> create(Factory<T> factory);
+	}
+}
@@ -0,0 +1,121 @@
+package com.dslplatform.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Builtin pooling strategies for DslJson readers and writers.
+ * <p>
+ * Thread local strategy is the default one and works best with a fixed number of long lived threads.
+ * When many short lived threads are used (such as virtual threads) thread local instances are
+ * discarded after each request and striped strategy should be used instead.
+ */
+public abstract class InstancePools {
+
+	/**
+	 * Keep a single instance for each thread.
+	 * Instance is not shared among threads, so release will not do anything.
+	 */
+	public static final InstancePool.Strategy THREAD_LOCAL = new InstancePool.Strategy() {
+		@Override
+		public <T> InstancePool<T> create(final InstancePool.Factory<T> factory) {
+			if (factory == null) throw new IllegalArgumentException("factory can't be null");
+			return new ThreadLocalPool<T>(new ThreadLocal<T>() {
+				@Override
+				protected T initialValue() {
+					return factory.create();
+				}
+			});
+		}
+	};
+
+	/**
+	 * Bounded lock-free pool shared by all threads.
+	 * Instances are kept in an array of slots. Thread will start looking for a free instance
+	 * from the slot based on its id, so different threads will usually not compete for the same slot.
+	 * When no instance is found, a new one will be created.
+	 * When there is no free slot on release, instance will be dropped.
+	 *
+	 * @param maxInstances maximum number of pooled instances. Will be rounded up to power of 2
+	 * @return striped pool strategy
+	 */
+	public static InstancePool.Strategy striped(final int maxInstances) {
+		if (maxInstances < 1 || maxInstances > 1 << 16) {
+			throw new IllegalArgumentException("maxInstances must be between 1 and " + (1 << 16));
+		}
+		return new InstancePool.Strategy() {
+			@Override
+			public <T> InstancePool<T> create(final InstancePool.Factory<T> factory) {
+				if (factory == null) throw new IllegalArgumentException("factory can't be null");
+				return new StripedPool<T>(factory, maxInstances);
+			}
+		};
+	}
+
+	static final class ThreadLocalPool<T> implements InstancePool<T> {
+		private final ThreadLocal<T> local;
+
+		ThreadLocalPool(final ThreadLocal<T> local) {
+			this.local = local;
+		}
+
+		@Override
+		public T acquire() {
+			return local.get();
+		}
+
+		@Override
+		public void release(final T instance) {
+		}
+	}
+
+	static final class StripedPool<T> implements InstancePool<T> {
+		private static final int MAX_PROBES = 8;
+
+		private final InstancePool.Factory<T> factory;
+		private final AtomicReferenceArray<T> slots;
+		private final int mask;
+		private final int probes;
+
+		StripedPool(final InstancePool.Factory<T> factory, final int maxInstances) {
+			int size = 1;
+			while (size < maxInstances) {
+				size <<= 1;
+			}
+			this.factory = factory;
+			this.slots = new AtomicReferenceArray<T>(size);
+			this.mask = size - 1;
+			this.probes = size < MAX_PROBES ? size : MAX_PROBES;
+		}
+
+		private static int stripe() {
+			final long id = Thread.currentThread().getId();
+			final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+			return hash ^ (hash >>> 16);
+		}
+
+		@Override
+		public T acquire() {
+			final int start = stripe();
+			for (int i = 0; i < probes; i++) {
+				final int index = (start + i) & mask;
+				final T instance = slots.get(index);
+				if (instance != null && slots.compareAndSet(index, instance, null)) {
+					return instance;
+				}
+			}
+			return factory.create();
+		}
+
+		@Override
+		public void release(final T instance) {
+			if (instance == null) return;
+			final int start = stripe();
+			for (int i = 0; i < probes; i++) {
+				final int index = (start + i) & mask;
+				if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+					return;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.dslplatform.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of int values backed by an int array.
+ * <p>
+ * Values are stored without boxing, which avoids an object per element for large numeric collections.
+ * Primitive methods such as getInt and addInt should be used to access values without boxing.
+ * Null elements are not supported.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+	int[] values;
+	int size;
+
+	public IntList() {
+		this(4);
+	}
+
+	public IntList(final int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity can't be negative");
+		this.values = initialCapacity == 0 ? NumberConverter.INT_EMPTY_ARRAY : new int[initialCapacity];
+	}
+
+	public IntList(final int[] values) {
+		if (values == null) throw new IllegalArgumentException("values can't be null");
+		this.values = values.clone();
+		this.size = values.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Integer get(final int index) {
+		return getInt(index);
+	}
+
+	public int getInt(final int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	@Override
+	public Integer set(final int index, final Integer value) {
+		return setInt(index, value);
+	}
+
+	public int setInt(final int index, final int value) {
+		checkIndex(index);
+		final int previous = values[index];
+		values[index] = value;
+		return previous;
+	}
+
+	@Override
+	public boolean add(final Integer value) {
+		addInt(value);
+		return true;
+	}
+
+	public void addInt(final int value) {
+		if (size == values.length) {
+			ensureCapacity(size + 1);
+		}
+		values[size++] = value;
+		modCount++;
+	}
+
+	@Override
+	public void add(final int index, final Integer value) {
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		final int unboxed = value;
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = unboxed;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Integer remove(final int index) {
+		checkIndex(index);
+		final int previous = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Grow backing array so that it can hold at least the specified number of values.
+	 *
+	 * @param capacity minimal number of values
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values, Math.max(capacity, Math.max(4, values.length << 1)));
+		}
+	}
+
+	/**
+	 * Copy values into a new array.
+	 *
+	 * @return array of values
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+}
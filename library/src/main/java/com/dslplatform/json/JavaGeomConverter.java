@@ -11,6 +11,11 @@ import java.util.Collection;
 
 public abstract class JavaGeomConverter {
 
+	private static final byte[] QUOTED_X = {'"', 'X', '"', ':'};
+	private static final byte[] QUOTED_COMMA_Y = {',', '"', 'Y', '"', ':'};
+	private static final byte[] QUOTED_COMMA_WIDTH = {',', '"', 'W', 'i', 'd', 't', 'h', '"', ':'};
+	private static final byte[] QUOTED_COMMA_HEIGHT = {',', '"', 'H', 'e', 'i', 'g', 'h', 't', '"', ':'};
+
 	static final JsonReader.ReadObject<Point2D.Double> LocationReader = new JsonReader.ReadObject<Point2D.Double>() {
 		@Nullable
 		@Override
@@ -73,9 +78,10 @@ public abstract class JavaGeomConverter {
 	}
 
 	public static void serializeLocation(final Point2D value, final JsonWriter sw) {
-		sw.writeAscii("{\"X\":");
+		sw.writeByte(JsonWriter.OBJECT_START);
+		sw.writeAttributeName(QUOTED_X);
 		NumberConverter.serialize(value.getX(), sw);
-		sw.writeAscii(",\"Y\":");
+		sw.writeAttributeName(QUOTED_COMMA_Y);
 		NumberConverter.serialize(value.getY(), sw);
 		sw.writeByte(JsonWriter.OBJECT_END);
 	}
@@ -145,9 +151,10 @@ public abstract class JavaGeomConverter {
 	}
 
 	public static void serializePoint(final Point value, final JsonWriter sw) {
-		sw.writeAscii("{\"X\":");
+		sw.writeByte(JsonWriter.OBJECT_START);
+		sw.writeAttributeName(QUOTED_X);
 		NumberConverter.serialize(value.x, sw);
-		sw.writeAscii(",\"Y\":");
+		sw.writeAttributeName(QUOTED_COMMA_Y);
 		NumberConverter.serialize(value.y, sw);
 		sw.writeByte(JsonWriter.OBJECT_END);
 	}
@@ -213,13 +220,14 @@ public abstract class JavaGeomConverter {
 	}
 
 	public static void serializeRectangle(final Rectangle2D value, final JsonWriter sw) {
-		sw.writeAscii("{\"X\":");
+		sw.writeByte(JsonWriter.OBJECT_START);
+		sw.writeAttributeName(QUOTED_X);
 		NumberConverter.serialize(value.getX(), sw);
-		sw.writeAscii(",\"Y\":");
+		sw.writeAttributeName(QUOTED_COMMA_Y);
 		NumberConverter.serialize(value.getY(), sw);
-		sw.writeAscii(",\"Width\":");
+		sw.writeAttributeName(QUOTED_COMMA_WIDTH);
 		NumberConverter.serialize(value.getWidth(), sw);
-		sw.writeAscii(",\"Height\":");
+		sw.writeAttributeName(QUOTED_COMMA_HEIGHT);
 		NumberConverter.serialize(value.getHeight(), sw);
 		sw.writeByte(JsonWriter.OBJECT_END);
 	}
@@ -48,15 +48,24 @@ public final class JsonReader<TContext> {
 
 	private InputStream stream;
 	private int readLimit;
+	//absolute position where the raw value being captured starts, or -1 when not capturing
+	private long rawStart = -1;
+	//bytes of the captured raw value which were already discarded from the buffer
+	private byte[] rawPrefix;
+	private int rawPrefixLength;
 	//always leave some room for reading special stuff, so that buffer contains enough padding for such optimizations
 	private int bufferLenWithExtraSpace;
 
 	private final StringCache keyCache;
 	private final StringCache valuesCache;
+	private final StringCache.Raw rawKeyCache;
+	private final StringCache.Raw rawValuesCache;
 	private final TypeLookup typeLookup;
 
 	private final byte[] originalBuffer;
 	private final int originalBufferLenWithExtraSpace;
+	//when chars grow over this limit they will be released on reset
+	int retainedCharsLimit = Integer.MAX_VALUE;
 
 	public enum ErrorInfo {
 		WITH_STACK_TRACE,
@@ -113,6 +122,8 @@ public final class JsonReader<TContext> {
 		this.chars = tmp;
 		this.keyCache = keyCache;
 		this.valuesCache = valuesCache;
+		this.rawKeyCache = keyCache instanceof StringCache.Raw ? (StringCache.Raw) keyCache : null;
+		this.rawValuesCache = valuesCache instanceof StringCache.Raw ? (StringCache.Raw) valuesCache : null;
 		this.typeLookup = typeLookup;
 		this.errorInfo = errorInfo;
 		this.doublePrecision = doublePrecision;
@@ -229,6 +240,9 @@ public final class JsonReader<TContext> {
 		this.length = 0;
 		this.readLimit = 0;
 		this.stream = null;
+		if (chars.length > retainedCharsLimit) {
+			chars = tmp;
+		}
 	}
 
 	/**
@@ -331,22 +345,43 @@ public final class JsonReader<TContext> {
 	}
 
 	private int prepareNextBlock() throws IOException {
-		final int len = length - currentIndex;
-		System.arraycopy(buffer, currentIndex, buffer, 0, len);
+		return prepareNextBlock(0);
+	}
+
+	private int prepareNextBlock(final int keep) throws IOException {
+		final int from = currentIndex - keep;
+		if (rawStart != -1) {
+			keepRawPrefix(from);
+		}
+		final int len = length - from;
+		System.arraycopy(buffer, from, buffer, 0, len);
 		final int available = readFully(buffer, stream, len);
-		currentPosition += currentIndex;
+		currentPosition += from;
 		if (available == len) {
-			readLimit = length - currentIndex;
+			readLimit = len;
 			length = readLimit;
-			currentIndex = 0;
 		} else {
 			readLimit = available < bufferLenWithExtraSpace ? available : bufferLenWithExtraSpace;
 			this.length = available;
-			currentIndex = 0;
 		}
+		currentIndex = keep;
 		return available;
 	}
 
+	private void keepRawPrefix(final int discarded) {
+		final int begin = (int) (rawStart - currentPosition);
+		final int count = discarded - begin;
+		if (count <= 0) return;
+		if (rawPrefix == null) {
+			rawPrefix = new byte[Math.max(count, 64)];
+		} else if (rawPrefixLength + count > rawPrefix.length) {
+			rawPrefix = Arrays.copyOf(rawPrefix, Math.max(rawPrefixLength + count, rawPrefix.length << 1));
+		}
+		System.arraycopy(buffer, begin, rawPrefix, rawPrefixLength, count);
+		rawPrefixLength += count;
+		rawStart += count;
+	}
+
 	final boolean isEndOfStream() throws IOException {
 		if (stream == null) {
 			return length == currentIndex;
@@ -621,10 +656,34 @@ public final class JsonReader<TContext> {
 	 * @throws IOException error reading string input
 	 */
 	public final String readString() throws IOException {
+		if (rawValuesCache != null) {
+			final String value = readFromRawCache(rawValuesCache);
+			if (value != null) return value;
+		}
 		final int len = parseString();
 		return valuesCache == null ? new String(chars, 0, len) : valuesCache.get(chars, len);
 	}
 
+	//only ASCII strings without escapes are looked up from raw input.
+	//Everything else is left to parseString, which validates UTF-8 and applies the string buffer limit
+	@Nullable
+	private String readFromRawCache(final StringCache.Raw cache) {
+		if (last != '"') return null;
+		final int start = currentIndex;
+		final int end = length - start > maxStringBuffer ? start + maxStringBuffer : length;
+		for (int ci = start; ci < end; ci++) {
+			final byte bb = buffer[ci];
+			if (bb == '"') {
+				final String value = cache.get(buffer, start, ci - start);
+				if (value != null) currentIndex = ci + 1;
+				return value;
+			} else if ((bb ^ '\\') < 1) {
+				return null;
+			}
+		}
+		return null;
+	}
+
 	public final StringBuilder appendString(StringBuilder builder) throws IOException {
 		final int len = parseString();
 		builder.append(chars, 0, len);
@@ -1192,6 +1251,97 @@ public final class JsonReader<TContext> {
 		return new String(buffer, start, currentIndex - start - 1, "UTF-8");
 	}
 
+	/**
+	 * Read the current value as is, without processing it.
+	 * Value boundaries are found the same way as in skip(),
+	 * but reader will stop at the last byte of the value instead of the next token,
+	 * so it can be used as any other value reader.
+	 * <p>
+	 * When reading from stream, bytes of the value are copied aside before the buffer is refilled,
+	 * so value size is not limited by the reader buffer.
+	 *
+	 * @return copy of JSON bytes for the current value
+	 * @throws IOException invalid JSON
+	 */
+	public final byte[] readRaw() throws IOException {
+		rawStart = currentPosition + currentIndex - 1;
+		rawPrefixLength = 0;
+		try {
+			skipRaw();
+			final int offset = (int) (rawStart - currentPosition);
+			if (rawPrefixLength == 0) {
+				return Arrays.copyOfRange(buffer, offset, currentIndex);
+			}
+			final byte[] result = new byte[rawPrefixLength + currentIndex - offset];
+			System.arraycopy(rawPrefix, 0, result, 0, rawPrefixLength);
+			System.arraycopy(buffer, offset, result, rawPrefixLength, currentIndex - offset);
+			return result;
+		} finally {
+			rawStart = -1;
+			//don't hold on to copies of huge values
+			if (rawPrefix != null && rawPrefix.length > buffer.length) {
+				rawPrefix = null;
+			}
+		}
+	}
+
+	private void skipRaw() throws IOException {
+		final byte start = last;
+		if (start == '"') {
+			byte c = read();
+			boolean inEscape = false;
+			while (c != '"' || inEscape) {
+				inEscape = !inEscape && c == '\\';
+				c = read();
+			}
+		} else if (start == '{') {
+			byte nextToken = getNextToken();
+			if (nextToken != '}') {
+				if (nextToken != '"') throw newParseError("Expecting '\"' for attribute name");
+				nextToken = skipString();
+				if (nextToken != ':') throw newParseError("Expecting ':' after attribute name");
+				getNextToken();
+				nextToken = skip();
+				while (nextToken == ',') {
+					nextToken = getNextToken();
+					if (nextToken != '"') throw newParseError("Expecting '\"' for attribute name");
+					nextToken = skipString();
+					if (nextToken != ':') throw newParseError("Expecting ':' after attribute name");
+					getNextToken();
+					nextToken = skip();
+				}
+				if (nextToken != '}') throw newParseError("Expecting '}' for object end");
+			}
+		} else if (start == '[') {
+			byte nextToken = getNextToken();
+			if (nextToken != ']') {
+				nextToken = skip();
+				while (nextToken == ',') {
+					getNextToken();
+					nextToken = skip();
+				}
+				if (nextToken != ']') throw newParseError("Expecting ']' for array end");
+			}
+		} else if (start == 'n') {
+			if (!wasNull()) throw newParseErrorAt("Expecting 'null' for null constant", 0);
+		} else if (start == 't') {
+			if (!wasTrue()) throw newParseErrorAt("Expecting 'true' for true constant", 0);
+		} else if (start == 'f') {
+			if (!wasFalse()) throw newParseErrorAt("Expecting 'false' for false constant", 0);
+		} else {
+			while (true) {
+				if (stream != null && currentIndex > readLimit) {
+					prepareNextBlock();
+				}
+				if (currentIndex >= length) break;
+				final byte b = buffer[currentIndex];
+				if (b == ',' || b == '}' || b == ']' || WHITESPACE[b + 128]) break;
+				last = b;
+				currentIndex++;
+			}
+		}
+	}
+
 	public final byte[] readBase64() throws IOException {
 		if (stream != null && Base64.findEnd(buffer, currentIndex) == buffer.length) {
 			final int len = parseString();
@@ -1217,8 +1367,11 @@ public final class JsonReader<TContext> {
 	 * @throws IOException unable to parse string input
 	 */
 	public final String readKey() throws IOException {
-		final int len = parseString();
-		final String key = keyCache != null ? keyCache.get(chars, len) : new String(chars, 0, len);
+		String key = rawKeyCache != null ? readFromRawCache(rawKeyCache) : null;
+		if (key == null) {
+			final int len = parseString();
+			key = keyCache != null ? keyCache.get(chars, len) : new String(chars, 0, len);
+		}
 		if (getNextToken() != ':') throw newParseError("Expecting ':' after attribute name");
 		getNextToken();
 		return key;
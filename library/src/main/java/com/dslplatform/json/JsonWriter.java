@@ -46,6 +46,14 @@ public final class JsonWriter {
 
 	private final UnknownSerializer unknownSerializer;
 	private final Grisu3.FastDtoaBuilder doubleBuilder = new Grisu3.FastDtoaBuilder();
+	private final EscapePolicy escapePolicy;
+	private final byte[][] escapes;
+	private final boolean[] requiresEscape;
+	private final boolean escapeUnicode;
+	@Nullable
+	private byte[] indentation;
+	private int depth;
+	private long lastOpen = -1;
 
 	/**
 	 * Prefer creating JsonWriter through DslJson#newWriter
@@ -65,8 +73,132 @@ public final class JsonWriter {
 	}
 
 	JsonWriter(final byte[] buffer, @Nullable final UnknownSerializer unknownSerializer) {
+		this(buffer, unknownSerializer, EscapePolicy.MINIMAL);
+	}
+
+	JsonWriter(final byte[] buffer, @Nullable final UnknownSerializer unknownSerializer, final EscapePolicy escapePolicy) {
+		this(buffer, unknownSerializer, escapePolicy, null);
+	}
+
+	JsonWriter(
+			final byte[] buffer,
+			@Nullable final UnknownSerializer unknownSerializer,
+			final EscapePolicy escapePolicy,
+			@Nullable final byte[] indentation) {
 		this.buffer = buffer;
+		this.indentation = indentation;
 		this.unknownSerializer = unknownSerializer;
+		this.escapePolicy = escapePolicy;
+		this.escapes = escapePolicy.escapes;
+		this.requiresEscape = escapePolicy.requiresEscape;
+		this.escapeUnicode = escapePolicy.escapeUnicode;
+	}
+
+	/**
+	 * Escaping rules used when writing JSON strings.
+	 * Quote, backslash and control characters are escaped by all policies.
+	 */
+	public enum EscapePolicy {
+		/**
+		 * Escape only what JSON specification requires.
+		 * Non ASCII characters are written as UTF-8
+		 */
+		MINIMAL(false, false),
+		/**
+		 * Also escape &lt;, &gt;, &amp; and ' with \\u notation,
+		 * so JSON can be embedded into HTML without additional processing.
+		 */
+		HTML_SAFE(true, false),
+		/**
+		 * Write all non ASCII characters with \\u notation.
+		 * Supplementary characters will be written as escaped surrogate pairs.
+		 */
+		ASCII_ONLY(false, true);
+
+		final byte[][] escapes;
+		final boolean[] requiresEscape;
+		final boolean escapeUnicode;
+
+		EscapePolicy(final boolean htmlSafe, final boolean escapeUnicode) {
+			this.escapes = createEscapes(htmlSafe);
+			this.requiresEscape = new boolean[128];
+			for (int i = 0; i < escapes.length; i++) {
+				requiresEscape[i] = escapes[i] != null;
+			}
+			this.escapeUnicode = escapeUnicode;
+		}
+	}
+
+	private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+	private static byte[][] createEscapes(final boolean htmlSafe) {
+		final byte[][] escapes = new byte[128][];
+		for (int i = 0; i < 32; i++) {
+			escapes[i] = new byte[]{'\\', 'u', '0', '0', HEX[i >> 4], HEX[i & 0xF]};
+		}
+		escapes['\b'] = new byte[]{'\\', 'b'};
+		escapes['\t'] = new byte[]{'\\', 't'};
+		escapes['\n'] = new byte[]{'\\', 'n'};
+		escapes['\f'] = new byte[]{'\\', 'f'};
+		escapes['\r'] = new byte[]{'\\', 'r'};
+		escapes['"'] = new byte[]{'\\', '"'};
+		escapes['\\'] = new byte[]{'\\', '\\'};
+		if (htmlSafe) {
+			escapes['<'] = new byte[]{'\\', 'u', '0', '0', '3', 'C'};
+			escapes['>'] = new byte[]{'\\', 'u', '0', '0', '3', 'E'};
+			escapes['&'] = new byte[]{'\\', 'u', '0', '0', '2', '6'};
+			escapes['\''] = new byte[]{'\\', 'u', '0', '0', '2', '7'};
+		}
+		return escapes;
+	}
+
+	/**
+	 * Escape policy used by this writer when writing strings.
+	 *
+	 * @return configured escape policy
+	 */
+	public final EscapePolicy escapePolicy() {
+		return escapePolicy;
+	}
+
+	static byte[] indentationBytes(@Nullable final String indentation) {
+		if (indentation == null || indentation.length() == 0) return null;
+		final byte[] result = new byte[indentation.length()];
+		for (int i = 0; i < result.length; i++) {
+			final char c = indentation.charAt(i);
+			if (c != ' ' && c != '\t') {
+				throw new IllegalArgumentException("indentation can contain only spaces and tabs");
+			}
+			result[i] = (byte) c;
+		}
+		return result;
+	}
+
+	/**
+	 * Change formatting of this writer.
+	 * When indentation is specified, objects and arrays are written on multiple lines,
+	 * with each nesting level indented by the provided whitespace and a space after semicolon.
+	 * Empty objects and arrays are still written as {} and [].
+	 * <p>
+	 * Formatting is applied while structural bytes are written (through writeByte),
+	 * so custom converters which use writeByte for object, array and separator bytes are formatted too.
+	 * Should be changed only before writing starts (or after reset).
+	 *
+	 * @param indentation spaces and/or tabs used for a single nesting level. Null or empty string for compact output
+	 */
+	public final void setIndentation(@Nullable final String indentation) {
+		this.indentation = indentationBytes(indentation);
+		this.depth = 0;
+		this.lastOpen = -1;
+	}
+
+	/**
+	 * Is this writer formatting JSON with newlines and indentation.
+	 *
+	 * @return true if indentation was specified
+	 */
+	public final boolean isPretty() {
+		return indentation != null;
 	}
 
 	/**
@@ -141,42 +273,158 @@ public final class JsonWriter {
 	 * @param value byte to write into the JSON
 	 */
 	public final void writeByte(final byte value) {
+		if (indentation != null) {
+			writeFormatted(value);
+			return;
+		}
 		if (position == buffer.length) {
 			enlargeOrFlush(position, 0);
 		}
 		buffer[position++] = value;
 	}
 
+	private void writeFormatted(final byte value) {
+		final byte[] indent = indentation;
+		switch (value) {
+			case OBJECT_START:
+			case ARRAY_START:
+				depth++;
+				writeLine(value, indent, depth);
+				lastOpen = flushed + position;
+				return;
+			case OBJECT_END:
+			case ARRAY_END:
+				final int opened = 1 + depth * indent.length;
+				depth--;
+				if (lastOpen == flushed + position && position >= opened) {
+					//nothing was written since start, so remove the new line and keep it compact
+					position -= opened;
+					buffer[position++] = value;
+				} else {
+					writeLine(value, indent, depth);
+				}
+				return;
+			case COMMA:
+				writeLine(value, indent, depth);
+				return;
+			case SEMI:
+				if (position + 2 >= buffer.length) {
+					enlargeOrFlush(position, 2);
+				}
+				buffer[position++] = SEMI;
+				buffer[position++] = ' ';
+				return;
+			default:
+				if (position == buffer.length) {
+					enlargeOrFlush(position, 0);
+				}
+				buffer[position++] = value;
+		}
+	}
+
+	private void writeLine(final byte value, final byte[] indent, final int level) {
+		final int length = 2 + level * indent.length;
+		if (position + length >= buffer.length) {
+			enlargeOrFlush(position, length);
+		}
+		final byte[] _result = buffer;
+		int pos = position;
+		if (value == OBJECT_END || value == ARRAY_END) {
+			_result[pos++] = '\n';
+			for (int i = 0; i < level; i++) {
+				for (byte b : indent) {
+					_result[pos++] = b;
+				}
+			}
+			_result[pos++] = value;
+		} else {
+			_result[pos++] = value;
+			_result[pos++] = '\n';
+			for (int i = 0; i < level; i++) {
+				for (byte b : indent) {
+					_result[pos++] = b;
+				}
+			}
+		}
+		position = pos;
+	}
+
+	/**
+	 * Write precomputed attribute name, eg. "name": or ,"name":
+	 * Name must be quoted and end with semicolon. It can optionally start with a comma.
+	 * In compact mode this is the same as writeAscii, while in pretty mode
+	 * comma and semicolon are written with appropriate formatting.
+	 *
+	 * @param name quoted attribute name with semicolon
+	 */
+	public final void writeAttributeName(final byte[] name) {
+		if (indentation == null) {
+			writeAscii(name);
+			return;
+		}
+		int start = 0;
+		if (name[0] == COMMA) {
+			writeFormatted(COMMA);
+			start = 1;
+		}
+		writeRaw(name, start, name.length - start - 1);
+		writeFormatted(SEMI);
+	}
+
+	/**
+	 * Replace the last written comma with object or array end.
+	 * This is used when attributes are written with a trailing comma
+	 * and it's not known upfront which attribute will be the last one.
+	 * Comma must be the last thing written into the writer.
+	 *
+	 * @param end object or array end
+	 */
+	public final void replaceTrailingComma(final byte end) {
+		if (indentation == null) {
+			buffer[position - 1] = end;
+			return;
+		}
+		position -= 2 + depth * indentation.length;
+		writeFormatted(end);
+	}
+
 	/**
 	 * Write a quoted string into the JSON.
-	 * String will be appropriately escaped according to JSON escaping rules.
+	 * String will be appropriately escaped according to JSON escaping rules
+	 * and the escape policy of this writer.
 	 *
 	 * @param value string to write
 	 */
+	@SuppressWarnings("deprecation")
 	public final void writeString(final String value) {
 		final int len = value.length();
 		if (position + (len << 2) + (len << 1) + 2 >= buffer.length) {
 			enlargeOrFlush(position, (len << 2) + (len << 1) + 2);
 		}
 		final byte[] _result = buffer;
+		final boolean[] _escaped = requiresEscape;
 		_result[position] = QUOTE;
-		int cur = position + 1;
-		for (int i = 0; i < len; i++) {
+		final int start = position + 1;
+		int i = 0;
+		for (; i < len; i++) {
 			final char c = value.charAt(i);
-			if (c > 31 && c != '"' && c != '\\' && c < 126) {
-				_result[cur++] = (byte) c;
-			} else {
-				writeQuotedString(value, i, cur, len);
-				return;
-			}
+			if (c >= 128 || _escaped[c]) break;
 		}
-		_result[cur] = QUOTE;
-		position = cur + 1;
+		//verified prefix is ASCII, so the lower byte of each char is the whole char.
+		//on compact Latin-1 strings this is a plain array copy
+		value.getBytes(0, i, _result, start);
+		if (i < len) {
+			writeQuotedString(value, i, start + i, len);
+			return;
+		}
+		_result[start + len] = QUOTE;
+		position = start + len + 1;
 	}
 
 	/**
 	 * Write a quoted string into the JSON.
-	 * Char sequence will be appropriately escaped according to JSON escaping rules.
+	 * Char sequence will be appropriately escaped according to JSON escaping rules
+	 * and the escape policy of this writer.
 	 *
 	 * @param value char sequence to write
 	 */
@@ -186,11 +434,12 @@ public final class JsonWriter {
 			enlargeOrFlush(position, (len << 2) + (len << 1) + 2);
 		}
 		final byte[] _result = buffer;
+		final boolean[] _escaped = requiresEscape;
 		_result[position] = QUOTE;
 		int cur = position + 1;
 		for (int i = 0; i < len; i++) {
 			final char c = value.charAt(i);
-			if (c > 31 && c != '"' && c != '\\' && c < 126) {
+			if (c < 128 && !_escaped[c]) {
 				_result[cur++] = (byte) c;
 			} else {
 				writeQuotedString(value, i, cur, len);
@@ -203,157 +452,33 @@ public final class JsonWriter {
 
 	private void writeQuotedString(final CharSequence str, int i, int cur, final int len) {
 		final byte[] _result = this.buffer;
+		final byte[][] _escapes = this.escapes;
 		for (; i < len; i++) {
 			final char c = str.charAt(i);
-			if (c == '"') {
-				_result[cur++] = ESCAPE;
-				_result[cur++] = QUOTE;
-			} else if (c == '\\') {
-				_result[cur++] = ESCAPE;
-				_result[cur++] = ESCAPE;
-			} else if (c < 32) {
-				if (c == 8) {
-					_result[cur++] = ESCAPE;
-					_result[cur++] = 'b';
-				} else if (c == 9) {
-					_result[cur++] = ESCAPE;
-					_result[cur++] = 't';
-				} else if (c == 10) {
-					_result[cur++] = ESCAPE;
-					_result[cur++] = 'n';
-				} else if (c == 12) {
-					_result[cur++] = ESCAPE;
-					_result[cur++] = 'f';
-				} else if (c == 13) {
-					_result[cur++] = ESCAPE;
-					_result[cur++] = 'r';
+			if (c < 128) {
+				final byte[] escape = _escapes[c];
+				if (escape == null) {
+					_result[cur++] = (byte) c;
 				} else {
-					_result[cur] = ESCAPE;
-					_result[cur + 1] = 'u';
-					_result[cur + 2] = '0';
-					_result[cur + 3] = '0';
-					switch (c) {
-						case 0:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '0';
-							break;
-						case 1:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '1';
-							break;
-						case 2:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '2';
-							break;
-						case 3:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '3';
-							break;
-						case 4:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '4';
-							break;
-						case 5:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '5';
-							break;
-						case 6:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '6';
-							break;
-						case 7:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = '7';
-							break;
-						case 11:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = 'B';
-							break;
-						case 14:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = 'E';
-							break;
-						case 15:
-							_result[cur + 4] = '0';
-							_result[cur + 5] = 'F';
-							break;
-						case 16:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '0';
-							break;
-						case 17:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '1';
-							break;
-						case 18:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '2';
-							break;
-						case 19:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '3';
-							break;
-						case 20:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '4';
-							break;
-						case 21:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '5';
-							break;
-						case 22:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '6';
-							break;
-						case 23:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '7';
-							break;
-						case 24:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '8';
-							break;
-						case 25:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = '9';
-							break;
-						case 26:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'A';
-							break;
-						case 27:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'B';
-							break;
-						case 28:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'C';
-							break;
-						case 29:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'D';
-							break;
-						case 30:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'E';
-							break;
-						default:
-							_result[cur + 4] = '1';
-							_result[cur + 5] = 'F';
-							break;
+					for (int x = 0; x < escape.length; x++) {
+						_result[cur + x] = escape[x];
 					}
-					cur += 6;
+					cur += escape.length;
 				}
-			} else if (c < 0x007F) {
-				_result[cur++] = (byte) c;
+			} else if (escapeUnicode) {
+				_result[cur] = ESCAPE;
+				_result[cur + 1] = 'u';
+				_result[cur + 2] = HEX[c >> 12];
+				_result[cur + 3] = HEX[(c >> 8) & 0xF];
+				_result[cur + 4] = HEX[(c >> 4) & 0xF];
+				_result[cur + 5] = HEX[c & 0xF];
+				cur += 6;
 			} else {
 				final int cp = Character.codePointAt(str, i);
 				if (Character.isSupplementaryCodePoint(cp)) {
 					i++;
 				}
-				if (cp == 0x007F) {
-					_result[cur++] = (byte) cp;
-				} else if (cp <= 0x7FF) {
+				if (cp <= 0x7FF) {
 					_result[cur++] = (byte) (0xC0 | ((cp >> 6) & 0x1F));
 					_result[cur++] = (byte) (0x80 | (cp & 0x3F));
 				} else if ((cp < 0xD800) || (cp > 0xDFFF && cp <= 0xFFFF)) {
@@ -562,6 +687,19 @@ public final class JsonWriter {
 		return flushed;
 	}
 
+	/**
+	 * Replace the buffer with a smaller one when it grew over the limit.
+	 * Should be called only after the content of the buffer was consumed.
+	 *
+	 * @param limit maximum buffer size which will be retained
+	 * @param size  size of the new buffer
+	 */
+	final void shrinkBuffer(final int limit, final int size) {
+		if (buffer.length > limit && position == 0) {
+			buffer = new byte[size];
+		}
+	}
+
 	/**
 	 * Resets the writer - same as calling reset(OutputStream = null)
 	 */
@@ -579,6 +717,8 @@ public final class JsonWriter {
 		position = 0;
 		target = stream;
 		flushed = 0;
+		depth = 0;
+		lastOpen = -1;
 	}
 
 	/**
@@ -815,6 +955,43 @@ public final class JsonWriter {
 		writeByte(ARRAY_END);
 	}
 
+	/**
+	 * Convenience method for serializing elements from iterator through instance serializer (WriteObject).
+	 * Elements are written as they are pulled from the iterator, so they don't need to be materialized.
+	 * When writer targets a stream, buffer will be flushed to the stream as it fills up.
+	 * Iterator can be null and can contain null values.
+	 * Instance serializer will not be invoked for null values
+	 *
+	 * @param iterator elements to serialize
+	 * @param encoder instance serializer
+	 * @param <T> type of object
+	 */
+	public <T> void serialize(@Nullable final Iterator<T> iterator, final WriteObject<T> encoder) {
+		if (iterator == null) {
+			writeNull();
+			return;
+		}
+		writeByte(ARRAY_START);
+		if (iterator.hasNext()) {
+			T item = iterator.next();
+			if (item != null) {
+				encoder.write(this, item);
+			} else {
+				writeNull();
+			}
+			while (iterator.hasNext()) {
+				writeByte(COMMA);
+				item = iterator.next();
+				if (item != null) {
+					encoder.write(this, item);
+				} else {
+					writeNull();
+				}
+			}
+		}
+		writeByte(ARRAY_END);
+	}
+
 	public <K, V> void serialize(@Nullable final Map<K, V> map, final WriteObject<K> keyEncoder, final WriteObject<V> valueEncoder) {
 		if (map == null) {
 			writeNull();
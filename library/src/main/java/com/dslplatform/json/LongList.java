@@ -0,0 +1,125 @@
+package com.dslplatform.json;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of long values backed by a long array.
+ * <p>
+ * Values are stored without boxing, which avoids an object per element for large numeric collections.
+ * Primitive methods such as getLong and addLong should be used to access values without boxing.
+ * Null elements are not supported.
+ */
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+
+	long[] values;
+	int size;
+
+	public LongList() {
+		this(4);
+	}
+
+	public LongList(final int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity can't be negative");
+		this.values = initialCapacity == 0 ? NumberConverter.LONG_EMPTY_ARRAY : new long[initialCapacity];
+	}
+
+	public LongList(final long[] values) {
+		if (values == null) throw new IllegalArgumentException("values can't be null");
+		this.values = values.clone();
+		this.size = values.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Long get(final int index) {
+		return getLong(index);
+	}
+
+	public long getLong(final int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	@Override
+	public Long set(final int index, final Long value) {
+		return setLong(index, value);
+	}
+
+	public long setLong(final int index, final long value) {
+		checkIndex(index);
+		final long previous = values[index];
+		values[index] = value;
+		return previous;
+	}
+
+	@Override
+	public boolean add(final Long value) {
+		addLong(value);
+		return true;
+	}
+
+	public void addLong(final long value) {
+		if (size == values.length) {
+			ensureCapacity(size + 1);
+		}
+		values[size++] = value;
+		modCount++;
+	}
+
+	@Override
+	public void add(final int index, final Long value) {
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		final long unboxed = value;
+		ensureCapacity(size + 1);
+		System.arraycopy(values, index, values, index + 1, size - index);
+		values[index] = unboxed;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Long remove(final int index) {
+		checkIndex(index);
+		final long previous = values[index];
+		System.arraycopy(values, index + 1, values, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Grow backing array so that it can hold at least the specified number of values.
+	 *
+	 * @param capacity minimal number of values
+	 */
+	public void ensureCapacity(final int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values, Math.max(capacity, Math.max(4, values.length << 1)));
+		}
+	}
+
+	/**
+	 * Copy values into a new array.
+	 *
+	 * @return array of values
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+}
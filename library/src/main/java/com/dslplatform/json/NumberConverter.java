@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class NumberConverter {
 
@@ -68,6 +69,43 @@ public abstract class NumberConverter {
 			serialize(value, writer);
 		}
 	};
+	public static final JsonReader.ReadObject<DoubleList> DOUBLE_LIST_READER = new JsonReader.ReadObject<DoubleList>() {
+		@Nullable
+		@Override
+		public DoubleList read(JsonReader reader) throws IOException {
+			if (reader.wasNull()) return null;
+			if (reader.last() != '[') throw reader.newParseError("Expecting '[' for double list start");
+			reader.getNextToken();
+			return deserializeDoubleList(reader);
+		}
+	};
+	public static final JsonWriter.WriteObject<DoubleList> DOUBLE_LIST_WRITER = new JsonWriter.WriteObject<DoubleList>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable DoubleList value) {
+			serialize(value, writer);
+		}
+	};
+	/**
+	 * Reader for properties declared as List&lt;Double&gt;, which decodes into DoubleList.
+	 */
+	public static final JsonReader.ReadObject<List<Double>> GENERIC_DOUBLE_LIST_READER = new JsonReader.ReadObject<List<Double>>() {
+		@Nullable
+		@Override
+		public List<Double> read(JsonReader reader) throws IOException {
+			return DOUBLE_LIST_READER.read(reader);
+		}
+	};
+	/**
+	 * Writer for properties declared as List&lt;Double&gt;.
+	 * DoubleList is written without boxing, while other lists are written element by element.
+	 */
+	public static final JsonWriter.WriteObject<List<Double>> GENERIC_DOUBLE_LIST_WRITER = new JsonWriter.WriteObject<List<Double>>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable List<Double> value) {
+			if (value instanceof DoubleList) serialize((DoubleList) value, writer);
+			else writer.serialize(value, DOUBLE_WRITER);
+		}
+	};
 
 	public static final JsonReader.ReadObject<Float> FLOAT_READER = new JsonReader.ReadObject<Float>() {
 		@Override
@@ -139,6 +177,43 @@ public abstract class NumberConverter {
 			serialize(value, writer);
 		}
 	};
+	public static final JsonReader.ReadObject<IntList> INT_LIST_READER = new JsonReader.ReadObject<IntList>() {
+		@Nullable
+		@Override
+		public IntList read(JsonReader reader) throws IOException {
+			if (reader.wasNull()) return null;
+			if (reader.last() != '[') throw reader.newParseError("Expecting '[' for int list start");
+			reader.getNextToken();
+			return deserializeIntList(reader);
+		}
+	};
+	public static final JsonWriter.WriteObject<IntList> INT_LIST_WRITER = new JsonWriter.WriteObject<IntList>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable IntList value) {
+			serialize(value, writer);
+		}
+	};
+	/**
+	 * Reader for properties declared as List&lt;Integer&gt;, which decodes into IntList.
+	 */
+	public static final JsonReader.ReadObject<List<Integer>> GENERIC_INT_LIST_READER = new JsonReader.ReadObject<List<Integer>>() {
+		@Nullable
+		@Override
+		public List<Integer> read(JsonReader reader) throws IOException {
+			return INT_LIST_READER.read(reader);
+		}
+	};
+	/**
+	 * Writer for properties declared as List&lt;Integer&gt;.
+	 * IntList is written without boxing, while other lists are written element by element.
+	 */
+	public static final JsonWriter.WriteObject<List<Integer>> GENERIC_INT_LIST_WRITER = new JsonWriter.WriteObject<List<Integer>>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable List<Integer> value) {
+			if (value instanceof IntList) serialize((IntList) value, writer);
+			else writer.serialize(value, INT_WRITER);
+		}
+	};
 	public static final JsonReader.ReadObject<Short> SHORT_READER = new JsonReader.ReadObject<Short>() {
 		@Override
 		public Short read(JsonReader reader) throws IOException {
@@ -211,6 +286,43 @@ public abstract class NumberConverter {
 			serialize(value, writer);
 		}
 	};
+	public static final JsonReader.ReadObject<LongList> LONG_LIST_READER = new JsonReader.ReadObject<LongList>() {
+		@Nullable
+		@Override
+		public LongList read(JsonReader reader) throws IOException {
+			if (reader.wasNull()) return null;
+			if (reader.last() != '[') throw reader.newParseError("Expecting '[' for long list start");
+			reader.getNextToken();
+			return deserializeLongList(reader);
+		}
+	};
+	public static final JsonWriter.WriteObject<LongList> LONG_LIST_WRITER = new JsonWriter.WriteObject<LongList>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable LongList value) {
+			serialize(value, writer);
+		}
+	};
+	/**
+	 * Reader for properties declared as List&lt;Long&gt;, which decodes into LongList.
+	 */
+	public static final JsonReader.ReadObject<List<Long>> GENERIC_LONG_LIST_READER = new JsonReader.ReadObject<List<Long>>() {
+		@Nullable
+		@Override
+		public List<Long> read(JsonReader reader) throws IOException {
+			return LONG_LIST_READER.read(reader);
+		}
+	};
+	/**
+	 * Writer for properties declared as List&lt;Long&gt;.
+	 * LongList is written without boxing, while other lists are written element by element.
+	 */
+	public static final JsonWriter.WriteObject<List<Long>> GENERIC_LONG_LIST_WRITER = new JsonWriter.WriteObject<List<Long>>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable List<Long> value) {
+			if (value instanceof LongList) serialize((LongList) value, writer);
+			else writer.serialize(value, LONG_WRITER);
+		}
+	};
 
 	public static final JsonReader.ReadObject<BigDecimal> DecimalReader = new JsonReader.ReadObject<BigDecimal>() {
 		@Nullable
@@ -344,6 +456,23 @@ public abstract class NumberConverter {
 		}
 	}
 
+	public static void serialize(@Nullable final DoubleList value, final JsonWriter sw) {
+		if (value == null) {
+			sw.writeNull();
+		} else if (value.size == 0) {
+			sw.writeAscii("[]");
+		} else {
+			final double[] values = value.values;
+			sw.writeByte(JsonWriter.ARRAY_START);
+			serialize(values[0], sw);
+			for (int i = 1; i < value.size; i++) {
+				sw.writeByte(JsonWriter.COMMA);
+				serialize(values[i], sw);
+			}
+			sw.writeByte(JsonWriter.ARRAY_END);
+		}
+	}
+
 	private static class NumberInfo {
 		final char[] buffer;
 		final int length;
@@ -851,14 +980,36 @@ public abstract class NumberConverter {
 	public static void serialize(@Nullable final int[] values, final JsonWriter sw) {
 		if (values == null) {
 			sw.writeNull();
-		} else if (values.length == 0) {
+		} else {
+			serialize(values, values.length, sw);
+		}
+	}
+
+	public static void serialize(@Nullable final IntList values, final JsonWriter sw) {
+		if (values == null) {
+			sw.writeNull();
+		} else {
+			serialize(values.values, values.size, sw);
+		}
+	}
+
+	private static void serialize(final int[] values, final int length, final JsonWriter sw) {
+		if (length == 0) {
 			sw.writeAscii("[]");
+		} else if (sw.isPretty()) {
+			sw.writeByte(JsonWriter.ARRAY_START);
+			serialize(values[0], sw);
+			for (int i = 1; i < length; i++) {
+				sw.writeByte(JsonWriter.COMMA);
+				serialize(values[i], sw);
+			}
+			sw.writeByte(JsonWriter.ARRAY_END);
 		} else {
-			final byte[] buf = sw.ensureCapacity(values.length * 11 + 2);
+			final byte[] buf = sw.ensureCapacity(length * 11 + 2);
 			int position = sw.size();
 			buf[position++] = '[';
 			position = serialize(buf, position, values[0]);
-			for (int i = 1; i < values.length; i++) {
+			for (int i = 1; i < length; i++) {
 				buf[position++] = ',';
 				position = serialize(buf, position, values[i]);
 			}
@@ -982,10 +1133,14 @@ public abstract class NumberConverter {
 	}
 
 	public static int[] deserializeIntArray(final JsonReader reader) throws IOException {
+		return deserializeIntArray(reader, null);
+	}
+
+	public static int[] deserializeIntArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return INT_EMPTY_ARRAY;
 		}
-		int[] buffer = new int[4];
+		int[] buffer = new int[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = deserializeInt(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -996,14 +1151,42 @@ public abstract class NumberConverter {
 			buffer[i++] = deserializeInt(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
+	}
+
+	public static IntList deserializeIntList(final JsonReader reader) throws IOException {
+		return deserializeIntList(reader, null);
+	}
+
+	public static IntList deserializeIntList(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
+		if (reader.last() == ']') {
+			return new IntList();
+		}
+		final IntList list = hint != null ? new IntList(hint.capacity()) : new IntList();
+		list.addInt(deserializeInt(reader));
+		while (reader.getNextToken() == ',') {
+			reader.getNextToken();
+			list.addInt(deserializeInt(reader));
+		}
+		reader.checkArrayEnd();
+		if (hint != null) {
+			hint.record(list.size);
+		}
+		return list;
 	}
 
 	public static short[] deserializeShortArray(final JsonReader reader) throws IOException {
+		return deserializeShortArray(reader, null);
+	}
+
+	public static short[] deserializeShortArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return SHORT_EMPTY_ARRAY;
 		}
-		short[] buffer = new short[4];
+		short[] buffer = new short[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = (short)deserializeInt(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -1014,14 +1197,21 @@ public abstract class NumberConverter {
 			buffer[i++] = (short)deserializeInt(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
 	}
 
 	public static long[] deserializeLongArray(final JsonReader reader) throws IOException {
+		return deserializeLongArray(reader, null);
+	}
+
+	public static long[] deserializeLongArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return LONG_EMPTY_ARRAY;
 		}
-		long[] buffer = new long[4];
+		long[] buffer = new long[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = deserializeLong(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -1032,14 +1222,42 @@ public abstract class NumberConverter {
 			buffer[i++] = deserializeLong(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
+	}
+
+	public static LongList deserializeLongList(final JsonReader reader) throws IOException {
+		return deserializeLongList(reader, null);
+	}
+
+	public static LongList deserializeLongList(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
+		if (reader.last() == ']') {
+			return new LongList();
+		}
+		final LongList list = hint != null ? new LongList(hint.capacity()) : new LongList();
+		list.addLong(deserializeLong(reader));
+		while (reader.getNextToken() == ',') {
+			reader.getNextToken();
+			list.addLong(deserializeLong(reader));
+		}
+		reader.checkArrayEnd();
+		if (hint != null) {
+			hint.record(list.size);
+		}
+		return list;
 	}
 
 	public static float[] deserializeFloatArray(final JsonReader reader) throws IOException {
+		return deserializeFloatArray(reader, null);
+	}
+
+	public static float[] deserializeFloatArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return FLOAT_EMPTY_ARRAY;
 		}
-		float[] buffer = new float[4];
+		float[] buffer = new float[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = deserializeFloat(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -1050,14 +1268,21 @@ public abstract class NumberConverter {
 			buffer[i++] = deserializeFloat(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
 	}
 
 	public static double[] deserializeDoubleArray(final JsonReader reader) throws IOException {
+		return deserializeDoubleArray(reader, null);
+	}
+
+	public static double[] deserializeDoubleArray(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
 		if (reader.last() == ']') {
 			return DOUBLE_EMPTY_ARRAY;
 		}
-		double[] buffer = new double[4];
+		double[] buffer = new double[hint != null ? hint.exactCapacity() : 4];
 		buffer[0] = deserializeDouble(reader);
 		int i = 1;
 		while (reader.getNextToken() == ',') {
@@ -1068,7 +1293,151 @@ public abstract class NumberConverter {
 			buffer[i++] = deserializeDouble(reader);
 		}
 		reader.checkArrayEnd();
-		return Arrays.copyOf(buffer, i);
+		if (hint != null) {
+			hint.record(i);
+		}
+		return i == buffer.length ? buffer : Arrays.copyOf(buffer, i);
+	}
+
+	public static DoubleList deserializeDoubleList(final JsonReader reader) throws IOException {
+		return deserializeDoubleList(reader, null);
+	}
+
+	public static DoubleList deserializeDoubleList(final JsonReader reader, @Nullable final CapacityHint hint) throws IOException {
+		if (reader.last() == ']') {
+			return new DoubleList();
+		}
+		final DoubleList list = hint != null ? new DoubleList(hint.capacity()) : new DoubleList();
+		list.addDouble(deserializeDouble(reader));
+		while (reader.getNextToken() == ',') {
+			reader.getNextToken();
+			list.addDouble(deserializeDouble(reader));
+		}
+		reader.checkArrayEnd();
+		if (hint != null) {
+			hint.record(list.size);
+		}
+		return list;
+	}
+
+	/**
+	 * Readers for primitive arrays and lists which presize the result from previously decoded lengths.
+	 * Static readers start with a small fixed capacity instead,
+	 * since lengths of unrelated properties would only skew a shared hint.
+	 *
+	 * @param hint capacity hint owned by the created reader
+	 * @return reader which uses provided hint
+	 */
+	public static JsonReader.ReadObject<int[]> intArrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<int[]>() {
+			@Nullable
+			@Override
+			public int[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for int array start");
+				reader.getNextToken();
+				return deserializeIntArray(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<short[]> shortArrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<short[]>() {
+			@Nullable
+			@Override
+			public short[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for short array start");
+				reader.getNextToken();
+				return deserializeShortArray(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<long[]> longArrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<long[]>() {
+			@Nullable
+			@Override
+			public long[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for long array start");
+				reader.getNextToken();
+				return deserializeLongArray(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<float[]> floatArrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<float[]>() {
+			@Nullable
+			@Override
+			public float[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for float array start");
+				reader.getNextToken();
+				return deserializeFloatArray(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<double[]> doubleArrayReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<double[]>() {
+			@Nullable
+			@Override
+			public double[] read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for double array start");
+				reader.getNextToken();
+				return deserializeDoubleArray(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<IntList> intListReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<IntList>() {
+			@Nullable
+			@Override
+			public IntList read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for int list start");
+				reader.getNextToken();
+				return deserializeIntList(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<LongList> longListReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<LongList>() {
+			@Nullable
+			@Override
+			public LongList read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for long list start");
+				reader.getNextToken();
+				return deserializeLongList(reader, hint);
+			}
+		};
+	}
+
+	public static JsonReader.ReadObject<DoubleList> doubleListReader(final CapacityHint hint) {
+		if (hint == null) throw new IllegalArgumentException("hint can't be null");
+		return new JsonReader.ReadObject<DoubleList>() {
+			@Nullable
+			@Override
+			public DoubleList read(JsonReader reader) throws IOException {
+				if (reader.wasNull()) return null;
+				if (reader.last() != '[') throw reader.newParseError("Expecting '[' for double list start");
+				reader.getNextToken();
+				return deserializeDoubleList(reader, hint);
+			}
+		};
 	}
 
 	public static void deserializeShortCollection(final JsonReader reader, final Collection<Short> res) throws IOException {
@@ -1225,14 +1594,36 @@ public abstract class NumberConverter {
 	public static void serialize(@Nullable final long[] values, final JsonWriter sw) {
 		if (values == null) {
 			sw.writeNull();
-		} else if (values.length == 0) {
+		} else {
+			serialize(values, values.length, sw);
+		}
+	}
+
+	public static void serialize(@Nullable final LongList values, final JsonWriter sw) {
+		if (values == null) {
+			sw.writeNull();
+		} else {
+			serialize(values.values, values.size, sw);
+		}
+	}
+
+	private static void serialize(final long[] values, final int length, final JsonWriter sw) {
+		if (length == 0) {
 			sw.writeAscii("[]");
+		} else if (sw.isPretty()) {
+			sw.writeByte(JsonWriter.ARRAY_START);
+			serialize(values[0], sw);
+			for (int i = 1; i < length; i++) {
+				sw.writeByte(JsonWriter.COMMA);
+				serialize(values[i], sw);
+			}
+			sw.writeByte(JsonWriter.ARRAY_END);
 		} else {
-			final byte[] buf = sw.ensureCapacity(values.length * 21 + 2);
+			final byte[] buf = sw.ensureCapacity(length * 21 + 2);
 			int position = sw.size();
 			buf[position++] = '[';
 			position = serialize(buf, position, values[0]);
-			for (int i = 1; i < values.length; i++) {
+			for (int i = 1; i < length; i++) {
 				buf[position++] = ',';
 				position = serialize(buf, position, values[i]);
 			}
@@ -0,0 +1,107 @@
+package com.dslplatform.json;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Already serialized JSON value.
+ * It will be embedded into the output as is, without parsing and re-serializing it.
+ * This is useful when JSON fragments are cached or stored elsewhere and need to be included in a larger response.
+ * <p>
+ * During deserialization exact bytes of the value will be captured, including any whitespace inside the value.
+ * JSON is not validated during serialization, so invalid fragment will result in invalid JSON.
+ * <p>
+ * Instance does not copy the provided bytes, so they should not be modified after construction.
+ */
+public final class RawJson {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final byte[] bytes;
+	private final int offset;
+	private final int length;
+
+	/**
+	 * Raw JSON from the entire byte array
+	 *
+	 * @param bytes JSON value
+	 */
+	public RawJson(final byte[] bytes) {
+		this(bytes, 0, bytes == null ? 0 : bytes.length);
+	}
+
+	/**
+	 * Raw JSON from a slice of byte array
+	 *
+	 * @param bytes  source array
+	 * @param offset start of JSON value
+	 * @param length size of JSON value
+	 */
+	public RawJson(final byte[] bytes, final int offset, final int length) {
+		if (bytes == null) throw new IllegalArgumentException("bytes can't be null");
+		if (offset < 0 || length < 1 || offset + length > bytes.length) {
+			throw new IllegalArgumentException("Invalid offset/length provided for bytes");
+		}
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Raw JSON from a string value.
+	 *
+	 * @param json JSON value
+	 * @return raw JSON with UTF-8 bytes of the string
+	 */
+	public static RawJson of(final String json) {
+		if (json == null) throw new IllegalArgumentException("json can't be null");
+		return new RawJson(json.getBytes(UTF_8));
+	}
+
+	public byte[] bytes() {
+		return bytes;
+	}
+
+	public int offset() {
+		return offset;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Copy of the JSON value
+	 *
+	 * @return new array with JSON bytes
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOfRange(bytes, offset, offset + length);
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		if (this == other) return true;
+		if (!(other instanceof RawJson)) return false;
+		final RawJson raw = (RawJson) other;
+		if (raw.length != length) return false;
+		for (int i = 0; i < length; i++) {
+			if (bytes[offset + i] != raw.bytes[raw.offset + i]) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = offset; i < offset + length; i++) {
+			result = 31 * result + bytes[i];
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new String(bytes, offset, length, UTF_8);
+	}
+}
@@ -0,0 +1,36 @@
+package com.dslplatform.json;
+
+import java.io.IOException;
+
+public abstract class RawJsonConverter {
+
+	public static final JsonReader.ReadObject<RawJson> READER = new JsonReader.ReadObject<RawJson>() {
+		@Nullable
+		@Override
+		public RawJson read(JsonReader reader) throws IOException {
+			return reader.wasNull() ? null : deserialize(reader);
+		}
+	};
+	public static final JsonWriter.WriteObject<RawJson> WRITER = new JsonWriter.WriteObject<RawJson>() {
+		@Override
+		public void write(JsonWriter writer, @Nullable RawJson value) {
+			serializeNullable(value, writer);
+		}
+	};
+
+	public static void serializeNullable(@Nullable final RawJson value, final JsonWriter sw) {
+		if (value == null) {
+			sw.writeNull();
+		} else {
+			serialize(value, sw);
+		}
+	}
+
+	public static void serialize(final RawJson value, final JsonWriter sw) {
+		sw.writeRaw(value.bytes(), value.offset(), value.length());
+	}
+
+	public static RawJson deserialize(final JsonReader reader) throws IOException {
+		return new RawJson(reader.readRaw());
+	}
+}
@@ -0,0 +1,169 @@
+package com.dslplatform.json;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Writer which remembers encoded bytes of recently serialized instances.
+ * When the same instance is serialized again, cached bytes are copied into the writer
+ * instead of encoding the instance again.
+ * <p>
+ * Cache should be used only for immutable objects, since changes to an instance
+ * after it was cached will not be visible in the output.
+ * Instances are referenced through weak references, so cache will not prevent them from being collected.
+ * Cache has a fixed number of slots and a new entry will evict the previous one from the same slot.
+ * <p>
+ * Cached bytes are not used for writers with different escape policy or pretty printing enabled.
+ * Instance will not be cached when its bytes are flushed to the stream during encoding.
+ * Cache is safe to use from multiple threads.
+ *
+ * @param <T> cached type
+ */
+public final class SerializationCache<T> implements JsonWriter.WriteObject<T> {
+
+	/**
+	 * How should instances be matched with cached bytes.
+	 */
+	public enum Keys {
+		/**
+		 * Only the same instance will be matched
+		 */
+		IDENTITY,
+		/**
+		 * Equal instances will be matched, based on hashCode and equals
+		 */
+		EQUALITY
+	}
+
+	private static final class Entry {
+		final WeakReference<Object> instance;
+		final int hash;
+		final byte[] bytes;
+		final JsonWriter.EscapePolicy escapePolicy;
+
+		Entry(final Object instance, final int hash, final byte[] bytes, final JsonWriter.EscapePolicy escapePolicy) {
+			this.instance = new WeakReference<Object>(instance);
+			this.hash = hash;
+			this.bytes = bytes;
+			this.escapePolicy = escapePolicy;
+		}
+	}
+
+	private volatile JsonWriter.WriteObject<T> encoder;
+	private final Keys keys;
+	private final AtomicReferenceArray<Entry> entries;
+	private final int mask;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Create a cache which wraps provided writer.
+	 *
+	 * @param encoder    writer used when instance is not found in cache
+	 * @param keys       how instances are matched
+	 * @param maxEntries maximum number of cached instances. Will be rounded up to power of 2
+	 */
+	public SerializationCache(final JsonWriter.WriteObject<T> encoder, final Keys keys, final int maxEntries) {
+		this(keys, maxEntries);
+		if (encoder == null) throw new IllegalArgumentException("encoder can't be null");
+		this.encoder = encoder;
+	}
+
+	SerializationCache(final Keys keys, final int maxEntries) {
+		if (keys == null) throw new IllegalArgumentException("keys can't be null");
+		if (maxEntries < 1 || maxEntries > 1 << 24) {
+			throw new IllegalArgumentException("maxEntries must be between 1 and " + (1 << 24));
+		}
+		int size = 1;
+		while (size < maxEntries) {
+			size <<= 1;
+		}
+		this.keys = keys;
+		this.entries = new AtomicReferenceArray<Entry>(size);
+		this.mask = size - 1;
+	}
+
+	final SerializationCache<T> withSameSettings() {
+		return new SerializationCache<T>(keys, entries.length());
+	}
+
+	final void encoder(final JsonWriter.WriteObject<T> encoder) {
+		this.encoder = encoder;
+		clear();
+	}
+
+	@Override
+	public void write(final JsonWriter writer, @Nullable final T value) {
+		final JsonWriter.WriteObject<T> encoder = this.encoder;
+		if (value == null) {
+			writer.writeNull();
+			return;
+		} else if (encoder == null) {
+			throw new ConfigurationException("Writer for cached type " + value.getClass() + " was not registered");
+		} else if (writer.isPretty()) {
+			misses.incrementAndGet();
+			encoder.write(writer, value);
+			return;
+		}
+		final int hash = keys == Keys.IDENTITY ? System.identityHashCode(value) : value.hashCode();
+		final int index = (hash ^ (hash >>> 16)) & mask;
+		final Entry entry = entries.get(index);
+		if (entry != null && entry.hash == hash && entry.escapePolicy == writer.escapePolicy()) {
+			final Object cached = entry.instance.get();
+			if (cached == value || cached != null && keys == Keys.EQUALITY && value.equals(cached)) {
+				hits.incrementAndGet();
+				writer.writeRaw(entry.bytes, 0, entry.bytes.length);
+				return;
+			}
+		}
+		misses.incrementAndGet();
+		final int start = writer.size();
+		final long flushed = writer.flushed();
+		encoder.write(writer, value);
+		if (flushed != writer.flushed()) return;
+		final byte[] bytes = Arrays.copyOfRange(writer.getByteBuffer(), start, writer.size());
+		final Entry previous = entries.getAndSet(index, new Entry(value, hash, bytes, writer.escapePolicy()));
+		if (previous != null && previous.instance.get() != null) {
+			evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Number of writes which were served from cache.
+	 *
+	 * @return cache hits
+	 */
+	public long hits() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of writes which required encoding.
+	 *
+	 * @return cache misses
+	 */
+	public long misses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of live entries replaced by other instances.
+	 *
+	 * @return evicted entries
+	 */
+	public long evictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Remove all cached entries. Statistics are not reset.
+	 */
+	public void clear() {
+		for (int i = 0; i < entries.length(); i++) {
+			entries.set(i, null);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.dslplatform.json;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Moving estimate of serialized size for each root type, kept as a capacity hint per type.
+ * <p>
+ * Only types which were asked for a buffer size are tracked.
+ * Until the first such request, recording is a single volatile read.
+ */
+final class SizeEstimates {
+
+	static final int MIN_SIZE = 512;
+	static final int MAX_SIZE = 1 << 24;
+	private static final int MAX_TYPES = 1024;
+
+	private final ConcurrentMap<Class<?>, CapacityHint> estimates = new ConcurrentHashMap<Class<?>, CapacityHint>();
+	private volatile boolean tracking;
+
+	void record(final Class<?> manifest, final long size) {
+		if (!tracking) return;
+		final CapacityHint estimate = estimates.get(manifest);
+		if (estimate == null) return;
+		estimate.record(size > MAX_SIZE ? MAX_SIZE : (int) size);
+	}
+
+	/**
+	 * Buffer size which should fit serialized instance of provided type.
+	 * Estimate is increased by 25% so that instances slightly larger than average don't cause resizing.
+	 * Type will be tracked from now on, if it was not already.
+	 *
+	 * @param manifest root type
+	 * @return suggested buffer size
+	 */
+	int bufferSize(final Class<?> manifest) {
+		final CapacityHint estimate = estimates.get(manifest);
+		if (estimate == null) {
+			if (estimates.size() < MAX_TYPES) {
+				estimates.putIfAbsent(manifest, new CapacityHint(MAX_SIZE));
+				tracking = true;
+			}
+			return MIN_SIZE;
+		}
+		final int size = estimate.capacity() + 64;
+		return size < MIN_SIZE ? MIN_SIZE : size > MAX_SIZE ? MAX_SIZE : size;
+	}
+}
@@ -2,4 +2,23 @@ package com.dslplatform.json;
 
 public interface StringCache {
 	String get(char[] chars, int len);
+
+	/**
+	 * Cache which can look up strings directly from JSON input, before bytes are decoded into chars.
+	 * Reader will use it for strings without escape sequences which are fully available in its buffer.
+	 */
+	interface Raw extends StringCache {
+		/**
+		 * Find string matching UTF-8 encoded input or decode it and remember the result.
+		 * Reader passes only ASCII input without escape sequences.
+		 * When null is returned, reader will decode the string itself.
+		 *
+		 * @param input  buffer with JSON input
+		 * @param offset start of string content in input (after the quote)
+		 * @param len    length of string content in bytes
+		 * @return String instance matching input bytes or null if input should not be cached
+		 */
+		@Nullable
+		String get(byte[] input, int offset, int len);
+	}
 }
@@ -189,6 +189,16 @@ public class StructInfo {
 		return annotation != null;
 	}
 
+	public boolean cacheSerialized() {
+		if (annotation == null) return false;
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> kv : annotation.getElementValues().entrySet()) {
+			if ("cacheSerialized()".equals(kv.getKey().toString())) {
+				return (Boolean) kv.getValue().getValue();
+			}
+		}
+		return false;
+	}
+
 	public boolean hasCycles(Map<String, StructInfo> structs) {
 		return hasCycles(new HashSet<TypeMirror>(), structs);
 	}
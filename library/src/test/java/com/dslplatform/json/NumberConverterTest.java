@@ -1335,4 +1335,121 @@ public class NumberConverterTest {
 		List<Double> resultUnquoted = dslJson.deserializeList(double.class, os.toByteArray(), os.size());
 		Assert.assertEquals(values, resultUnquoted);
 	}
+
+	@Test
+	public void primitiveListsRoundtrip() throws IOException {
+		IntList ints = new IntList(0);
+		for (int i = -100; i < 100; i++) {
+			ints.addInt(i * 1234567);
+		}
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(ints, os);
+		IntList intResult = dslJson.deserialize(IntList.class, os.toByteArray(), os.size());
+		Assert.assertEquals(ints, intResult);
+		Assert.assertArrayEquals(ints.toIntArray(), intResult.toIntArray());
+		LongList longs = new LongList(new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE});
+		os.reset();
+		dslJson.serialize(longs, os);
+		Assert.assertEquals("[-9223372036854775808,0,9223372036854775807]", os.toString("UTF-8"));
+		Assert.assertEquals(longs, dslJson.deserialize(LongList.class, os.toByteArray(), os.size()));
+		DoubleList doubles = new DoubleList();
+		doubles.addDouble(1.5);
+		doubles.addDouble(-0.25);
+		os.reset();
+		dslJson.serialize(doubles, os);
+		Assert.assertEquals("[1.5,-0.25]", os.toString("UTF-8"));
+		Assert.assertEquals(doubles, dslJson.deserialize(DoubleList.class, os.toByteArray(), os.size()));
+		byte[] empty = "[]".getBytes("UTF-8");
+		Assert.assertEquals(0, dslJson.deserialize(IntList.class, empty, empty.length).size());
+	}
+
+	@Test
+	public void primitiveListsArePresizedFromPreviousLengths() throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(new IntList(new int[5000]), os);
+		IntList result = null;
+		for (int i = 0; i < 20; i++) {
+			result = dslJson.deserialize(IntList.class, os.toByteArray(), os.size());
+		}
+		Assert.assertEquals(5000, result.size());
+		Assert.assertTrue(result.values.length >= 5000);
+		Assert.assertTrue(result.values.length < 8192);
+	}
+
+	@Test
+	public void primitiveLengthHintsAreNotShared() throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(new IntList(new int[5000]), os);
+		for (int i = 0; i < 20; i++) {
+			dslJson.deserialize(IntList.class, os.toByteArray(), os.size());
+		}
+		byte[] small = "[1,2]".getBytes("UTF-8");
+		IntList other = new DslJson<Object>().deserialize(IntList.class, small, small.length);
+		Assert.assertEquals(4, other.values.length);
+		JsonReader<Object> reader = dslJson.newReader(small);
+		reader.getNextToken();
+		Assert.assertEquals(4, NumberConverter.INT_LIST_READER.read(reader).values.length);
+		reader = dslJson.newReader(small);
+		reader.getNextToken();
+		reader.getNextToken();
+		Assert.assertArrayEquals(new int[]{1, 2}, NumberConverter.deserializeIntArray(reader));
+	}
+
+	@Test
+	public void capacityHintIsExactForStableLengths() {
+		CapacityHint hint = new CapacityHint(1 << 20);
+		hint.record(100);
+		Assert.assertEquals(126, hint.exactCapacity());
+		hint.record(100);
+		Assert.assertEquals(100, hint.exactCapacity());
+		hint.record(101);
+		Assert.assertEquals(126, hint.exactCapacity());
+	}
+
+	@Test
+	public void primitiveArraysWithChangingLengths() throws IOException {
+		for (int length : new int[]{3, 3, 3, 7, 7, 7, 1, 1, 50, 2}) {
+			long[] values = new long[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = i * 31L;
+			}
+			ByteArrayOutputStream os = new ByteArrayOutputStream();
+			dslJson.serialize(values, os);
+			Assert.assertArrayEquals(values, dslJson.deserialize(long[].class, os.toByteArray(), os.size()));
+		}
+	}
+
+	@Test
+	public void genericPrimitiveListWriterAcceptsAnyList() throws IOException {
+		JsonWriter writer = dslJson.newWriter();
+		NumberConverter.GENERIC_LONG_LIST_WRITER.write(writer, Arrays.asList(1L, null, 3L));
+		Assert.assertEquals("[1,null,3]", writer.toString());
+		writer.reset();
+		NumberConverter.GENERIC_LONG_LIST_WRITER.write(writer, new LongList(new long[]{4, 5}));
+		Assert.assertEquals("[4,5]", writer.toString());
+		byte[] bytes = "[6,7]".getBytes("UTF-8");
+		JsonReader<Object> reader = dslJson.newReader(bytes);
+		reader.getNextToken();
+		List<Long> result = NumberConverter.GENERIC_LONG_LIST_READER.read(reader);
+		Assert.assertTrue(result instanceof LongList);
+		Assert.assertEquals(Arrays.asList(6L, 7L), result);
+	}
+
+	@Test
+	public void primitiveListBehavesAsList() {
+		IntList list = new IntList(new int[]{1, 2, 3});
+		list.add(0, 0);
+		list.remove(3);
+		list.set(1, 5);
+		Assert.assertEquals(Arrays.asList(0, 5, 2), list);
+		Assert.assertEquals(Arrays.asList(0, 5, 2).hashCode(), list.hashCode());
+		Assert.assertTrue(list.contains(2));
+		try {
+			list.getInt(3);
+			Assert.fail("Expecting index check");
+		} catch (IndexOutOfBoundsException ignore) {
+		}
+		list.clear();
+		Assert.assertTrue(list.isEmpty());
+	}
 }
@@ -413,4 +413,64 @@ public class ReaderTest {
 			Assert.assertEquals("Unexpected end of JSON input", ex.getMessage());
 		}
 	}
+
+	@Test
+	public void readRawValues() throws IOException {
+		final String json = "[ {\"a\" : [1, \"x\\\"]\"]} ,-12.5e3,\"a,}\",null,true, false,[ ],{},[[{}]]]";
+		final String[] expected = {"{\"a\" : [1, \"x\\\"]\"]}", "-12.5e3", "\"a,}\"", "null", "true", "false", "[ ]", "{}", "[[{}]]"};
+		final byte[] buf = json.getBytes("UTF-8");
+		testReadRaw(dslJson.newReader(buf), expected);
+		testReadRaw(dslJson.newReader(new ByteArrayInputStream(buf), new byte[64]), expected);
+	}
+
+	private void testReadRaw(JsonReader<Object> jr, String[] expected) throws IOException {
+		jr.getNextToken();
+		for (int i = 0; i < expected.length; i++) {
+			jr.getNextToken();
+			Assert.assertEquals(expected[i], new String(jr.readRaw(), "UTF-8"));
+			jr.getNextToken();
+		}
+		Assert.assertEquals(']', jr.last());
+	}
+
+	@Test
+	public void rawJsonConverter() throws IOException {
+		final byte[] buf = "{\"a\":{\"b\": [1,2]},\"c\":null,\"d\":42}".getBytes("UTF-8");
+		Map<String, RawJson> map = dslJson.deserialize(Map.class, buf, buf.length);
+		Assert.assertNotNull(map);
+		JsonReader<Object> jr = dslJson.newReader(buf);
+		jr.getNextToken();
+		RawJson raw = RawJsonConverter.deserialize(jr);
+		Assert.assertEquals("{\"a\":{\"b\": [1,2]},\"c\":null,\"d\":42}", raw.toString());
+		JsonWriter writer = dslJson.newWriter();
+		dslJson.serialize(writer, new RawJson[]{raw, null, RawJson.of("[1, 2]")});
+		Assert.assertEquals("[{\"a\":{\"b\": [1,2]},\"c\":null,\"d\":42},null,[1, 2]]", writer.toString());
+		RawJson top = dslJson.deserialize(RawJson.class, "  \"abc\" ".getBytes("UTF-8"), 7);
+		Assert.assertEquals(RawJson.of("\"abc\""), top);
+	}
+
+	@Test
+	public void rawJsonLargerThanStreamBuffer() throws IOException {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			sb.append(i).append(',');
+		}
+		sb.append("0]");
+		final String array = sb.toString();
+		final byte[] buf = ("[1," + array + ",\"" + array + "\",2]").getBytes("UTF-8");
+		JsonReader<Object> jr = dslJson.newReader(new ByteArrayInputStream(buf), new byte[64]);
+		testReadRaw(jr, new String[]{"1", array, "\"" + array + "\"", "2"});
+	}
+
+	@Test
+	public void rawJsonLargerThanBufferFromStream() throws IOException {
+		final StringBuilder sb = new StringBuilder("{\"values\":[");
+		for (int i = 0; i < 100000; i++) {
+			sb.append(i).append(',');
+		}
+		sb.append("0],\"next\":1}");
+		final byte[] buf = sb.toString().getBytes("UTF-8");
+		RawJson raw = dslJson.deserialize(RawJson.class, new ByteArrayInputStream(buf));
+		Assert.assertEquals(RawJson.of(sb.toString()), raw);
+	}
 }
@@ -4,6 +4,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 public class StringConverterTest {
@@ -127,4 +128,63 @@ public class StringConverterTest {
 			Assert.assertEquals(expected, read);
 		}
 	}
+
+	@Test
+	public void longStringsWithSpecialCharsOnEveryPosition() throws IOException {
+		final JsonWriter jw = dslJson.newWriter();
+		final String[] specials = {"\"", "\\", "\n", "\u0001", "~", "\u007F", "é", "Ł", "\u0122", "\u015C", "💗"};
+		final String[] escaped = {"\\\"", "\\\\", "\\n", "\\u0001", "~", "\u007F", "é", "Ł", "\u0122", "\u015C", "💗"};
+		for (int len = 0; len < 40; len++) {
+			final StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < len; i++) {
+				sb.append((char) ('a' + i % 26));
+			}
+			final String plain = sb.toString();
+			jw.reset();
+			jw.writeString(plain);
+			Assert.assertEquals("\"" + plain + "\"", jw.toString());
+			for (int pos = 0; pos <= len; pos++) {
+				for (int s = 0; s < specials.length; s++) {
+					final String input = plain.substring(0, pos) + specials[s] + plain.substring(pos);
+					jw.reset();
+					jw.writeString(input);
+					Assert.assertEquals("\"" + plain.substring(0, pos) + escaped[s] + plain.substring(pos) + "\"", jw.toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void htmlSafeEscaping() throws IOException {
+		final DslJson<Object> json = new DslJson<Object>(new DslJson.Settings<Object>().escapePolicy(JsonWriter.EscapePolicy.HTML_SAFE));
+		final JsonWriter jw = json.newWriter();
+		jw.writeString("<script>alert('x' && \"y\")</script>");
+		Assert.assertEquals("\"\\u003Cscript\\u003Ealert(\\u0027x\\u0027 \\u0026\\u0026 \\\"y\\\")\\u003C/script\\u003E\"", jw.toString());
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		json.serialize("a<b>ž", os);
+		Assert.assertEquals("\"a\\u003Cb\\u003Ež\"", os.toString("UTF-8"));
+	}
+
+	@Test
+	public void asciiOnlyEscaping() throws IOException {
+		final DslJson<Object> json = new DslJson<Object>(new DslJson.Settings<Object>().escapePolicy(JsonWriter.EscapePolicy.ASCII_ONLY));
+		final JsonWriter jw = json.newWriter();
+		jw.writeString("some longer text with é, Ł, € and 💗\n");
+		Assert.assertEquals("\"some longer text with \\u00E9, \\u0141, \\u20AC and \\uD83D\\uDC97\\n\"", jw.toString());
+		final byte[] bytes = jw.toByteArray();
+		final JsonReader<Object> reader = json.newReader(bytes);
+		reader.read();
+		Assert.assertEquals("some longer text with é, Ł, € and 💗\n", reader.readString());
+		jw.reset();
+		jw.writeString(new StringBuilder("<€>"));
+		Assert.assertEquals("\"<\\u20AC>\"", jw.toString());
+	}
+
+	@Test
+	public void minimalEscapingIsDefault() throws IOException {
+		final JsonWriter jw = dslJson.newWriter();
+		Assert.assertEquals(JsonWriter.EscapePolicy.MINIMAL, jw.escapePolicy());
+		jw.writeString("<'&'>");
+		Assert.assertEquals("\"<'&'>\"", jw.toString());
+	}
 }
@@ -6,6 +6,7 @@ import org.junit.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 public class StringTest {
 
@@ -69,4 +70,86 @@ public class StringTest {
 			Assert.assertEquals("Expecting ']' as array end. Found l at position: 72, following: `��� something\",nulll`, before: `,x]`", ex.getMessage());
 		}
 	}
+
+	@Test
+	public void concurrentCacheReusesInstances() throws IOException {
+		ConcurrentStringCache cache = new ConcurrentStringCache(16, 8);
+		DslJson<Object> json = new DslJson<Object>(new DslJson.Settings<Object>().useStringValuesCache(cache));
+		byte[] bytes = "[\"ACTIVE\",\"ACTIVE\",\"a\\\"b\",\"žuto\",\"žuto\",\"very long value\"]".getBytes("UTF-8");
+		List<String> values = json.deserializeList(String.class, bytes, bytes.length);
+		Assert.assertEquals("ACTIVE", values.get(0));
+		Assert.assertSame(values.get(0), values.get(1));
+		Assert.assertEquals("a\"b", values.get(2));
+		Assert.assertEquals("žuto", values.get(3));
+		Assert.assertSame(values.get(3), values.get(4));
+		Assert.assertEquals("very long value", values.get(5));
+		Assert.assertEquals(2, cache.hits());
+		Assert.assertEquals(3, cache.misses());
+		List<String> fromStream = json.deserializeList(String.class, new ByteArrayInputStream(bytes));
+		Assert.assertSame(values.get(0), fromStream.get(0));
+		Assert.assertSame(values.get(3), fromStream.get(3));
+	}
+
+	@Test
+	public void concurrentCacheKeepsFrequentValues() {
+		ConcurrentStringCache cache = new ConcurrentStringCache(4, 16);
+		char[] frequent = "frequent".toCharArray();
+		String first = cache.get(frequent, frequent.length);
+		for (int i = 0; i < 3; i++) {
+			Assert.assertSame(first, cache.get(frequent, frequent.length));
+		}
+		for (int i = 0; i < 20; i++) {
+			char[] unique = ("unique" + i).toCharArray();
+			cache.get(unique, unique.length);
+			Assert.assertSame(first, cache.get(frequent, frequent.length));
+		}
+	}
+
+	@Test
+	public void concurrentCacheFromMultipleThreads() throws InterruptedException {
+		final ConcurrentStringCache cache = new ConcurrentStringCache();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 10000; i++) {
+						char[] value = ("value" + (i % 100)).toCharArray();
+						Assert.assertEquals(new String(value), cache.get(value, value.length));
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(40000, cache.hits() + cache.misses());
+		Assert.assertTrue(cache.hits() > 30000);
+	}
+
+	@Test
+	public void concurrentCacheDoesNotBypassValidation() throws IOException {
+		ConcurrentStringCache cache = new ConcurrentStringCache(16, 1024);
+		DslJson<Object> cached = new DslJson<Object>(new DslJson.Settings<Object>().useStringValuesCache(cache).limitStringBuffer(128));
+		DslJson<Object> plain = new DslJson<Object>(new DslJson.Settings<Object>().limitStringBuffer(128));
+		byte[] malformed = new byte[]{'[', '"', 'a', (byte) 0xC3, '"', ']'};
+		byte[] large = ("[\"" + new String(new char[500]).replace('\0', 'x') + "\"]").getBytes("UTF-8");
+		for (byte[] input : new byte[][]{malformed, large}) {
+			String expected;
+			try {
+				expected = plain.deserializeList(String.class, input, input.length).toString();
+			} catch (IOException ex) {
+				expected = ex.getMessage();
+			}
+			String actual;
+			try {
+				actual = cached.deserializeList(String.class, input, input.length).toString();
+			} catch (IOException ex) {
+				actual = ex.getMessage();
+			}
+			Assert.assertEquals(expected, actual);
+		}
+		Assert.assertEquals(0, cache.misses());
+	}
 }
@@ -9,6 +9,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -85,4 +87,538 @@ public class VariousTest {
 
 		Assert.assertEquals("{\"n\":[null,null]}", new String(outputStream.toByteArray()));
 	}
+
+	static class Point {
+		final int x;
+		final int y;
+
+		Point(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Point && ((Point) o).x == x && ((Point) o).y == y;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * x + y;
+		}
+	}
+
+	static class PointWriter implements JsonWriter.WriteObject<Point> {
+		int calls;
+
+		@Override
+		public void write(JsonWriter writer, @Nullable Point value) {
+			calls++;
+			writer.writeAscii("{\"x\":" + value.x + ",\"y\":" + value.y + "}");
+		}
+	}
+
+	@Test
+	public void serializationCacheReusesBytes() throws IOException {
+		PointWriter encoder = new PointWriter();
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().cacheSerialized(Point.class, SerializationCache.Keys.IDENTITY, 16));
+		dsl.registerWriter(Point.class, encoder);
+		Point p = new Point(1, 2);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dsl.serialize(p, os);
+		dsl.serialize(p, os);
+		dsl.serialize(new Point(1, 2), os);
+		Assert.assertEquals("{\"x\":1,\"y\":2}{\"x\":1,\"y\":2}{\"x\":1,\"y\":2}", os.toString());
+		Assert.assertEquals(2, encoder.calls);
+		SerializationCache<?> cache = dsl.getSerializationCache(Point.class);
+		Assert.assertEquals(1, cache.hits());
+		Assert.assertEquals(2, cache.misses());
+	}
+
+	@Test
+	public void serializationCacheByEquality() throws IOException {
+		PointWriter encoder = new PointWriter();
+		DslJson<Object> dsl = new DslJson<Object>();
+		dsl.registerWriter(Point.class, encoder);
+		SerializationCache<?> cache = dsl.cacheSerialized(Point.class, SerializationCache.Keys.EQUALITY, 1);
+		Assert.assertSame(cache, dsl.tryFindWriter(Point.class));
+		JsonWriter writer = dsl.newWriter();
+		Point first = new Point(1, 2);
+		dsl.serialize(writer, first);
+		dsl.serialize(writer, new Point(1, 2));
+		Point other = new Point(3, 4);
+		dsl.serialize(writer, other);
+		Assert.assertEquals("{\"x\":1,\"y\":2}{\"x\":1,\"y\":2}{\"x\":3,\"y\":4}", writer.toString());
+		Assert.assertEquals(2, encoder.calls);
+		Assert.assertEquals(1, cache.hits());
+		writer.setIndentation("  ");
+		dsl.serialize(writer, other);
+		Assert.assertEquals(3, encoder.calls);
+	}
+
+	@Test
+	public void writerIsPresizedFromPreviousSerializations() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>();
+		List<String> list = new ArrayList<String>();
+		for (int i = 0; i < 1000; i++) {
+			list.add("value " + i);
+		}
+		Assert.assertEquals(512, dsl.newWriter(ArrayList.class).getByteBuffer().length);
+		JsonWriter writer = dsl.newWriter();
+		dsl.serialize(writer, list);
+		JsonWriter presized = dsl.newWriter(ArrayList.class);
+		Assert.assertTrue(presized.getByteBuffer().length >= writer.size());
+		dsl.serialize(presized, list);
+		Assert.assertEquals(writer.toString(), presized.toString());
+		Map<String, String> map = new HashMap<String, String>();
+		for (int i = 0; i < 1000; i++) {
+			map.put("key " + i, "value " + i);
+		}
+		dsl.serialize(dsl.newWriter(), map);
+		Assert.assertEquals(512, dsl.newWriter(HashMap.class).getByteBuffer().length);
+	}
+
+	@Test
+	public void threadLocalBuffersAreShrunkAfterLargeMessages() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().retainedBufferSize(8192));
+		char[] chars = new char[20000];
+		java.util.Arrays.fill(chars, 'x');
+		String large = new String(chars);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dsl.serialize(Collections.singletonList(large), os);
+		Assert.assertEquals(4096, dsl.localWriter.get().getByteBuffer().length);
+		byte[] input = os.toByteArray();
+		List<String> result = dsl.deserializeList(String.class, input, input.length);
+		Assert.assertEquals(large, result.get(0));
+		Assert.assertTrue(dsl.localReader.get().chars.length <= 8192);
+		result = dsl.deserializeList(String.class, new java.io.ByteArrayInputStream(input));
+		Assert.assertEquals(large, result.get(0));
+		Assert.assertTrue(dsl.localReader.get().chars.length <= 8192);
+	}
+
+	@Test
+	public void stripedPoolReusesInstances() {
+		final int[] created = new int[1];
+		InstancePool<StringBuilder> pool = InstancePools.striped(2).create(new InstancePool.Factory<StringBuilder>() {
+			@Override
+			public StringBuilder create() {
+				created[0]++;
+				return new StringBuilder();
+			}
+		});
+		StringBuilder first = pool.acquire();
+		StringBuilder second = pool.acquire();
+		StringBuilder third = pool.acquire();
+		Assert.assertEquals(3, created[0]);
+		pool.release(first);
+		pool.release(second);
+		pool.release(third);
+		StringBuilder reused = pool.acquire();
+		Assert.assertTrue(reused == first || reused == second);
+		Assert.assertNotSame(reused, pool.acquire());
+		pool.acquire();
+		Assert.assertEquals(4, created[0]);
+	}
+
+	@Test
+	public void convenienceMethodsWithStripedPool() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().instancePool(InstancePools.striped(4)));
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("a", "b");
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dsl.serialize(map, os);
+		dsl.serialize(Collections.singletonList(1), os);
+		Assert.assertEquals("{\"a\":\"b\"}[1]", os.toString());
+		JsonWriter writer = dsl.acquireWriter();
+		dsl.releaseWriter(writer);
+		Assert.assertSame(writer, dsl.acquireWriter());
+		byte[] input = "{\"a\":\"b\"}".getBytes("UTF-8");
+		Assert.assertEquals(map, dsl.deserialize(Map.class, input, input.length));
+		Assert.assertEquals(map, dsl.deserialize(Map.class, new java.io.ByteArrayInputStream(input)));
+		JsonReader<Object> reader = dsl.acquireReader();
+		dsl.releaseReader(reader);
+		Assert.assertSame(reader, dsl.acquireReader());
+	}
+
+	@Test
+	public void iteratorReturnsPooledReader() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().instancePool(InstancePools.striped(1)));
+		JsonReader<Object> reader = dsl.acquireReader();
+		dsl.releaseReader(reader);
+		byte[] input = "[1,2,3]".getBytes("UTF-8");
+		Iterator<Integer> iterator = dsl.iterateOver(Integer.class, new java.io.ByteArrayInputStream(input));
+		int sum = 0;
+		while (iterator.hasNext()) {
+			sum += iterator.next();
+		}
+		Assert.assertEquals(6, sum);
+		Assert.assertSame(reader, dsl.acquireReader());
+		dsl.releaseReader(reader);
+		input = "[1,x]".getBytes("UTF-8");
+		iterator = dsl.iterateOver(Integer.class, new java.io.ByteArrayInputStream(input));
+		Assert.assertEquals(1, iterator.next().intValue());
+		try {
+			iterator.next();
+			Assert.fail("Expecting parse error");
+		} catch (SerializationException ignore) {
+		}
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertSame(reader, dsl.acquireReader());
+	}
+
+	static class External {
+		String name;
+	}
+
+	@Test
+	public void externalConverterIsConfiguredOnceFromMultipleThreads() throws Exception {
+		final DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().includeServiceLoader());
+		final Object[] found = new Object[8];
+		Thread[] threads = new Thread[found.length];
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					found[index] = dsl.tryFindWriter(External.class);
+				}
+			});
+		}
+		for (Thread t : threads) t.start();
+		for (Thread t : threads) t.join();
+		for (Object writer : found) {
+			Assert.assertSame(found[0], writer);
+		}
+		Assert.assertNotNull(found[0]);
+		Assert.assertEquals(1, _VariousTest$External_DslJsonConverter.configured.get());
+		External ext = new External();
+		ext.name = "abc";
+		JsonWriter writer = dsl.newWriter();
+		dsl.serialize(writer, ext);
+		Assert.assertEquals("\"abc\"", writer.toString());
+		Assert.assertNull(dsl.tryFindWriter(VariousTest.class));
+		Assert.assertNull(dsl.tryFindWriter(VariousTest.class));
+	}
+
+	static class Slow {
+	}
+
+	static class DependsOnSlow {
+	}
+
+	@Test
+	public void lookupWaitsForConverterBeingConfigured() throws Exception {
+		final DslJson<Object> dsl = new DslJson<Object>();
+		final Object[] found = new Object[2];
+		Thread first = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				found[0] = dsl.tryFindWriter(Slow.class);
+			}
+		});
+		Thread second = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				found[1] = dsl.tryFindWriter(DependsOnSlow.class);
+			}
+		});
+		first.start();
+		_VariousTest$Slow_DslJsonConverter.entered.await();
+		second.start();
+		second.join(200);
+		Assert.assertTrue(second.isAlive());
+		_VariousTest$Slow_DslJsonConverter.proceed.countDown();
+		first.join();
+		second.join();
+		Assert.assertNotNull(found[0]);
+		Assert.assertNotNull(found[1]);
+	}
+
+	static class Left {
+	}
+
+	static class Right {
+	}
+
+	@Test(timeout = 10000)
+	public void mutuallyDependentConvertersDontDeadlock() throws Exception {
+		final DslJson<Object> dsl = new DslJson<Object>();
+		final Object[] found = new Object[2];
+		Thread left = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				found[0] = dsl.tryFindWriter(Left.class);
+			}
+		});
+		Thread right = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				found[1] = dsl.tryFindWriter(Right.class);
+			}
+		});
+		left.start();
+		right.start();
+		left.join();
+		right.join();
+		Assert.assertNotNull(found[0]);
+		Assert.assertNotNull(found[1]);
+	}
+
+	static class Unsupported {
+	}
+
+	@Test
+	public void dispatchRemembersMissingWritersUntilRegistration() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>();
+		JsonWriter writer = dsl.newWriter();
+		for (int i = 0; i < 2; i++) {
+			try {
+				dsl.serialize(writer, new Unsupported());
+				Assert.fail("Expecting configuration exception");
+			} catch (ConfigurationException ex) {
+				Assert.assertTrue(ex.getMessage().contains("Unsupported"));
+			}
+		}
+		dsl.registerWriter(Unsupported.class, new JsonWriter.WriteObject<Unsupported>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable Unsupported value) {
+				writer.writeAscii("{}");
+			}
+		});
+		writer.reset();
+		dsl.serialize(writer, new Unsupported());
+		dsl.serialize(writer, 1);
+		dsl.serialize(writer, new Unsupported());
+		Assert.assertEquals("{}1{}", writer.toString());
+		byte[] input = "{}".getBytes("UTF-8");
+		Assert.assertNull(dsl.tryFindReader(Unsupported.class));
+		dsl.registerReader(Unsupported.class, new JsonReader.ReadObject<Unsupported>() {
+			@Override
+			public Unsupported read(JsonReader reader) throws IOException {
+				reader.getNextToken();
+				return new Unsupported();
+			}
+		});
+		Assert.assertNotNull(dsl.deserialize(Unsupported.class, input, input.length));
+	}
+
+	static class UnsupportedChild extends Unsupported {
+	}
+
+	private static JsonWriter.WriteObject<Unsupported> constantWriter(final String value) {
+		return new JsonWriter.WriteObject<Unsupported>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable Unsupported unused) {
+				writer.writeAscii(value);
+			}
+		};
+	}
+
+	@Test
+	public void dispatchKeepsUnrelatedEntriesAndRefreshesSubtypes() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>();
+		dsl.registerWriter(Unsupported.class, constantWriter("1"));
+		JsonWriter writer = dsl.newWriter();
+		dsl.serialize(writer, new UnsupportedChild());
+		dsl.serialize(writer, new Unsupported());
+		dsl.registerWriter(String.class, StringConverter.WRITER);
+		dsl.serialize(writer, new UnsupportedChild());
+		dsl.registerWriter(Unsupported.class, constantWriter("2"));
+		dsl.serialize(writer, new UnsupportedChild());
+		dsl.serialize(writer, new Unsupported());
+		dsl.registerWriter(UnsupportedChild.class, constantWriter("3"));
+		dsl.serialize(writer, new UnsupportedChild());
+		dsl.serialize(writer, new Unsupported());
+		Assert.assertEquals("1112232", writer.toString());
+	}
+
+	@Test
+	public void frozenConvertersCantBeReplaced() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>();
+		dsl.freeze(String.class, int[].class);
+		Assert.assertFalse(dsl.isSealed());
+		try {
+			dsl.registerWriter(String.class, StringConverter.WRITER);
+			Assert.fail("Expecting configuration exception");
+		} catch (ConfigurationException ex) {
+			Assert.assertTrue(ex.getMessage().contains("frozen"));
+		}
+		dsl.registerWriter(Unsupported.class, new JsonWriter.WriteObject<Unsupported>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable Unsupported value) {
+				writer.writeAscii("{}");
+			}
+		});
+		JsonWriter writer = dsl.newWriter();
+		dsl.serialize(writer, new Unsupported());
+		dsl.serialize(writer, new int[]{1, 2});
+		Assert.assertEquals("{}[1,2]", writer.toString());
+	}
+
+	@Test
+	public void sealedRegistryDoesNotLookupUnknownTypes() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().sealed(int[].class, Map.class));
+		Assert.assertTrue(dsl.isSealed());
+		Assert.assertNotNull(dsl.tryFindWriter(int[].class));
+		Assert.assertNotNull(dsl.tryFindReader(Map.class));
+		Assert.assertNull(dsl.tryFindWriter(Unsupported.class));
+		Assert.assertNull(dsl.tryFindReader(Unsupported.class));
+		try {
+			dsl.registerWriter(Unsupported.class, null);
+			Assert.fail("Expecting configuration exception");
+		} catch (ConfigurationException ex) {
+			Assert.assertTrue(ex.getMessage().contains("sealed"));
+		}
+		byte[] input = "[1,2,3]".getBytes("UTF-8");
+		int[] result = dsl.deserialize(int[].class, input, input.length);
+		Assert.assertArrayEquals(new int[]{1, 2, 3}, result);
+	}
+
+	@Test
+	public void sealedRegistryFindsWritersForSubtypes() throws IOException {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().sealed(Map.class));
+		Map<String, Integer> map = new LinkedHashMap<String, Integer>();
+		map.put("a", 1);
+		Assert.assertNotNull(dsl.tryFindWriter(LinkedHashMap.class));
+		JsonWriter writer = dsl.newWriter();
+		dsl.serialize(writer, map);
+		dsl.serialize(writer, map);
+		Assert.assertEquals("{\"a\":1}{\"a\":1}", writer.toString());
+	}
+
+	@Test
+	public void sealingRequiresConvertersForDeclaredTypes() {
+		try {
+			new DslJson<Object>(new DslJson.Settings<Object>().sealed(Unsupported.class));
+			Assert.fail("Expecting configuration exception");
+		} catch (ConfigurationException ex) {
+			Assert.assertTrue(ex.getMessage().contains("Unsupported"));
+		}
+	}
+
+	@Test
+	public void recyclingPoolIsSharedPerType() {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>().recycleInstances(InstancePools.striped(4), StringBuilder.class));
+		InstancePool.Factory<StringBuilder> factory = new InstancePool.Factory<StringBuilder>() {
+			@Override
+			public StringBuilder create() {
+				return new StringBuilder();
+			}
+		};
+		InstancePool<StringBuilder> pool = dsl.recyclingPool(StringBuilder.class, factory);
+		Assert.assertNotNull(pool);
+		Assert.assertSame(pool, dsl.recyclingPool(StringBuilder.class, factory));
+		Assert.assertNull(dsl.recyclingPool(String.class, new InstancePool.Factory<String>() {
+			@Override
+			public String create() {
+				return "";
+			}
+		}));
+		StringBuilder sb = pool.acquire();
+		dsl.recycle(StringBuilder.class, sb);
+		Assert.assertSame(sb, pool.acquire());
+	}
+
+	@Test
+	public void recycledInstancesAreReset() {
+		DslJson<Object> dsl = new DslJson<Object>(new DslJson.Settings<Object>()
+				.recycleInstances(InstancePools.striped(4), StringBuilder.class, new InstancePool.Reset<CharSequence>() {
+					@Override
+					public void reset(CharSequence instance) {
+						((StringBuilder) instance).setLength(0);
+					}
+				}));
+		Assert.assertNull(dsl.acquireRecycled(StringBuilder.class));
+		Assert.assertNull(dsl.acquireRecycled(String.class));
+		StringBuilder sb = new StringBuilder("abc");
+		dsl.recycle(StringBuilder.class, sb);
+		Assert.assertEquals(0, sb.length());
+		Assert.assertSame(sb, dsl.acquireRecycled(StringBuilder.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void threadLocalStrategyCantRecycle() {
+		new DslJson.Settings<Object>().recycleInstances(InstancePools.THREAD_LOCAL, StringBuilder.class);
+	}
+}
+
+class _VariousTest$External_DslJsonConverter implements Configuration {
+	static final java.util.concurrent.atomic.AtomicInteger configured = new java.util.concurrent.atomic.AtomicInteger();
+
+	@Override
+	public void configure(DslJson json) {
+		configured.incrementAndGet();
+		json.registerWriter(VariousTest.External.class, new JsonWriter.WriteObject<VariousTest.External>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable VariousTest.External value) {
+				writer.writeString(value.name);
+			}
+		});
+	}
+}
+
+class _VariousTest$Slow_DslJsonConverter implements Configuration {
+	static final java.util.concurrent.CountDownLatch entered = new java.util.concurrent.CountDownLatch(1);
+	static final java.util.concurrent.CountDownLatch proceed = new java.util.concurrent.CountDownLatch(1);
+
+	@Override
+	public void configure(DslJson json) {
+		entered.countDown();
+		try {
+			proceed.await();
+		} catch (InterruptedException ignore) {
+		}
+		json.registerWriter(VariousTest.Slow.class, new JsonWriter.WriteObject<VariousTest.Slow>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable VariousTest.Slow value) {
+				writer.writeNull();
+			}
+		});
+	}
+}
+
+class Mutual {
+	static final java.util.concurrent.CountDownLatch entered = new java.util.concurrent.CountDownLatch(2);
+
+	static <T> void configure(DslJson json, Class<T> manifest, Class<?> dependency) {
+		entered.countDown();
+		try {
+			entered.await();
+		} catch (InterruptedException ignore) {
+		}
+		json.tryFindWriter(dependency);
+		json.registerWriter(manifest, new JsonWriter.WriteObject<T>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable T value) {
+				writer.writeNull();
+			}
+		});
+	}
+}
+
+class _VariousTest$Left_DslJsonConverter implements Configuration {
+	@Override
+	public void configure(DslJson json) {
+		Mutual.configure(json, VariousTest.Left.class, VariousTest.Right.class);
+	}
+}
+
+class _VariousTest$Right_DslJsonConverter implements Configuration {
+	@Override
+	public void configure(DslJson json) {
+		Mutual.configure(json, VariousTest.Right.class, VariousTest.Left.class);
+	}
+}
+
+class _VariousTest$DependsOnSlow_DslJsonConverter implements Configuration {
+	@Override
+	public void configure(DslJson json) {
+		if (json.tryFindWriter(VariousTest.Slow.class) == null) return;
+		json.registerWriter(VariousTest.DependsOnSlow.class, new JsonWriter.WriteObject<VariousTest.DependsOnSlow>() {
+			@Override
+			public void write(JsonWriter writer, @Nullable VariousTest.DependsOnSlow value) {
+				writer.writeNull();
+			}
+		});
+	}
 }
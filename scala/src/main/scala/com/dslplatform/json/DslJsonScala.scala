@@ -44,13 +44,13 @@ class DslJsonScala(val json: DslJson[_]) extends AnyVal {
   def encode[T](value: T, os: OutputStream)(implicit encoder: JsonWriter.WriteObject[T]): Unit = {
     require(os ne null, "os can't be null")
     require(encoder ne null, "encoder can't be null")
-    val writer = json.localWriter.get()
+    val writer = json.acquireWriter()
     writer.reset(os)
     try {
       encoder.write(writer, value)
       writer.flush()
     } finally {
-      writer.reset(null)
+      json.releaseWriter(writer)
     }
   }
 
@@ -63,14 +63,22 @@ class DslJsonScala(val json: DslJson[_]) extends AnyVal {
     require(bytes ne null, "bytes can't be null")
     require(length <= bytes.length, "length must be less or equal to bytes length")
     require(decoder ne null, "decoder can't be null")
-    val reader = json.localReader.get()
-    reader.process(bytes, length).getNextToken()
-    decoder.read(reader)
+    val reader = json.acquireReader()
+    try {
+      reader.process(bytes, length).getNextToken()
+      decoder.read(reader)
+    } finally {
+      json.releaseReader(reader)
+    }
   }
 
   def decode[T](is: InputStream)(implicit decoder: JsonReader.ReadObject[T]): T = {
-    val reader = json.localReader.get()
-    reader.process(is).getNextToken()
-    decoder.read(reader)
+    val reader = json.acquireReader()
+    try {
+      reader.process(is).getNextToken()
+      decoder.read(reader)
+    } finally {
+      json.releaseReader(reader)
+    }
   }
 }
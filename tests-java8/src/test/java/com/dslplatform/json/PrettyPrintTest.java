@@ -0,0 +1,152 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class PrettyPrintTest {
+
+	private final DslJson<Object> compactFull = new DslJson<>(Settings.withRuntime().includeServiceLoader().skipDefaultValues(false));
+	private final DslJson<Object> prettyFull = new DslJson<>(Settings.withRuntime().includeServiceLoader().skipDefaultValues(false).indentation("  "));
+	private final DslJson<Object> compactMinimal = new DslJson<>(Settings.withRuntime().includeServiceLoader().skipDefaultValues(true));
+	private final DslJson<Object> prettyMinimal = new DslJson<>(Settings.withRuntime().includeServiceLoader().skipDefaultValues(true).indentation("  "));
+
+	@CompiledJson
+	public static class Compiled {
+		public int id;
+		public String name;
+		public List<Integer> numbers;
+		public Map<String, Compiled> children;
+		public int[] values;
+	}
+
+	@CompiledJson(discriminator = "$type", name = "item")
+	public static class WithDiscriminator {
+		public String name;
+	}
+
+	public static class Runtime {
+		public long id;
+		public String text;
+		public List<Runtime> nested = new ArrayList<>();
+		public Optional<Double> amount = Optional.empty();
+	}
+
+	private static Compiled compiled() {
+		Compiled c = new Compiled();
+		c.id = 5;
+		c.name = "a,\"b\":[{c}]";
+		c.numbers = Arrays.asList(1, null, 3);
+		c.children = new LinkedHashMap<>();
+		c.children.put("empty", new Compiled());
+		c.children.put("null", null);
+		c.values = new int[]{1, 2};
+		return c;
+	}
+
+	private static Runtime runtime() {
+		Runtime r = new Runtime();
+		r.id = 1;
+		r.text = "{}";
+		Runtime n = new Runtime();
+		n.amount = Optional.of(2.5);
+		r.nested.add(n);
+		r.nested.add(new Runtime());
+		return r;
+	}
+
+	private static String prettify(DslJson<Object> json, Object value) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		PrettifyOutputStream pretty = new PrettifyOutputStream(os);
+		json.serialize(value, pretty);
+		pretty.flush();
+		return new String(os.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static String serialize(DslJson<Object> json, Object value) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		json.serialize(value, os);
+		return new String(os.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private void assertSame(Object value) throws IOException {
+		Assert.assertEquals(prettify(compactFull, value), serialize(prettyFull, value));
+		Assert.assertEquals(prettify(compactMinimal, value), serialize(prettyMinimal, value));
+	}
+
+	@Test
+	public void compiledObject() throws IOException {
+		assertSame(compiled());
+		Assert.assertEquals("{}", serialize(prettyMinimal, new Compiled()));
+	}
+
+	@Test
+	public void compiledDiscriminator() throws IOException {
+		WithDiscriminator wd = new WithDiscriminator();
+		assertSame(wd);
+		wd.name = "abc";
+		assertSame(wd);
+		Assert.assertEquals("{\n  \"$type\": \"item\",\n  \"name\": \"abc\"\n}", serialize(prettyMinimal, wd));
+	}
+
+	@Test
+	public void runtimeObject() throws IOException {
+		assertSame(runtime());
+		assertSame(new Runtime());
+	}
+
+	@Test
+	public void collectionsAndEmpty() throws IOException {
+		assertSame(Arrays.asList(compiled(), null, runtime()));
+		assertSame(new ArrayList<>());
+		assertSame(new HashMap<>());
+		assertSame(new Object[]{Collections.singletonMap("x", new int[0]), new long[]{1, 2}});
+		Assert.assertEquals("[\n  {\n    \"a\": []\n  },\n  {}\n]", serialize(prettyFull, Arrays.asList(Collections.singletonMap("a", new ArrayList<>()), new HashMap<>())));
+	}
+
+	@Test
+	public void largeOutputToStream() throws IOException {
+		List<Compiled> list = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(compiled());
+		}
+		assertSame(list);
+	}
+
+	@Test
+	public void indentationOnWriter() throws IOException {
+		JsonWriter writer = compactFull.newWriter();
+		writer.setIndentation("\t");
+		Assert.assertTrue(writer.isPretty());
+		compactFull.serialize(writer, Collections.singletonMap("a", Arrays.asList(1, 2)));
+		Assert.assertEquals("{\n\t\"a\": [\n\t\t1,\n\t\t2\n\t]\n}", writer.toString());
+		writer.reset();
+		writer.setIndentation(null);
+		compactFull.serialize(writer, Collections.singletonMap("a", Arrays.asList(1, 2)));
+		Assert.assertEquals("{\"a\":[1,2]}", writer.toString());
+	}
+
+	@Test
+	public void roundtrip() throws IOException {
+		byte[] bytes = serialize(prettyFull, compiled()).getBytes(StandardCharsets.UTF_8);
+		Compiled c = prettyFull.deserialize(Compiled.class, bytes, bytes.length);
+		Assert.assertEquals("a,\"b\":[{c}]", c.name);
+		Assert.assertEquals(Arrays.asList(1, null, 3), c.numbers);
+		Assert.assertTrue(c.children.containsKey("null"));
+	}
+
+	@Test
+	public void invalidIndentation() {
+		try {
+			new DslJson.Settings<>().indentation(" x");
+			Assert.fail("Expecting exception");
+		} catch (IllegalArgumentException ex) {
+			Assert.assertTrue(ex.getMessage().contains("spaces and tabs"));
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class RawJsonTest {
+
+	private final DslJson<Object> dslJson = new DslJson<>(Settings.withRuntime().includeServiceLoader());
+
+	@CompiledJson
+	public static class Compiled {
+		public int id;
+		public RawJson product;
+		public List<RawJson> extras;
+	}
+
+	public static class Runtime {
+		public String name;
+		public RawJson payload;
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String serialize(Object value) throws IOException {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(value, os);
+		return os.toString("UTF-8");
+	}
+
+	@Test
+	public void compiledRoundtrip() throws IOException {
+		byte[] input = bytes("{\"id\":1,\"extras\":[true,\"a\",null,{}],\"product\":{\"name\" : \"x\", \"tags\":[1,2]}}");
+		Compiled c = dslJson.deserialize(Compiled.class, input, input.length);
+		Assert.assertEquals("{\"name\" : \"x\", \"tags\":[1,2]}", c.product.toString());
+		Assert.assertEquals(Arrays.asList(RawJson.of("true"), RawJson.of("\"a\""), null, RawJson.of("{}")), c.extras);
+		Assert.assertEquals(new String(input, StandardCharsets.UTF_8), serialize(c));
+		Compiled s = dslJson.deserialize(Compiled.class, new ByteArrayInputStream(input));
+		Assert.assertEquals(c.product, s.product);
+		Assert.assertEquals(c.extras, s.extras);
+	}
+
+	@Test
+	public void runtimeRoundtrip() throws IOException {
+		Runtime r = new Runtime();
+		r.name = "abc";
+		r.payload = RawJson.of("[1, {\"a\":-2.5}]");
+		String json = serialize(r);
+		Assert.assertTrue(json.contains("\"payload\":[1, {\"a\":-2.5}]"));
+		byte[] input = bytes(json);
+		Runtime d = dslJson.deserialize(Runtime.class, input, input.length);
+		Assert.assertEquals("abc", d.name);
+		Assert.assertEquals(r.payload, d.payload);
+	}
+
+	@Test
+	public void slicesAreWrittenWithoutCopy() throws IOException {
+		byte[] cache = bytes("xx{\"cached\":true}yy");
+		Runtime r = new Runtime();
+		r.payload = new RawJson(cache, 2, 15);
+		Assert.assertTrue(serialize(r).contains("\"payload\":{\"cached\":true}"));
+	}
+}
@@ -0,0 +1,51 @@
+package com.dslplatform.json;
+
+import com.dslplatform.json.runtime.Settings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class SerializationCacheTest {
+
+	@CompiledJson(cacheSerialized = true)
+	public static class Country {
+		public final String code;
+		public final String name;
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@CompiledJson
+	public static class Address {
+		public String street;
+		public Country country;
+	}
+
+	private final DslJson<Object> dslJson = new DslJson<>(Settings.withRuntime().includeServiceLoader());
+
+	@Test
+	public void cacheIsRegisteredFromAnnotation() throws IOException {
+		Assert.assertNotNull(dslJson.tryFindWriter(Country.class));
+		SerializationCache<?> cache = dslJson.getSerializationCache(Country.class);
+		Assert.assertSame(cache, dslJson.tryFindWriter(Country.class));
+		Assert.assertNull(dslJson.getSerializationCache(Address.class));
+		Country hr = new Country("HR", "Croatia");
+		Address a = new Address();
+		a.street = "Ilica";
+		a.country = hr;
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		dslJson.serialize(a, os);
+		String first = os.toString("UTF-8");
+		os.reset();
+		dslJson.serialize(a, os);
+		Assert.assertEquals(first, os.toString("UTF-8"));
+		Assert.assertEquals("{\"street\":\"Ilica\",\"country\":{\"code\":\"HR\",\"name\":\"Croatia\"}}", first);
+		Assert.assertEquals(1, cache.hits());
+		Assert.assertEquals(1, cache.misses());
+	}
+}